@@ -0,0 +1,195 @@
+package com.tournament_football_backend.benchmark;
+
+import com.tournament_football_backend.dto.MatchDTO;
+import com.tournament_football_backend.dto.TeamDTO;
+import com.tournament_football_backend.dto.TournamentDTO;
+import com.tournament_football_backend.dto.UserDTO;
+import com.tournament_football_backend.model.*;
+import com.tournament_football_backend.repository.TournamentRepository;
+import com.tournament_football_backend.repository.TournamentRepository.ParticipatingTeamView;
+import com.tournament_football_backend.service.MatchService;
+import com.tournament_football_backend.service.TeamService;
+import com.tournament_football_backend.service.TournamentService;
+import com.tournament_football_backend.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+ * DtoConversionBenchmark.java
+ * Cost of turning entities into DTOs in the four services, and of Match.getResult() which every
+ * MatchDTO carries. convertToDTO is private: it is called through method handles resolved once, which
+ * the JIT inlines like a direct call. The tournament conversion looks its teams up in the repository,
+ * answered here by an in-memory stub so that only the mapping is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoConversionBenchmark {
+
+    private static final MethodHandle MATCH_TO_DTO = converter(MatchService.class, MatchDTO.class, Match.class);
+    private static final MethodHandle TEAM_TO_DTO = converter(TeamService.class, TeamDTO.class, Team.class);
+    private static final MethodHandle TOURNAMENT_TO_DTO =
+            converter(TournamentService.class, TournamentDTO.class, Tournament.class);
+    private static final MethodHandle USER_TO_DTO = converter(UserService.class, UserDTO.class, User.class);
+
+    // Players in the roster of the converted team and teams registered in the converted tournament
+    @Param({"0", "25"})
+    public int rosterSize;
+
+    private MatchService matchService;
+    private TeamService teamService;
+    private TournamentService tournamentService;
+    private UserService userService;
+
+    private Match completedMatch;
+    private Match scheduledMatch;
+    private Team team;
+    private Tournament tournament;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        matchService = new MatchService();
+        teamService = new TeamService();
+        userService = new UserService();
+        tournamentService = new TournamentService();
+        ReflectionTestUtils.setField(tournamentService, "tournamentRepository", participatingTeams(rosterSize));
+
+        tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setName("Serie A");
+        tournament.setDescription("Campionato");
+        tournament.setStartDate(LocalDate.of(2025, 8, 23));
+        tournament.setEndDate(LocalDate.of(2026, 5, 24));
+
+        team = new Team();
+        team.setId(1L);
+        team.setName("Juventus");
+        IntStream.rangeClosed(1, rosterSize).forEach(i -> team.getPlayers().add(player(i)));
+
+        Team away = new Team();
+        away.setId(2L);
+        away.setName("Inter");
+
+        completedMatch = match(1L, team, away, MatchStatus.COMPLETED);
+        completedMatch.setHomeGoals(2);
+        completedMatch.setAwayGoals(1);
+        scheduledMatch = match(2L, team, away, MatchStatus.SCHEDULED);
+
+        user = player(1);
+        Profile profile = new Profile();
+        profile.setId(1L);
+        profile.setFirstName("Mario");
+        profile.setLastName("Rossi");
+        profile.setBirthDate(LocalDate.of(1990, 1, 1));
+        profile.setCity("Torino");
+        user.setProfile(profile);
+    }
+
+    @Benchmark
+    public MatchDTO matchToDto() throws Throwable {
+        return (MatchDTO) MATCH_TO_DTO.invokeExact(matchService, completedMatch);
+    }
+
+    @Benchmark
+    public TeamDTO teamToDto() throws Throwable {
+        return (TeamDTO) TEAM_TO_DTO.invokeExact(teamService, team);
+    }
+
+    @Benchmark
+    public TournamentDTO tournamentToDto() throws Throwable {
+        return (TournamentDTO) TOURNAMENT_TO_DTO.invokeExact(tournamentService, tournament);
+    }
+
+    @Benchmark
+    public UserDTO userToDto() throws Throwable {
+        return (UserDTO) USER_TO_DTO.invokeExact(userService, user);
+    }
+
+    @Benchmark
+    public String matchResultCompleted() {
+        return completedMatch.getResult();
+    }
+
+    @Benchmark
+    public String matchResultNotPlayed() {
+        return scheduledMatch.getResult();
+    }
+
+    private static MethodHandle converter(Class<?> service, Class<?> dto, Class<?> entity) {
+        try {
+            return MethodHandles.privateLookupIn(service, MethodHandles.lookup())
+                    .findVirtual(service, "convertToDTO", MethodType.methodType(dto, entity));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static TournamentRepository participatingTeams(int count) {
+        List<ParticipatingTeamView> teams = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> (ParticipatingTeamView) new RegisteredTeam((long) i, "Team " + i))
+                .toList();
+        return (TournamentRepository) Proxy.newProxyInstance(TournamentRepository.class.getClassLoader(),
+                new Class<?>[]{TournamentRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findParticipatingTeams")) {
+                        return teams;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static User player(int i) {
+        User player = new User();
+        player.setId((long) i);
+        player.setUsername("player" + i);
+        player.setEmail("player" + i + "@example.com");
+        player.setRole(Role.ROLE_USER);
+        return player;
+    }
+
+    private Match match(Long id, Team home, Team away, MatchStatus status) {
+        Match match = new Match();
+        match.setId(id);
+        match.setHomeTeam(home);
+        match.setAwayTeam(away);
+        match.setTournament(tournament);
+        match.setMatchDate(LocalDateTime.of(2025, 9, 14, 15, 0));
+        match.setStatus(status);
+        return match;
+    }
+
+    private record RegisteredTeam(Long id, String name) implements ParticipatingTeamView {
+        @Override
+        public Long getTournamentId() {
+            return 1L;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getNumberOfPlayers() {
+            return 11;
+        }
+    }
+}
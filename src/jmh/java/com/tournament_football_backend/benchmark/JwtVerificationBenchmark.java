@@ -0,0 +1,63 @@
+package com.tournament_football_backend.benchmark;
+
+import com.tournament_football_backend.config.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JwtVerificationBenchmark.java
+ * Per-request cost of verifying a token in AuthTokenFilter.
+ * "legacy" reproduces the previous filter: the secret was decoded and a parser built for each of the
+ * three parses (validate, read username, read user id). "singleParse" is the current path: one parse
+ * with the key and parser built at startup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+        token = jwtUtils.generateTokenFromUsername("benchmark", 42L, "ROLE_USER");
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        Jwts.parserBuilder().setSigningKey(legacyKey()).build().parse(token);
+        bh.consume(Jwts.parserBuilder().setSigningKey(legacyKey()).build()
+                .parseClaimsJws(token).getBody().getSubject());
+        bh.consume(Jwts.parserBuilder().setSigningKey(legacyKey()).build()
+                .parseClaimsJws(token).getBody().get(JwtUtils.CLAIM_USER_ID, Long.class));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole bh) {
+        Claims claims = jwtUtils.parseClaims(token).orElseThrow();
+        bh.consume(claims.getSubject());
+        bh.consume(JwtUtils.getUserId(claims));
+    }
+
+    private static Key legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
@@ -0,0 +1,188 @@
+package com.tournament_football_backend.benchmark;
+
+import com.tournament_football_backend.TournamentFootballBackendApplication;
+import com.tournament_football_backend.config.JwtUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * LoadTest.java
+ * Closed-loop HTTP load test: N clients (5000 by default), each on its own connection, send requests back to
+ * back for a fixed time against the application started in-process, once on the Tomcat platform-thread pool
+ * and once on virtual threads, and print throughput, latency percentiles and errors for both.
+ *
+ * Clients alternate between GET /api/teams/{id}, which holds a database connection, and GET /api/search,
+ * answered from the in-memory index. The database is H2 with every connection held for an extra
+ * simulated round trip (5 ms by default), so the pool, not the CPU, is the bottleneck of the first kind:
+ * on platform threads the 200 request threads all end up waiting for a connection and the search requests
+ * queue behind them; on virtual threads only the database requests wait.
+ *
+ * Options, as -Dname=value: load.clients, load.seconds, load.warmup-seconds, load.db-latency-ms,
+ * load.pool-size, load.modes (platform,virtual).
+ */
+public class LoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 5_000);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 10);
+    private static final int DB_LATENCY_MS = Integer.getInteger("load.db-latency-ms", 5);
+    private static final int POOL_SIZE = Integer.getInteger("load.pool-size", 20);
+    private static final List<String> MODES = List.of(System.getProperty("load.modes", "platform,virtual").split(","));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%d clients, %ds measured after %ds warmup, pool of %d, %dms per connection%n%n",
+                CLIENTS, SECONDS, WARMUP_SECONDS, POOL_SIZE, DB_LATENCY_MS);
+        List<String> report = new ArrayList<>();
+        for (String mode : MODES) {
+            report.addAll(run(mode.trim()));
+        }
+        System.out.printf("%-9s %-8s %10s %9s %9s %9s %9s%n", "threads", "endpoint", "req/s", "p50 ms", "p99 ms",
+                "max ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    private static List<String> run(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = start(mode.equals("virtual"))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            String token = context.getBean(JwtUtils.class).generateTokenFromUsername("admin", 1L, "ROLE_ADMIN");
+
+            Stats teams = new Stats();
+            Stats search = new Stats();
+            long start = System.nanoTime();
+            long measureFrom = start + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+            long end = measureFrom + Duration.ofSeconds(SECONDS).toNanos();
+
+            // HTTP/1.1 connections are not shared by concurrent requests: every client keeps one open
+            // Closed in reverse order: the clients finish before the HTTP client shuts down
+            try (HttpClient http = HttpClient.newBuilder()
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .connectTimeout(REQUEST_TIMEOUT)
+                         .build();
+                 ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                CountDownLatch ready = new CountDownLatch(CLIENTS);
+                for (int client = 0; client < CLIENTS; client++) {
+                    int id = client;
+                    clients.submit(() -> {
+                        ready.countDown();
+                        ready.await();
+                        for (long i = id; System.nanoTime() < end; i++) {
+                            boolean database = i % 2 == 0;
+                            URI uri = URI.create(database
+                                    ? baseUrl + "/teams/" + (i % 10 + 1)
+                                    : baseUrl + "/search?q=" + (i % 3 == 0 ? "juve" : "coppa"));
+                            send(http, uri, token, measureFrom, database ? teams : search);
+                        }
+                        return null;
+                    });
+                }
+            }
+            return List.of(teams.line(mode, "teams"), search.line(mode, "search"));
+        }
+    }
+
+    private static void send(HttpClient http, URI uri, String token, long measureFrom, Stats stats) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+        long sent = System.nanoTime();
+        boolean ok;
+        try {
+            ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (Exception e) {
+            ok = false;
+        }
+        if (sent >= measureFrom) {
+            stats.record(System.nanoTime() - sent, ok);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(TournamentFootballBackendApplication.class)
+                .logStartupInfo(false)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(simulatedLatency()))
+                // Command-line arguments, so that they win over application.properties
+                .run("--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads +
+                                ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--db.connection-limiter.timeout=" + REQUEST_TIMEOUT.toSeconds() + "s",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+    }
+
+    // Added before the registered post-processors, so the connection limiter wraps the slowed-down pool
+    private static BeanPostProcessor simulatedLatency() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        Connection connection = super.getConnection();
+                        try {
+                            Thread.sleep(DB_LATENCY_MS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return connection;
+                    }
+                };
+            }
+        };
+    }
+
+    private static final class Stats {
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors.increment();
+            }
+            latencies.add(nanos);
+        }
+
+        String line(String mode, String endpoint) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return String.format("%-9s %-8s %10s", mode, endpoint, "no requests");
+            }
+            return String.format("%-9s %-8s %10.0f %9.1f %9.1f %9.1f %9d", mode, endpoint,
+                    sorted.length / (double) SECONDS, millis(sorted, 0.50), millis(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6, errors.sum());
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.tournament_football_backend.benchmark;
+
+import com.tournament_football_backend.TournamentFootballBackendApplication;
+import com.tournament_football_backend.model.Match;
+import com.tournament_football_backend.model.MatchStatus;
+import com.tournament_football_backend.repository.MatchRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * RepositoryQueryBenchmark.java
+ * Latency of the repository queries behind the list, filter and export endpoints, run through the
+ * application context against an in-memory H2 database, built by the Flyway migrations and seeded with
+ * 10k, 100k or 1M matches.
+ * Every tournament is a double round-robin of 20 teams (380 matches); all but the last tenth of the
+ * tournaments are completed. Each invocation runs in its own read-only transaction, as a request would,
+ * so nothing is served from the persistence context of a previous one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+
+    private static final int TEAMS = 200;
+    private static final int TEAMS_PER_TOURNAMENT = 20;
+    private static final int MATCHES_PER_TOURNAMENT = TEAMS_PER_TOURNAMENT * (TEAMS_PER_TOURNAMENT - 1);
+    private static final int PAGE_SIZE = 50;
+    private static final int SEED_BATCH_SIZE = 5_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int matches;
+
+    private ConfigurableApplicationContext context;
+    private MatchRepository matchRepository;
+    private TournamentRepository tournamentRepository;
+    private TransactionTemplate readOnly;
+
+    private long tournamentId;
+    private long teamId;
+    private long lastPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TournamentFootballBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                // Command-line arguments, so that they win over application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark-" + matches +
+                                ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        // Schema and indexes from the migrations, without the demo data
+                        "--spring.flyway.locations=classpath:db/migration",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.sql.init.mode=never",
+                        "--logging.level.root=WARN");
+        matchRepository = context.getBean(MatchRepository.class);
+        tournamentRepository = context.getBean(TournamentRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        int tournaments = seed(context.getBean(JdbcTemplate.class));
+        tournamentId = tournaments / 2 + 1;
+        teamId = (tournamentId - 1) * TEAMS_PER_TOURNAMENT % TEAMS + 1;
+        lastPageCursor = matches - PAGE_SIZE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Match> firstPage() {
+        return readOnly.execute(status -> matchRepository.findPageAfter(0L, Limit.of(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<Match> lastPage() {
+        return readOnly.execute(status -> matchRepository.findPageAfter(lastPageCursor, Limit.of(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<Match> firstPageByStatus() {
+        return readOnly.execute(status ->
+                matchRepository.findByStatusAfter(MatchStatus.SCHEDULED, 0L, Limit.of(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<Match> byTournament() {
+        return readOnly.execute(status -> matchRepository.findByTournamentId(tournamentId));
+    }
+
+    @Benchmark
+    public List<Match> byTournamentAndStatus() {
+        return readOnly.execute(status ->
+                matchRepository.findByTournamentIdAndStatus(tournamentId, MatchStatus.COMPLETED));
+    }
+
+    @Benchmark
+    public List<Match> byTeam() {
+        return readOnly.execute(status -> matchRepository.findByTeamId(teamId));
+    }
+
+    @Benchmark
+    public int winsByTeamInTournament() {
+        return readOnly.execute(status -> matchRepository.countWinsByTeamInTournament(teamId, tournamentId));
+    }
+
+    @Benchmark
+    public void exportTournament(Blackhole bh) {
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Match> export = matchRepository.streamForExport(tournamentId, null, null, null, null)) {
+                export.forEach(bh::consume);
+            }
+        });
+    }
+
+    @Benchmark
+    public Object tournamentSummaries() {
+        return readOnly.execute(status -> tournamentRepository.findSummariesAfter(0L, Limit.of(PAGE_SIZE)));
+    }
+
+    // Loads the dataset with plain JDBC batches and returns the number of tournaments
+    private int seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int tournaments = Math.max(1, matches / MATCHES_PER_TOURNAMENT);
+        int completedTournaments = tournaments - Math.max(1, tournaments / 10);
+
+        List<Object[]> teams = new ArrayList<>(TEAMS);
+        for (int team = 1; team <= TEAMS; team++) {
+            teams.add(new Object[]{team, "Team " + team, now});
+        }
+        jdbc.batchUpdate("INSERT INTO teams (id, name, created_at) VALUES (?, ?, ?)", teams);
+
+        List<Object[]> tournamentRows = new ArrayList<>(tournaments);
+        List<Object[]> registrations = new ArrayList<>(tournaments * TEAMS_PER_TOURNAMENT);
+        for (int tournament = 0; tournament < tournaments; tournament++) {
+            LocalDate start = LocalDate.of(2000, 1, 1).plusWeeks(tournament);
+            tournamentRows.add(new Object[]{tournament + 1, "Tournament " + (tournament + 1), start,
+                    start.plusMonths(9), TEAMS_PER_TOURNAMENT,
+                    tournament < completedTournaments ? "COMPLETED" : "IN_PROGRESS", now});
+            for (int slot = 0; slot < TEAMS_PER_TOURNAMENT; slot++) {
+                registrations.add(new Object[]{tournament + 1, teamOf(tournament, slot)});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO tournaments (id, name, start_date, end_date, max_teams, status, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", tournamentRows);
+        jdbc.batchUpdate("INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?)", registrations);
+
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int match = 0; match < matches; match++) {
+            int tournament = Math.min(match / MATCHES_PER_TOURNAMENT, tournaments - 1);
+            int home = random.nextInt(TEAMS_PER_TOURNAMENT);
+            int away = (home + 1 + random.nextInt(TEAMS_PER_TOURNAMENT - 1)) % TEAMS_PER_TOURNAMENT;
+            boolean completed = tournament < completedTournaments || random.nextBoolean();
+            batch.add(new Object[]{match + 1, teamOf(tournament, home), teamOf(tournament, away), tournament + 1,
+                    Timestamp.valueOf(LocalDateTime.of(2000, 1, 1, 15, 0).plusHours(match)),
+                    completed ? random.nextInt(5) : 0, completed ? random.nextInt(5) : 0,
+                    completed ? "COMPLETED" : "SCHEDULED", now});
+            if (batch.size() == SEED_BATCH_SIZE || match == matches - 1) {
+                jdbc.batchUpdate("INSERT INTO matches (id, home_team_id, away_team_id, tournament_id, match_date, " +
+                        "home_goals, away_goals, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return tournaments;
+    }
+
+    // Tournaments draw their 20 teams from a window sliding over the 200 teams
+    private static int teamOf(int tournament, int slot) {
+        return (tournament * TEAMS_PER_TOURNAMENT + slot) % TEAMS + 1;
+    }
+}
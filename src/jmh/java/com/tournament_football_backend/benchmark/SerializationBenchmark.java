@@ -0,0 +1,181 @@
+package com.tournament_football_backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tournament_football_backend.config.JacksonConfig;
+import com.tournament_football_backend.config.SparseFieldset;
+import com.tournament_football_backend.dto.*;
+import com.tournament_football_backend.model.MatchStatus;
+import com.tournament_football_backend.model.Role;
+import com.tournament_football_backend.model.TournamentStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * SerializationBenchmark.java
+ * CPU cost of writing the largest JSON responses with the application ObjectMapper, with and without
+ * the Blackbird accessors, in full and with a ?fields= selection: a page of 50 tournaments with 16
+ * registered teams each, a page of 50 teams with 25-player rosters and the 380 matches of a tournament.
+ * The bytes on the wire of each response, raw and gzipped, are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private static final String TOURNAMENT_FIELDS = "id,name,status,participatingTeams.id,participatingTeams.name";
+    private static final String TEAM_FIELDS = "id,name,numberOfPlayers";
+    private static final String MATCH_FIELDS = "id,homeTeamName,awayTeamName,matchDate,result";
+
+    @Param({"reflection", "blackbird"})
+    public String accessors;
+
+    private PageDTO<TournamentDTO> tournaments;
+    private PageDTO<TeamDTO> teams;
+    private List<MatchDTO> matches;
+
+    private ObjectWriter writer;
+    private ObjectWriter tournamentFields;
+    private ObjectWriter teamFields;
+    private ObjectWriter matchFields;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        config.allFieldsByDefault().customize(builder);
+        Module sparseFieldset = config.sparseFieldsetModule();
+        builder.modulesToInstall(accessors.equals("blackbird")
+                ? new Module[]{config.blackbirdModule(), sparseFieldset}
+                : new Module[]{sparseFieldset});
+        ObjectMapper objectMapper = builder.build();
+
+        tournaments = new PageDTO<>(IntStream.rangeClosed(1, 50).mapToObj(this::tournament).toList(), 50L);
+        teams = new PageDTO<>(IntStream.rangeClosed(1, 50).mapToObj(i -> team(i, 25)).toList(), 50L);
+        matches = IntStream.rangeClosed(1, 380).mapToObj(this::match).toList();
+
+        writer = objectMapper.writer();
+        tournamentFields = objectMapper.writer(SparseFieldset.of(TOURNAMENT_FIELDS, tournaments));
+        teamFields = objectMapper.writer(SparseFieldset.of(TEAM_FIELDS, teams));
+        matchFields = objectMapper.writer(SparseFieldset.of(MATCH_FIELDS, matches));
+
+        printSize("tournament page", writer, tournamentFields, tournaments);
+        printSize("team page", writer, teamFields, teams);
+        printSize("tournament matches", writer, matchFields, matches);
+    }
+
+    @Benchmark
+    public byte[] tournamentPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tournaments);
+    }
+
+    @Benchmark
+    public byte[] tournamentPageFields() throws JsonProcessingException {
+        return tournamentFields.writeValueAsBytes(tournaments);
+    }
+
+    @Benchmark
+    public byte[] teamPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(teams);
+    }
+
+    @Benchmark
+    public byte[] teamPageFields() throws JsonProcessingException {
+        return teamFields.writeValueAsBytes(teams);
+    }
+
+    @Benchmark
+    public byte[] tournamentMatches() throws JsonProcessingException {
+        return writer.writeValueAsBytes(matches);
+    }
+
+    @Benchmark
+    public byte[] tournamentMatchesFields() throws JsonProcessingException {
+        return matchFields.writeValueAsBytes(matches);
+    }
+
+    private static void printSize(String name, ObjectWriter full, ObjectWriter sparse, Object body) {
+        try {
+            byte[] json = full.writeValueAsBytes(body);
+            byte[] fields = sparse.writeValueAsBytes(body);
+            System.out.printf("%n%s: %d bytes, %d gzipped; with ?fields= %d bytes, %d gzipped%n",
+                    name, json.length, gzip(json), fields.length, gzip(fields));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Default compression level, as Tomcat's
+    private static int gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+        return compressed.size();
+    }
+
+    private TournamentDTO tournament(int i) {
+        TournamentDTO tournament = new TournamentDTO((long) i, "Tournament " + i, "Description of tournament " + i,
+                LocalDate.of(2025, 1, 1).plusWeeks(i), LocalDate.of(2025, 6, 1).plusWeeks(i), 16,
+                TournamentStatus.IN_PROGRESS, LocalDateTime.of(2024, 12, 1, 10, 0), 16);
+        // Registered teams carry their size, not their roster
+        Set<TeamDTO> registered = new HashSet<>();
+        IntStream.rangeClosed(1, 16).forEach(team -> registered.add(team(i * 16 + team, 0)));
+        registered.forEach(team -> team.setNumberOfPlayers(11));
+        tournament.setParticipatingTeams(registered);
+        return tournament;
+    }
+
+    private TeamDTO team(int i, int players) {
+        TeamDTO team = new TeamDTO("Team " + i);
+        team.setId((long) i);
+        team.setCreatedAt(LocalDateTime.of(2024, 12, 1, 10, 0));
+        if (players > 0) {
+            Set<UserDTO> roster = new HashSet<>();
+            for (int player = 1; player <= players; player++) {
+                long id = (long) i * players + player;
+                UserDTO user = new UserDTO(id, "player" + id, "player" + id + "@example.com", Role.ROLE_USER,
+                        LocalDateTime.of(2024, 12, 1, 10, 0));
+                user.setProfile(new ProfileDTO());
+                roster.add(user);
+            }
+            team.setPlayers(roster);
+            team.setNumberOfPlayers(players);
+        }
+        return team;
+    }
+
+    private MatchDTO match(int i) {
+        MatchDTO match = new MatchDTO((long) (i % 20 + 1), (long) ((i + 7) % 20 + 1), 1L);
+        match.setId((long) i);
+        match.setHomeTeamName("Team " + match.getHomeTeamId());
+        match.setAwayTeamName("Team " + match.getAwayTeamId());
+        match.setTournamentName("Tournament 1");
+        match.setMatchDate(LocalDateTime.of(2025, 1, 1, 15, 0).plusDays(i));
+        match.setHomeGoals(i % 4);
+        match.setAwayGoals(i % 3);
+        match.setStatus(MatchStatus.COMPLETED);
+        match.setResult(match.getHomeGoals() + " - " + match.getAwayGoals());
+        match.setCreatedAt(LocalDateTime.of(2024, 12, 1, 10, 0));
+        return match;
+    }
+}
@@ -1,6 +1,10 @@
 package com.tournament_football_backend.config;
 
 import com.tournament_football_backend.service.UserDetailsServiceImpl;
+import com.tournament_football_backend.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,32 +35,69 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     // This method is called for every request to check if the user is authenticated
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        // Timed without the rest of the chain: outcome is authenticated, anonymous (no token),
+        // rejected (invalid token or unknown user) or error
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
         // Extract the JWT token from the request
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            Claims claims = jwt != null ? jwtUtils.parseClaims(jwt).orElse(null) : null;
+            if (jwt != null) {
+                outcome = "rejected";
+            }
+            if (claims != null) {
+                UserDetails userDetails = loadUserDetails(claims);
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    outcome = "authenticated";
+                }
             }
         } catch (Exception e) {
+            outcome = "error";
             logger.error("Cannot set user authentication: {}", e);
         }
+        sample.stop(Timer.builder("auth.token.filter")
+                .description("Time spent authenticating the JWT of a request")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
 
         filterChain.doFilter(request, response);
     }
 
+    // Resolves the principal from the cache by the user id claim, so the hot path makes no database query.
+    // Returns null when the user was deleted or renamed after the token was issued
+    private UserDetails loadUserDetails(Claims claims) {
+        String username = claims.getSubject();
+        Long userId = JwtUtils.getUserId(claims);
+        if (userId == null) {
+            // Tokens issued before the user id claim was added
+            return userDetailsService.loadUserByUsername(username);
+        }
+
+        UserDetails userDetails = userPrincipalCache.getById(userId);
+        if (userDetails == null || !userDetails.getUsername().equals(username)) {
+            return null;
+        }
+        return userDetails;
+    }
+
     // This method extracts the JWT token from the Authorization header of the request
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
@@ -0,0 +1,58 @@
+package com.tournament_football_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/*
+    * ConnectionLimiterConfig.java
+    * Puts a ConnectionLimitingDataSource in front of each Hikari pool, sized from its maximum pool size
+    * (spring.datasource.hikari.maximum-pool-size, and db.replica.hikari.maximum-pool-size with a replica).
+    * With virtual threads there is no request thread pool left to cap concurrency, so the connection pool
+    * becomes the limit: requests queue on the semaphore instead of on Hikari, whose connection-timeout
+    * then only reports a database that cannot hand out connections at all.
+ */
+@Configuration
+public class ConnectionLimiterConfig {
+
+    // Static: post-processors are created before the rest of the configuration
+    @Bean
+    static BeanPostProcessor connectionLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The read/write router (ReadReplicaConfig) unwraps to a pool too, but its pools are limited one by one
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy || !isHikari(dataSource)) {
+                    return bean;
+                }
+                Duration timeout = environment.getProperty("db.connection-limiter.timeout", Duration.class,
+                        Duration.ofSeconds(10));
+                return new ConnectionLimitingDataSource(dataSource, maximumPoolSize(dataSource), timeout);
+            }
+        };
+    }
+
+    private static boolean isHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
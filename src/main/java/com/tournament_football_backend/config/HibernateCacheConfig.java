@@ -0,0 +1,79 @@
+package com.tournament_football_backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/*
+    * HibernateCacheConfig.java
+    * Builds the Caffeine (JCache) regions of the Hibernate second-level cache and hands the cache manager
+    * to Hibernate. Every region is declared here: with missing_cache_strategy=fail, an entity or collection
+    * annotated with @Cache but missing from this list stops the application at startup.
+    * Entries expire a while after they were written: a change this instance never saw (another instance,
+    * a script on the database) is served stale for at most that long.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // Entities and the collections whose entries hold their ids
+    static final List<String> REFERENCE_DATA_REGIONS = List.of(
+            Team.class.getName(),
+            Tournament.class.getName(),
+            Tournament.class.getName() + ".participatingTeams");
+
+    @Value("${cache.second-level.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cache.second-level.query-max-size:1000}")
+    private long queryMaxSize;
+
+    @Value("${cache.second-level.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${cache.second-level.statistics:false}")
+    private boolean statistics;
+
+    // A manager of its own per application context, closed with it
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        REFERENCE_DATA_REGIONS.forEach(region -> cacheManager.createCache(region, regionConfiguration(maxSize, ttl)));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(queryMaxSize, ttl));
+        // Last write time of every table, used to invalidate cached queries: it must never lose entries
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(null, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(Long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize != null ? OptionalLong.of(maximumSize) : OptionalLong.empty());
+        configuration.setExpireAfterWrite(expireAfterWrite != null
+                ? OptionalLong.of(expireAfterWrite.toNanos()) : OptionalLong.empty());
+        configuration.setStatisticsEnabled(statistics);
+        return configuration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.tournament_football_backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    * JacksonConfig.java
+    * Modules of the application ObjectMapper, used for the responses, the live feeds and the export.
+    * Blackbird replaces the reflective getter calls with accessors generated through LambdaMetafactory,
+    * which the JIT inlines: it matters for the lists of tournaments and teams, where every roster adds
+    * one UserDTO per player. The sparse fieldset module lets ?fields= trim any DTO (SparseFieldset).
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module sparseFieldsetModule() {
+        return SparseFieldset.module();
+    }
+
+    // DTOs carry a filter id, so the mapper needs a filter even when no field was selected
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer allFieldsByDefault() {
+        return builder -> builder.filters(SparseFieldset.ALL_FIELDS);
+    }
+}
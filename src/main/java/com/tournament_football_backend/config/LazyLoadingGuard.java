@@ -0,0 +1,67 @@
+package com.tournament_football_backend.config;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+    * LazyLoadingGuard.java
+    * Sees every lazy initialization of a collection or an entity proxy. With open-in-view off, one without
+    * a session fails anyway (LazyInitializationException); the guard reports those that still find a
+    * session but run outside the transaction of a service method: a repository called from a controller,
+    * an entity serialized after the service returned, open-in-view switched back on. Each is a query the
+    * service did not plan, run on a connection held while the response is written.
+    * WARN logs them, FAIL throws LazyInitializationException; the tests run with FAIL.
+ */
+class LazyLoadingGuard implements InitializeCollectionEventListener, LoadEventListener {
+
+    enum Mode { OFF, WARN, FAIL }
+
+    // Service transactions are named after the @Transactional method that started them
+    static final String SERVICE_PACKAGE = "com.tournament_football_backend.service.";
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyLoadingGuard.class);
+
+    private final Mode mode;
+
+    LazyLoadingGuard(Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        check("collection " + event.getCollection().getRole());
+    }
+
+    // Proxies are initialized by an immediate load; the other load types are not lazy
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            check("proxy " + event.getEntityClassName() + "#" + event.getEntityId());
+        }
+    }
+
+    void check(String initialized) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        String transaction = TransactionSynchronizationManager.isActualTransactionActive()
+                ? TransactionSynchronizationManager.getCurrentTransactionName()
+                : null;
+        if (transaction != null && transaction.startsWith(SERVICE_PACKAGE)) {
+            return;
+        }
+
+        String message = "Lazy loading of " + initialized + " outside a service transaction"
+                + (transaction != null ? " (in " + transaction + ")" : "");
+        if (mode == Mode.FAIL) {
+            throw new LazyInitializationException(message);
+        }
+        logger.warn(message);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tournament_football_backend.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/*
+    * LazyLoadingGuardConfig.java
+    * Registers the LazyLoadingGuard on the session factory, ahead of the listeners that run the queries,
+    * unless jpa.lazy-loading-guard is OFF.
+ */
+@Configuration
+public class LazyLoadingGuardConfig {
+
+    @Value("${jpa.lazy-loading-guard:OFF}")
+    private LazyLoadingGuard.Mode mode;
+
+    @Bean
+    HibernatePropertiesCustomizer lazyLoadingGuardCustomizer() {
+        return properties -> {
+            if (mode == LazyLoadingGuard.Mode.OFF) {
+                return;
+            }
+            LazyLoadingGuard guard = new LazyLoadingGuard(mode);
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new Integrator() {
+                @Override
+                public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                      SessionFactoryImplementor sessionFactory) {
+                    EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+                            .requireService(EventListenerRegistry.class);
+                    listeners.prependListeners(EventType.INIT_COLLECTION, guard);
+                    listeners.prependListeners(EventType.LOAD, guard);
+                }
+
+                @Override
+                public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                         SessionFactoryServiceRegistry serviceRegistry) {
+                }
+            }));
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.tournament_football_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    * MetricsConfig.java
+    * Application meters on top of those of Actuator (HTTP requests, JVM, Hikari pool, Hibernate statistics):
+    * the SQL statements and entity loads of every request. The filter runs before Spring Security, so the
+    * queries of authentication are counted with their request.
+    * Service methods are timed by @Timed on the service classes.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Value("${metrics.request-sql.warn-threshold:20}")
+    private int warnThreshold;
+
+    @Bean
+    RequestSqlStatistics requestSqlStatistics() {
+        return new RequestSqlStatistics();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer requestSqlStatisticsCustomizer(RequestSqlStatistics requestSqlStatistics) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, requestSqlStatistics);
+            properties.put(AvailableSettings.INTERCEPTOR, requestSqlStatistics);
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<RequestSqlStatisticsFilter> requestSqlStatisticsFilter(
+            RequestSqlStatistics requestSqlStatistics, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestSqlStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new RequestSqlStatisticsFilter(requestSqlStatistics, meterRegistry, warnThreshold));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,83 @@
+package com.tournament_football_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    * PasswordHashingConfig.java
+    * The PasswordEncoder of the application. New hashes are written with the configured algorithm (bcrypt or
+    * argon2) and cost, behind an {id} prefix; every hash written before can still be checked, including the
+    * bare BCrypt hashes stored before the prefix was introduced.
+    * A stored hash with another algorithm or cost is replaced on the next successful login
+    * (DaoAuthenticationProvider through UserDetailsServiceImpl.updatePassword).
+    * All hashing runs on the bounded pool of BoundedPasswordEncoder.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    // Cost of a BCrypt hash: $2a$10$...
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\$2[aby]?\\$(\\d\\d)\\$.*");
+
+    @Value("${password.hashing.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${password.hashing.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.hashing.argon2.memory:16384}")
+    private int argon2Memory;
+
+    @Value("${password.hashing.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+
+    @Value("${password.hashing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry) {
+        int hashingThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                delegatingEncoder(algorithm, bcryptStrength, argon2Memory, argon2Iterations),
+                hashingThreads, queueCapacity, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    static PasswordEncoder delegatingEncoder(String algorithm, int bcryptStrength,
+                                             int argon2Memory, int argon2Iterations) {
+        PasswordEncoder bcrypt = bcrypt(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, new Argon2PasswordEncoder(16, 32, 1, argon2Memory, argon2Iterations)));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    // BCryptPasswordEncoder only upgrades hashes weaker than its strength; a hash of any other cost is
+    // upgraded here, so that lowering the strength gives the CPU back too
+    private static PasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength) {
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                Matcher cost = BCRYPT_COST.matcher(encodedPassword == null ? "" : encodedPassword);
+                return cost.matches() && Integer.parseInt(cost.group(1)) != strength;
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.tournament_football_backend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    * ReadFromPrimary.java
+    * Marks a read-only service method whose results are kept in a cache of the application (statistics,
+    * cached queries, the search index). With a replica configured (ReadReplicaConfig) it still reads from the
+    * primary, so a row the replica has not caught up with yet is never cached; every other read-only
+    * transaction reads from the replica and puts nothing in the second-level cache.
+    * Without a replica it has no effect.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,108 @@
+package com.tournament_football_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/*
+    * ReadReplicaConfig.java
+    * Active only when db.replica.url is set: replaces the single pool with a primary pool (spring.datasource.*)
+    * and a replica pool (db.replica.*), behind a ReadReplicaRoutingDataSource that sends the read-only
+    * transactions of the services to the replica.
+    * Both pools are limited by ConnectionLimiterConfig and reported by the Hikari metrics, as "primary" and
+    * "replica". Migrations run on the primary only; the replica gets them through replication.
+    * The JPA transactions choose their target through a ReadReplicaJpaDialect, and methods annotated with
+    * @ReadFromPrimary are wrapped outside their transaction so they choose the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${db.replica.url:}'.isEmpty()")
+public class ReadReplicaConfig {
+
+    @Value("${db.replica.read-your-writes-window:5s}")
+    private Duration readYourWritesWindow;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("db.replica.hikari")
+    HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                       @Value("${db.replica.url}") String url,
+                                       @Value("${db.replica.username}") String username,
+                                       @Value("${db.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // Static: post-processors are created before the rest of the configuration
+    @Bean
+    static BeanPostProcessor readReplicaJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                    try {
+                        entityManagerFactory.setJpaDialect(new ReadReplicaJpaDialect(
+                                entityManagerFactory.getDataSource().unwrap(ReadReplicaRoutingDataSource.class)));
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Ahead of the transaction interceptor, so the flag is set when the transaction begins
+    @Bean
+    Advisor readFromPrimaryAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ReadFromPrimary.class),
+                (MethodInterceptor) ReadReplicaRoutingDataSource::readFromPrimary);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    // The one JPA, Flyway and JdbcTemplate use
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                          @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primary, replica, readYourWritesWindow));
+    }
+}
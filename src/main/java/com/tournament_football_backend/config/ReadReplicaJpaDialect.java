@@ -0,0 +1,69 @@
+package com.tournament_football_backend.config;
+
+import com.tournament_football_backend.config.ReadReplicaRoutingDataSource.Target;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+
+/*
+    * ReadReplicaJpaDialect.java
+    * Chooses the target of a read-only JPA transaction when it begins, before its first query, and binds it
+    * for the ReadReplicaRoutingDataSource. A session reading from the replica gets CacheMode.GET: it still
+    * reads the second-level and query caches but never fills them, so an entity or a query result the
+    * replica has not caught up with yet cannot outlive the lag in the cache.
+ */
+class ReadReplicaJpaDialect extends HibernateJpaDialect {
+
+    private final ReadReplicaRoutingDataSource router;
+
+    ReadReplicaJpaDialect(ReadReplicaRoutingDataSource router) {
+        this.router = router;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+
+        Target target = router.readTarget();
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        if (target == Target.REPLICA) {
+            session.setCacheMode(CacheMode.GET);
+        }
+        // A read-only transaction started while another is suspended: that one's target is put back at cleanup
+        Target previousTarget = (Target) TransactionSynchronizationManager
+                .unbindResourceIfPossible(ReadReplicaRoutingDataSource.TRANSACTION_TARGET);
+        TransactionSynchronizationManager.bindResource(ReadReplicaRoutingDataSource.TRANSACTION_TARGET, target);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode, previousTarget);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (!(transactionData instanceof ReadOnlyTransactionData readOnly)) {
+            super.cleanupTransaction(transactionData);
+            return;
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(ReadReplicaRoutingDataSource.TRANSACTION_TARGET);
+        if (readOnly.previousTarget() != null) {
+            TransactionSynchronizationManager.bindResource(ReadReplicaRoutingDataSource.TRANSACTION_TARGET,
+                    readOnly.previousTarget());
+        }
+        if (readOnly.session().isOpen()) {
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+        }
+        super.cleanupTransaction(readOnly.hibernateData());
+    }
+
+    private record ReadOnlyTransactionData(Object hibernateData, Session session, CacheMode previousCacheMode,
+                                           Target previousTarget) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.tournament_football_backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/*
+    * ReadReplicaRoutingDataSource.java
+    * Hands out replica connections to read-only transactions and primary connections to everything else:
+    * read-write transactions, statements outside a transaction, Flyway.
+    * A user whose read-write transaction committed less than the read-your-writes window ago keeps reading
+    * from the primary, so the replication lag never hides their own changes from them.
+    * The target is chosen when the connection is fetched, which must happen after Spring has marked the
+    * transaction read-only: the router is only used behind a LazyConnectionDataSourceProxy.
+    * JPA transactions choose it earlier, when they begin (ReadReplicaJpaDialect), so the session knows whether
+    * it may fill the second-level cache; the router then keeps to that choice. Methods annotated with
+    * @ReadFromPrimary read from the primary.
+ */
+class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    // Transaction resource holding the target a read-only JPA transaction chose when it began
+    static final String TRANSACTION_TARGET = ReadReplicaRoutingDataSource.class.getName() + ".target";
+
+    // Set while a @ReadFromPrimary method runs
+    private static final ThreadLocal<Boolean> primaryReads = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String user = currentUser();
+            if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                // Only a committed write starts the window: a rolled back one changed nothing to read back
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(user, Boolean.TRUE);
+                    }
+                });
+            }
+            return Target.PRIMARY;
+        }
+        Target chosen = (Target) TransactionSynchronizationManager.getResource(TRANSACTION_TARGET);
+        return chosen != null ? chosen : readTarget();
+    }
+
+    // Where a read-only transaction starting now reads from
+    Target readTarget() {
+        if (primaryReads.get() != null) {
+            return Target.PRIMARY;
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    // Runs a @ReadFromPrimary method, before its transaction begins
+    static Object readFromPrimary(MethodInvocation invocation) throws Throwable {
+        Boolean previous = primaryReads.get();
+        primaryReads.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                primaryReads.remove();
+            }
+        }
+    }
+
+    // Null for anonymous requests and background work, which have no writes of their own to read back
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,58 @@
+package com.tournament_football_backend.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/*
+    * RequestSqlStatistics.java
+    * Counts the SQL statements Hibernate prepares and the entities it loads while a request is being handled.
+    * One instance is the StatementInspector and the Interceptor of the whole session factory; the counts are
+    * kept per thread, and every request runs on a thread of its own, so they are the counts of the request.
+    * Work handed to other threads (streamed exports, live feeds) is not counted.
+ */
+class RequestSqlStatistics implements StatementInspector, Interceptor {
+
+    private final ThreadLocal<Counts> current = new ThreadLocal<>();
+
+    void start() {
+        current.set(new Counts());
+    }
+
+    Counts stop() {
+        Counts counts = current.get();
+        current.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+        return false;
+    }
+
+    static final class Counts {
+        private int statements;
+        private int entityLoads;
+
+        int statements() {
+            return statements;
+        }
+
+        int entityLoads() {
+            return entityLoads;
+        }
+    }
+}
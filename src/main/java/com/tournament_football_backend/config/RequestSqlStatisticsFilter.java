@@ -0,0 +1,67 @@
+package com.tournament_football_backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/*
+    * RequestSqlStatisticsFilter.java
+    * Records the SQL statements and entity loads of every request (see RequestSqlStatistics) as distribution
+    * summaries tagged with the method and the URI template, and logs a warning for requests above the
+    * threshold: a list endpoint whose statement count grows with the page size is an N+1 query.
+ */
+class RequestSqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestSqlStatisticsFilter.class);
+
+    private final RequestSqlStatistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    RequestSqlStatisticsFilter(RequestSqlStatistics statistics, MeterRegistry meterRegistry, int warnThreshold) {
+        this.statistics = statistics;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        statistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStatistics.Counts counts = statistics.stop();
+            String uri = uriTemplate(request);
+            summary("http.server.requests.sql.statements", request, uri).record(counts.statements());
+            summary("http.server.requests.entity.loads", request, uri).record(counts.entityLoads());
+
+            if (counts.statements() > warnThreshold) {
+                logger.warn("{} {} executed {} SQL statements and loaded {} entities",
+                        request.getMethod(), request.getRequestURI(), counts.statements(), counts.entityLoads());
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, HttpServletRequest request, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    // The mapped pattern, as in http.server.requests, so that /teams/1 and /teams/2 share their meters
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
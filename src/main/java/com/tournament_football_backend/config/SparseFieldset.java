@@ -0,0 +1,128 @@
+package com.tournament_football_backend.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.tournament_football_backend.dto.PageDTO;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+    * SparseFieldset.java
+    * The ?fields= parameter: a comma-separated list of the properties to keep in the response, nested ones
+    * written as dotted paths, e.g. ?fields=id,name,participatingTeams.id,participatingTeams.name.
+    * A listed object keeps all of its properties, the parents of a listed path are kept to reach it, and
+    * everything else is left out, so a tournament can be read without the rosters of its teams.
+    * Paths are relative to the items of a list or of a page: nextCursor is always kept.
+    *
+    * Every DTO gets the same filter id from the module; without ?fields= the filter writes all properties.
+ */
+public final class SparseFieldset {
+
+    public static final String PARAMETER = "fields";
+
+    static final String FILTER_ID = "sparseFieldset";
+
+    static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private static final String DTO_PACKAGE = PageDTO.class.getPackageName();
+
+    private SparseFieldset() {}
+
+    /**
+     * Filters keeping only the listed fields of the given response body,
+     * or null when the parameter is missing or blank.
+     */
+    public static FilterProvider of(String fields, Object body) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        String prefix = body instanceof PageDTO<?> ? "items." : "";
+        Set<String> requested = new HashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> requested.add(prefix + field));
+        if (body instanceof PageDTO<?>) {
+            requested.add("nextCursor");
+        }
+        return new SimpleFilterProvider().addFilter(FILTER_ID, new PathFilter(requested));
+    }
+
+    static Module module() {
+        return new SimpleModule("SparseFieldset") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.appendAnnotationIntrospector(new NopAnnotationIntrospector() {
+                    @Override
+                    public Object findFilterId(Annotated annotated) {
+                        return annotated instanceof AnnotatedClass
+                                && annotated.getRawType().getPackageName().equals(DTO_PACKAGE) ? FILTER_ID : null;
+                    }
+                });
+            }
+        };
+    }
+
+    private static final class PathFilter extends SimpleBeanPropertyFilter {
+
+        // The requested paths as a tree of property names
+        private final Node root = new Node();
+
+        PathFilter(Set<String> requested) {
+            for (String path : requested) {
+                Node node = root;
+                for (String name : path.split("\\.")) {
+                    node = node.children.computeIfAbsent(name, key -> new Node());
+                }
+                node.all = true;
+            }
+        }
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            Node node = nodeOf(gen.getOutputContext().getParent());
+            if (node.all || node.children.containsKey(writer.getName())) {
+                writer.serializeAsField(pojo, gen, provider);
+            } else if (!gen.canOmitFields()) {
+                writer.serializeAsOmittedField(pojo, gen, provider);
+            }
+        }
+
+        // Follows the names of the enclosing properties, read from the generator. A written property always
+        // has its node, so a miss is a map key: like array indexes, map keys add no name to the path
+        private Node nodeOf(JsonStreamContext context) {
+            if (context == null) {
+                return root;
+            }
+            Node parent = nodeOf(context.getParent());
+            if (parent.all || !context.inObject() || context.getCurrentName() == null) {
+                return parent;
+            }
+            Node node = parent.children.get(context.getCurrentName());
+            return node != null ? node : parent;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        // Requested as a whole
+        private boolean all;
+    }
+}
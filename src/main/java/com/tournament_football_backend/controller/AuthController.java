@@ -13,6 +13,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 /** AuthController.java
  * Handles user authentication and registration.
@@ -31,6 +32,9 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody AuthDTO.LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
@@ -54,7 +58,10 @@ public class AuthController {
         userDTO.setUsername(signUpRequest.getUsername());
         userDTO.setEmail(signUpRequest.getEmail());
 
-        UserDTO createdUser = userService.createUser(userDTO, signUpRequest.getPassword());
+        // Hashed before the service opens its transaction, which would otherwise hold a database
+        // connection while the hash waits for a place on the bounded hashing pool
+        String passwordHash = passwordEncoder.encode(signUpRequest.getPassword());
+        UserDTO createdUser = userService.createUser(userDTO, passwordHash);
 
         return ResponseEntity.status(HttpStatus.CREATED).body("User registered successfully!");
     }
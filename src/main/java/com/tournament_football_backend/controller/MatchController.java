@@ -1,19 +1,36 @@
 package com.tournament_football_backend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.tournament_football_backend.config.SparseFieldset;
 import com.tournament_football_backend.dto.CreateMatchDTO;
 import com.tournament_football_backend.dto.MatchDTO;
+import com.tournament_football_backend.dto.MatchResultDTO;
+import com.tournament_football_backend.dto.MatchResultOutcomeDTO;
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.UpdateMatchDTO;
 import com.tournament_football_backend.exception.MatchExceptions;
+import com.tournament_football_backend.exception.TournamentExceptions;
 import com.tournament_football_backend.model.MatchStatus;
+import com.tournament_football_backend.service.LiveScoreBus;
 import com.tournament_football_backend.service.MatchService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -30,19 +47,32 @@ public class MatchController {
     @Autowired
     private MatchService matchService;
 
-    // GET /api/matches - List all matches
+    @Autowired
+    private LiveScoreBus liveScoreBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // GET /api/matches?after={cursor}&limit={limit} - List matches, one page at a time
     @GetMapping
-    public ResponseEntity<List<MatchDTO>> getAllMatches() {
-        List<MatchDTO> matches = matchService.getAllMatches();
+    public ResponseEntity<PageDTO<MatchDTO>> getAllMatches(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<MatchDTO> matches = matchService.getAllMatches(after, limit);
         return ResponseEntity.ok(matches);
     }
 
-    // GET /api/matches/{id} - Get match by ID
+    // GET /api/matches/{id} - Get match by ID (304 while the If-None-Match tag is current)
     @GetMapping("/{id}")
-    public ResponseEntity<MatchDTO> getMatchById(@PathVariable Long id) {
+    public ResponseEntity<MatchDTO> getMatchById(@PathVariable Long id, WebRequest request) {
+        String eTag = matchService.getMatchTag(id)
+                .orElseThrow(() -> new MatchExceptions.MatchNotFoundException());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         MatchDTO match = matchService.getMatchById(id)
                 .orElseThrow(() -> new MatchExceptions.MatchNotFoundException());
-        return ResponseEntity.ok(match);
+        return ResponseEntity.ok().eTag(eTag).body(match);
     }
 
     // POST /api/matches - Create new match (ADMIN only)
@@ -53,40 +83,55 @@ public class MatchController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdMatch);
     }
 
-    // PUT /api/matches/{id} - Update match (ADMIN only)
+    // PUT /api/matches/{id} - Update match, 412 if If-Match is given and stale (ADMIN only)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<MatchDTO> updateMatch(@PathVariable Long id, @Valid @RequestBody UpdateMatchDTO updateMatchDTO) {
-        return matchService.updateMatch(id, updateMatchDTO)
+    public ResponseEntity<MatchDTO> updateMatch(@PathVariable Long id, @Valid @RequestBody UpdateMatchDTO updateMatchDTO,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return matchService.updateMatch(id, updateMatchDTO, ifMatch)
                 .map(updatedMatch -> ResponseEntity.ok(updatedMatch))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // PUT /api/matches/{id}/result - Update match result (ADMIN only)
+    // PUT /api/matches/{id}/result - Update match result, 412 if If-Match is given and stale (ADMIN only)
     @PutMapping("/{id}/result")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<MatchDTO> updateResult(@PathVariable Long id, @RequestBody Map<String, Integer> result) {
+    public ResponseEntity<MatchDTO> updateResult(@PathVariable Long id, @RequestBody Map<String, Integer> result,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Integer homeGoals = result.get("homeGoals");
         Integer awayGoals = result.get("awayGoals");
 
-        return matchService.updateResult(id, homeGoals, awayGoals)
+        return matchService.updateResult(id, homeGoals, awayGoals, ifMatch)
                 .map(updatedMatch -> ResponseEntity.ok(updatedMatch))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // DELETE /api/matches/{id} - Delete match (ADMIN only)
+    // POST /api/matches/results:batch - Update many match results at once, one outcome per item (ADMIN only)
+    @PostMapping("/results:batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<MatchResultOutcomeDTO>> updateResults(@RequestBody List<MatchResultDTO> results) {
+        List<MatchResultOutcomeDTO> outcomes = matchService.updateResults(results);
+        return ResponseEntity.ok(outcomes);
+    }
+
+    // DELETE /api/matches/{id} - Delete match, 412 if If-Match is given and stale (ADMIN only)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> deleteMatch(@PathVariable Long id) {
-        matchService.deleteMatch(id);
+    public ResponseEntity<?> deleteMatch(@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        matchService.deleteMatch(id, ifMatch);
         return ResponseEntity.ok().build();
     }
 
-    // GET /api/matches/tournament/{tournamentId} - Matches by tournament
+    // GET /api/matches/tournament/{tournamentId} - Matches by tournament (304 while the If-None-Match tag is current)
     @GetMapping("/tournament/{tournamentId}")
-    public ResponseEntity<List<MatchDTO>> getMatchesByTournament(@PathVariable Long tournamentId) {
+    public ResponseEntity<List<MatchDTO>> getMatchesByTournament(@PathVariable Long tournamentId, WebRequest request) {
+        String eTag = matchService.getTournamentMatchesTag(tournamentId)
+                .orElseThrow(() -> new TournamentExceptions.TournamentNotFoundException());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<MatchDTO> matches = matchService.getMatchesByTournament(tournamentId);
-        return ResponseEntity.ok(matches);
+        return ResponseEntity.ok().eTag(eTag).body(matches);
     }
 
     // GET /api/matches/team/{teamId} - Matches by team
@@ -96,10 +141,13 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
-    // GET /api/matches/status/{status} - Matches by status
+    // GET /api/matches/status/{status}?after={cursor}&limit={limit} - Matches by status
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<MatchDTO>> getMatchesByStatus(@PathVariable MatchStatus status) {
-        List<MatchDTO> matches = matchService.getMatchesByStatus(status);
+    public ResponseEntity<PageDTO<MatchDTO>> getMatchesByStatus(
+            @PathVariable MatchStatus status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<MatchDTO> matches = matchService.getMatchesByStatus(status, after, limit);
         return ResponseEntity.ok(matches);
     }
 
@@ -112,6 +160,58 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
+    // GET /api/matches/export?tournamentId={id}&teamId={id}&status={status}&start={start}&end={end}&fields={fields}
+    // Streams the matching matches as NDJSON, one per line (ADMIN only)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) MatchStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(name = SparseFieldset.PARAMETER, required = false) String fields) {
+        // Once the body starts streaming the status can no longer change
+        matchService.validateExportFilters(start, end);
+
+        FilterProvider filters = SparseFieldset.of(fields, null);
+        ObjectWriter writer = (filters != null ? objectMapper.writer(filters) : objectMapper.writer())
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> matchService.exportMatches(
+                tournamentId, teamId, status, start, end, match -> {
+                    try {
+                        writer.writeValue(outputStream, match);
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // GET /api/matches/live - Live feed (SSE) of every match update, starting with the matches in progress
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveMatches() {
+        return liveScoreBus.subscribe(new SseEmitter(), null, null, () -> matchService.getLiveMatches(null));
+    }
+
+    // GET /api/matches/live/tournament/{tournamentId} - Live feed (SSE) of the matches of a tournament
+    @GetMapping(value = "/live/tournament/{tournamentId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveTournamentMatches(@PathVariable Long tournamentId) {
+        return liveScoreBus.subscribe(new SseEmitter(), tournamentId, null,
+                () -> matchService.getLiveMatches(tournamentId));
+    }
+
+    // GET /api/matches/{id}/live - Live feed (SSE) of one match, starting with its current state
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveMatch(@PathVariable Long id) {
+        return liveScoreBus.subscribe(new SseEmitter(), null, id, () -> List.of(matchService.getMatchById(id)
+                .orElseThrow(() -> new MatchExceptions.MatchNotFoundException())));
+    }
+
     // GET /api/matches/today - Today's matches
     @GetMapping("/today")
     public ResponseEntity<List<MatchDTO>> getTodayMatches() {
@@ -0,0 +1,44 @@
+package com.tournament_football_backend.controller;
+
+import com.tournament_football_backend.dto.SearchHitDTO;
+import com.tournament_football_backend.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/*
+    * SearchController.java
+    * Handles the full-text search endpoints used by the autocomplete.
+    * Results match words by prefix and tolerate typos, and come best match first.
+    *
+ */
+@RestController
+@RequestMapping("/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    // GET /api/search?q={text}&limit={limit} - Search tournaments and teams
+    @GetMapping
+    public ResponseEntity<List<SearchHitDTO>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + SearchService.DEFAULT_LIMIT) int limit) {
+        List<SearchHitDTO> hits = searchService.search(q, limit);
+        return ResponseEntity.ok(hits);
+    }
+
+    // GET /api/search/users?q={text}&limit={limit} - Search users by username or email (ADMIN only)
+    @GetMapping("/users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SearchHitDTO>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + SearchService.DEFAULT_LIMIT) int limit) {
+        List<SearchHitDTO> hits = searchService.searchUsers(q, limit);
+        return ResponseEntity.ok(hits);
+    }
+}
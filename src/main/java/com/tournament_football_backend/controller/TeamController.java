@@ -1,17 +1,23 @@
 package com.tournament_football_backend.controller;
 
 import com.tournament_football_backend.dto.CreateTeamDTO;
+import com.tournament_football_backend.dto.HeadToHeadDTO;
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.TeamDTO;
+import com.tournament_football_backend.dto.TeamStatsDTO;
 import com.tournament_football_backend.dto.UpdateTeamDTO;
 import com.tournament_football_backend.exception.TeamExceptions;
 import com.tournament_football_backend.service.TeamService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 /*
     * TeamController.java
@@ -28,19 +34,41 @@ public class TeamController {
     @Autowired
     private TeamService teamService;
 
-    // GET /api/teams - List all teams
+    // GET /api/teams?after={cursor}&limit={limit} - List teams, one page at a time
     @GetMapping
-    public ResponseEntity<List<TeamDTO>> getAllTeams() {
-        List<TeamDTO> teams = teamService.getAllTeams();
+    public ResponseEntity<PageDTO<TeamDTO>> getAllTeams(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<TeamDTO> teams = teamService.getAllTeams(after, limit);
         return ResponseEntity.ok(teams);
     }
 
-    // GET /api/teams/{id} - Get team by ID
+    // GET /api/teams/{id} - Get team by ID (304 while the If-None-Match tag is current)
     @GetMapping("/{id}")
-    public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id) {
+    public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id, WebRequest request) {
+        // Tag first: a change made in between leaves the body newer than its tag, never older
+        String eTag = teamService.getTeamTag(id)
+                .orElseThrow(() -> new TeamExceptions.TeamNotFoundException());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         TeamDTO team = teamService.getTeamById(id)
                 .orElseThrow(() -> new TeamExceptions.TeamNotFoundException());
-        return ResponseEntity.ok(team);
+        return ResponseEntity.ok().eTag(eTag).body(team);
+    }
+
+    // GET /api/teams/{id}/stats - Wins, draws, losses and goals overall and per tournament, and recent form
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<TeamStatsDTO> getTeamStats(@PathVariable Long id) {
+        TeamStatsDTO stats = teamService.getTeamStats(id);
+        return ResponseEntity.ok(stats);
+    }
+
+    // GET /api/teams/{id}/vs/{opponentId} - All-time head-to-head record and latest meetings of two teams
+    @GetMapping("/{id}/vs/{opponentId}")
+    public ResponseEntity<HeadToHeadDTO> getHeadToHead(@PathVariable Long id, @PathVariable Long opponentId) {
+        HeadToHeadDTO headToHead = teamService.getHeadToHead(id, opponentId);
+        return ResponseEntity.ok(headToHead);
     }
 
     // GET /api/teams/name/{name} - Get team by name
@@ -59,20 +87,21 @@ public class TeamController {
         return ResponseEntity.ok(createdTeam);
     }
 
-    // PUT /api/teams/{id} - Update team (ADMIN only)
+    // PUT /api/teams/{id} - Update team, 412 if If-Match is given and stale (ADMIN only)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<TeamDTO> updateTeam(@PathVariable Long id, @Valid @RequestBody UpdateTeamDTO updateTeamDTO) {
-        return teamService.updateTeam(id, updateTeamDTO)
+    public ResponseEntity<TeamDTO> updateTeam(@PathVariable Long id, @Valid @RequestBody UpdateTeamDTO updateTeamDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return teamService.updateTeam(id, updateTeamDTO, ifMatch)
                 .map(updatedTeam -> ResponseEntity.ok(updatedTeam))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // DELETE /api/teams/{id} - Delete team (ADMIN only)
+    // DELETE /api/teams/{id} - Delete team, 412 if If-Match is given and stale (ADMIN only)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> deleteTeam(@PathVariable Long id) {
-        teamService.deleteTeam(id);
+    public ResponseEntity<?> deleteTeam(@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        teamService.deleteTeam(id, ifMatch);
         return ResponseEntity.ok().build();
     }
 
@@ -84,6 +113,15 @@ public class TeamController {
         return ResponseEntity.ok().build();
     }
 
+    // POST /api/teams/{teamId}/players - Add many players at once, those already in the team are skipped;
+    // returns how many were added, as {"added": n} (ADMIN only)
+    @PostMapping("/{teamId}/players")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> addPlayers(@PathVariable Long teamId, @RequestBody List<Long> playerIds) {
+        int added = teamService.addPlayers(teamId, playerIds);
+        return ResponseEntity.ok(Map.of("added", added));
+    }
+
     // DELETE /api/teams/{teamId}/players/{playerId} - Remove player
     @DeleteMapping("/{teamId}/players/{playerId}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -99,10 +137,13 @@ public class TeamController {
         return ResponseEntity.ok(teams);
     }
 
-    // GET /api/teams/search?keyword={keyword} - Search teams
+    // GET /api/teams/search?keyword={keyword}&after={cursor}&limit={limit} - Search teams
     @GetMapping("/search")
-    public ResponseEntity<List<TeamDTO>> searchTeams(@RequestParam String keyword) {
-        List<TeamDTO> teams = teamService.searchTeams(keyword);
+    public ResponseEntity<PageDTO<TeamDTO>> searchTeams(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<TeamDTO> teams = teamService.searchTeams(keyword, after, limit);
         return ResponseEntity.ok(teams);
     }
 }
\ No newline at end of file
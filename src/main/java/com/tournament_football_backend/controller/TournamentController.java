@@ -1,16 +1,26 @@
 package com.tournament_football_backend.controller;
 
+import com.tournament_football_backend.dto.BracketDTO;
 import com.tournament_football_backend.dto.CreateTournamentDTO;
+import com.tournament_football_backend.dto.GenerateBracketDTO;
+import com.tournament_football_backend.dto.GenerateFixturesDTO;
+import com.tournament_football_backend.dto.MatchDTO;
+import com.tournament_football_backend.dto.PageDTO;
+import com.tournament_football_backend.dto.StandingDTO;
 import com.tournament_football_backend.dto.TournamentDTO;
 import com.tournament_football_backend.dto.UpdateTournamentDTO;
 import com.tournament_football_backend.exception.TournamentExceptions;
 import com.tournament_football_backend.model.TournamentStatus;
+import com.tournament_football_backend.service.MatchService;
+import com.tournament_football_backend.service.StandingsService;
 import com.tournament_football_backend.service.TournamentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,19 +39,39 @@ public class TournamentController {
     @Autowired
     private TournamentService tournamentService;
 
-    // GET /api/tournaments - List all tournaments
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private MatchService matchService;
+
+    // GET /api/tournaments?after={cursor}&limit={limit} - List tournaments, one page at a time
     @GetMapping
-    public ResponseEntity<List<TournamentDTO>> getAllTournaments() {
-        List<TournamentDTO> tournaments = tournamentService.getAllTournaments();
+    public ResponseEntity<PageDTO<TournamentDTO>> getAllTournaments(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<TournamentDTO> tournaments = tournamentService.getAllTournaments(after, limit);
         return ResponseEntity.ok(tournaments);
     }
 
-    // GET /api/tournaments/{id} - Get tournament by ID
+    // GET /api/tournaments/{id} - Get tournament by ID (304 while the If-None-Match tag is current)
     @GetMapping("/{id}")
-    public ResponseEntity<TournamentDTO> getTournamentById(@PathVariable Long id) {
+    public ResponseEntity<TournamentDTO> getTournamentById(@PathVariable Long id, WebRequest request) {
+        String eTag = tournamentService.getTournamentTag(id)
+                .orElseThrow(() -> new TournamentExceptions.TournamentNotFoundException());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         TournamentDTO tournament = tournamentService.getTournamentById(id)
                 .orElseThrow(() -> new TournamentExceptions.TournamentNotFoundException());
-        return ResponseEntity.ok(tournament);
+        return ResponseEntity.ok().eTag(eTag).body(tournament);
+    }
+
+    // GET /api/tournaments/{id}/standings - Tournament standings table
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<StandingDTO>> getStandings(@PathVariable Long id) {
+        List<StandingDTO> standings = standingsService.getStandings(id);
+        return ResponseEntity.ok(standings);
     }
 
     // POST /api/tournaments - Create new tournament (ADMIN only)
@@ -52,20 +82,48 @@ public class TournamentController {
         return ResponseEntity.ok(createdTournament);
     }
 
-    // PUT /api/tournaments/{id} - Update tournament (ADMIN only)
+    // POST /api/tournaments/{id}/fixtures - Generate the round-robin schedule (ADMIN only)
+    @PostMapping("/{id}/fixtures")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<MatchDTO>> generateFixtures(@PathVariable Long id,
+                                                           @Valid @RequestBody(required = false) GenerateFixturesDTO generateFixturesDTO) {
+        List<MatchDTO> matches = matchService.generateFixtures(id,
+                generateFixturesDTO != null ? generateFixturesDTO : new GenerateFixturesDTO());
+        return ResponseEntity.ok(matches);
+    }
+
+    // POST /api/tournaments/{id}/bracket - Generate the knockout bracket (ADMIN only)
+    @PostMapping("/{id}/bracket")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BracketDTO> generateBracket(@PathVariable Long id,
+                                                      @RequestBody(required = false) GenerateBracketDTO generateBracketDTO) {
+        BracketDTO bracket = matchService.generateBracket(id,
+                generateBracketDTO != null ? generateBracketDTO : new GenerateBracketDTO());
+        return ResponseEntity.ok(bracket);
+    }
+
+    // GET /api/tournaments/{id}/bracket - Knockout bracket, round by round
+    @GetMapping("/{id}/bracket")
+    public ResponseEntity<BracketDTO> getBracket(@PathVariable Long id) {
+        BracketDTO bracket = matchService.getBracket(id);
+        return ResponseEntity.ok(bracket);
+    }
+
+    // PUT /api/tournaments/{id} - Update tournament, 412 if If-Match is given and stale (ADMIN only)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<TournamentDTO> updateTournament(@PathVariable Long id, @Valid @RequestBody UpdateTournamentDTO updateTournamentDTO) {
-        return tournamentService.updateTournament(id, updateTournamentDTO)
+    public ResponseEntity<TournamentDTO> updateTournament(@PathVariable Long id, @Valid @RequestBody UpdateTournamentDTO updateTournamentDTO,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return tournamentService.updateTournament(id, updateTournamentDTO, ifMatch)
                 .map(updatedTournament -> ResponseEntity.ok(updatedTournament))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // DELETE /api/tournaments/{id} - Delete tournament (ADMIN only)
+    // DELETE /api/tournaments/{id} - Delete tournament, 412 if If-Match is given and stale (ADMIN only)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> deleteTournament(@PathVariable Long id) {
-        tournamentService.deleteTournament(id);
+    public ResponseEntity<?> deleteTournament(@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        tournamentService.deleteTournament(id, ifMatch);
         return ResponseEntity.ok().build();
     }
 
@@ -85,10 +143,13 @@ public class TournamentController {
         return ResponseEntity.ok().build();
     }
 
-    // GET /api/tournaments/status/{status} - Tournaments by status
+    // GET /api/tournaments/status/{status}?after={cursor}&limit={limit} - Tournaments by status
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TournamentDTO>> getTournamentsByStatus(@PathVariable TournamentStatus status) {
-        List<TournamentDTO> tournaments = tournamentService.getTournamentsByStatus(status);
+    public ResponseEntity<PageDTO<TournamentDTO>> getTournamentsByStatus(
+            @PathVariable TournamentStatus status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<TournamentDTO> tournaments = tournamentService.getTournamentsByStatus(status, after, limit);
         return ResponseEntity.ok(tournaments);
     }
 
@@ -106,10 +167,13 @@ public class TournamentController {
         return ResponseEntity.ok(tournaments);
     }
 
-    // GET /api/tournaments/search?keyword={keyword} - Search tournaments
+    // GET /api/tournaments/search?keyword={keyword}&after={cursor}&limit={limit} - Search tournaments
     @GetMapping("/search")
-    public ResponseEntity<List<TournamentDTO>> searchTournaments(@RequestParam String keyword) {
-        List<TournamentDTO> tournaments = tournamentService.searchTournaments(keyword);
+    public ResponseEntity<PageDTO<TournamentDTO>> searchTournaments(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<TournamentDTO> tournaments = tournamentService.searchTournaments(keyword, after, limit);
         return ResponseEntity.ok(tournaments);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.tournament_football_backend.controller;
 
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.ProfileDTO;
 import com.tournament_football_backend.dto.UpdateUserDTO;
 import com.tournament_football_backend.dto.UserDTO;
@@ -7,11 +8,11 @@ import com.tournament_football_backend.exception.UserExceptions;
 import com.tournament_football_backend.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 /* * UserController.java
  * Handles user-related operations such as listing, searching, retrieving, updating, and deleting users.
@@ -26,19 +27,24 @@ public class UserController {
     @Autowired
     private UserService userService;
 
-    // GET /api/users - List all users (ADMIN only)
+    // GET /api/users?after={cursor}&limit={limit} - List users, one page at a time (ADMIN only)
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
-        List<UserDTO> users = userService.getAllUsers();
+    public ResponseEntity<PageDTO<UserDTO>> getAllUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<UserDTO> users = userService.getAllUsers(after, limit);
         return ResponseEntity.ok(users);
     }
 
-    // GET /api/users/search?keyword={keyword} - Search users (ADMIN only)
+    // GET /api/users/search?keyword={keyword}&after={cursor}&limit={limit} - Search users (ADMIN only)
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDTO>> searchUsers(@RequestParam String keyword) {
-        List<UserDTO> users = userService.searchUsers(keyword);
+    public ResponseEntity<PageDTO<UserDTO>> searchUsers(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PageDTO.DEFAULT_LIMIT) int limit) {
+        PageDTO<UserDTO> users = userService.searchUsers(keyword, after, limit);
         return ResponseEntity.ok(users);
     }
 
@@ -51,38 +57,45 @@ public class UserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // GET /api/users/{id} - Get user by ID (ADMIN or self)
+    // GET /api/users/{id} - Get user by ID, 304 while the If-None-Match tag is current (ADMIN or self)
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
-    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserDTO> getUserById(@PathVariable Long id, WebRequest request) {
+        String eTag = userService.getUserTag(id)
+                .orElseThrow(() -> new UserExceptions.UserNotFoundException());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         UserDTO user = userService.getUserById(id)
                 .orElseThrow(() -> new UserExceptions.UserNotFoundException());
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok().eTag(eTag).body(user);
     }
 
-    // PUT /api/users/{id}/profile - Update user profile (ADMIN or self)
+    // PUT /api/users/{id}/profile - Update user profile, 412 if If-Match is given and stale (ADMIN or self)
     @PutMapping("/{id}/profile")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
-    public ResponseEntity<UserDTO> updateProfile(@PathVariable Long id, @Valid @RequestBody ProfileDTO profileDTO) {
-        return userService.updateProfile(id, profileDTO)
+    public ResponseEntity<UserDTO> updateProfile(@PathVariable Long id, @Valid @RequestBody ProfileDTO profileDTO,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.updateProfile(id, profileDTO, ifMatch)
                 .map(updatedUser -> ResponseEntity.ok(updatedUser))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // PUT /api/users/{id} - Update user (ADMIN or self)
+    // PUT /api/users/{id} - Update user, 412 if If-Match is given and stale (ADMIN or self)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
-    public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, @Valid @RequestBody UpdateUserDTO updateUserDTO) {
-        return userService.updateUser(id, updateUserDTO)
+    public ResponseEntity<UserDTO> updateUser(@PathVariable Long id, @Valid @RequestBody UpdateUserDTO updateUserDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return userService.updateUser(id, updateUserDTO, ifMatch)
                 .map(updatedUser -> ResponseEntity.ok(updatedUser))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // DELETE /api/users/{id} - Delete user (ADMIN only)
+    // DELETE /api/users/{id} - Delete user, 412 if If-Match is given and stale (ADMIN only)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
-        userService.deleteUser(id);
+    public ResponseEntity<?> deleteUser(@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        userService.deleteUser(id, ifMatch);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.tournament_football_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the knockout bracket of a tournament, grouped by round.
+ * Matches in a round are ordered by bracket position; teams not known yet are null.
+ */
+public class BracketDTO {
+
+    private Long tournamentId;
+    private List<Round> rounds = new ArrayList<>();
+
+    // Constructors
+    public BracketDTO() {}
+
+    public BracketDTO(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    // Getters and Setters
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public List<Round> getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(List<Round> rounds) {
+        this.rounds = rounds;
+    }
+
+    public static class Round {
+        private int round;
+        private List<MatchDTO> matches = new ArrayList<>();
+
+        public Round() {}
+
+        public Round(int round) {
+            this.round = round;
+        }
+
+        public int getRound() {
+            return round;
+        }
+
+        public void setRound(int round) {
+            this.round = round;
+        }
+
+        public List<MatchDTO> getMatches() {
+            return matches;
+        }
+
+        public void setMatches(List<MatchDTO> matches) {
+            this.matches = matches;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.tournament_football_backend.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for generating the knockout bracket of a tournament.
+ * Seeds are the ids of the participating teams, best first; when omitted the teams are seeded by id.
+ */
+public class GenerateBracketDTO {
+
+    private List<Long> seeds;
+
+    // Constructors
+    public GenerateBracketDTO() {}
+
+    public GenerateBracketDTO(List<Long> seeds) {
+        this.seeds = seeds;
+    }
+
+    // Getters and Setters
+    public List<Long> getSeeds() {
+        return seeds;
+    }
+
+    public void setSeeds(List<Long> seeds) {
+        this.seeds = seeds;
+    }
+}
@@ -0,0 +1,60 @@
+package com.tournament_football_backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.time.LocalTime;
+
+/**
+ * Data Transfer Object for generating the round-robin schedule of a tournament.
+ * All fields are optional: a single leg, match days spread evenly between the tournament
+ * start and end dates, kick-off at 15:00.
+ */
+public class GenerateFixturesDTO {
+
+    public static final LocalTime DEFAULT_KICK_OFF = LocalTime.of(15, 0);
+
+    // 1 = every pair meets once, 2 = home and away
+    @Min(1)
+    @Max(2)
+    private Integer legs = 1;
+
+    // Days between two consecutive match days
+    @Min(1)
+    private Integer daysBetweenRounds;
+
+    private LocalTime kickOffTime = DEFAULT_KICK_OFF;
+
+    // Constructors
+    public GenerateFixturesDTO() {}
+
+    public GenerateFixturesDTO(Integer legs, Integer daysBetweenRounds) {
+        this.legs = legs;
+        this.daysBetweenRounds = daysBetweenRounds;
+    }
+
+    // Getters and Setters
+    public Integer getLegs() {
+        return legs;
+    }
+
+    public void setLegs(Integer legs) {
+        this.legs = legs;
+    }
+
+    public Integer getDaysBetweenRounds() {
+        return daysBetweenRounds;
+    }
+
+    public void setDaysBetweenRounds(Integer daysBetweenRounds) {
+        this.daysBetweenRounds = daysBetweenRounds;
+    }
+
+    public LocalTime getKickOffTime() {
+        return kickOffTime;
+    }
+
+    public void setKickOffTime(LocalTime kickOffTime) {
+        this.kickOffTime = kickOffTime;
+    }
+}
@@ -0,0 +1,79 @@
+package com.tournament_football_backend.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the all-time head-to-head of a team against an opponent: the record of the
+ * team in their completed matches, across tournaments, and their latest meetings, most recent first.
+ */
+public class HeadToHeadDTO {
+
+    private Long teamId;
+    private String teamName;
+    private Long opponentId;
+    private String opponentName;
+    private TeamRecordDTO overall;
+    private List<HeadToHeadMatchDTO> lastMeetings;
+
+    // Constructors
+    public HeadToHeadDTO() {}
+
+    public HeadToHeadDTO(Long teamId, String teamName, Long opponentId, String opponentName,
+                         TeamRecordDTO overall, List<HeadToHeadMatchDTO> lastMeetings) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.opponentId = opponentId;
+        this.opponentName = opponentName;
+        this.overall = overall;
+        this.lastMeetings = lastMeetings;
+    }
+
+    // Getters and Setters
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+
+    public Long getOpponentId() {
+        return opponentId;
+    }
+
+    public void setOpponentId(Long opponentId) {
+        this.opponentId = opponentId;
+    }
+
+    public String getOpponentName() {
+        return opponentName;
+    }
+
+    public void setOpponentName(String opponentName) {
+        this.opponentName = opponentName;
+    }
+
+    public TeamRecordDTO getOverall() {
+        return overall;
+    }
+
+    public void setOverall(TeamRecordDTO overall) {
+        this.overall = overall;
+    }
+
+    public List<HeadToHeadMatchDTO> getLastMeetings() {
+        return lastMeetings;
+    }
+
+    public void setLastMeetings(List<HeadToHeadMatchDTO> lastMeetings) {
+        this.lastMeetings = lastMeetings;
+    }
+}
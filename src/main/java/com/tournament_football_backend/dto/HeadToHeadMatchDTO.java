@@ -0,0 +1,90 @@
+package com.tournament_football_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a completed match between the two teams of a head-to-head.
+ * The teams are those of the enclosing HeadToHeadDTO: homeTeamId tells which one played at home.
+ */
+public class HeadToHeadMatchDTO {
+
+    private Long id;
+    private Long tournamentId;
+    private String tournamentName;
+    private LocalDateTime matchDate;
+    private Long homeTeamId;
+    private Integer homeGoals;
+    private Integer awayGoals;
+
+    // Constructors
+    public HeadToHeadMatchDTO() {}
+
+    // Used by the JPQL constructor projection in MatchRepository
+    public HeadToHeadMatchDTO(Long id, Long tournamentId, String tournamentName, LocalDateTime matchDate,
+                              Long homeTeamId, Integer homeGoals, Integer awayGoals) {
+        this.id = id;
+        this.tournamentId = tournamentId;
+        this.tournamentName = tournamentName;
+        this.matchDate = matchDate;
+        this.homeTeamId = homeTeamId;
+        this.homeGoals = homeGoals;
+        this.awayGoals = awayGoals;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public String getTournamentName() {
+        return tournamentName;
+    }
+
+    public void setTournamentName(String tournamentName) {
+        this.tournamentName = tournamentName;
+    }
+
+    public LocalDateTime getMatchDate() {
+        return matchDate;
+    }
+
+    public void setMatchDate(LocalDateTime matchDate) {
+        this.matchDate = matchDate;
+    }
+
+    public Long getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public void setHomeTeamId(Long homeTeamId) {
+        this.homeTeamId = homeTeamId;
+    }
+
+    public Integer getHomeGoals() {
+        return homeGoals;
+    }
+
+    public void setHomeGoals(Integer homeGoals) {
+        this.homeGoals = homeGoals;
+    }
+
+    public Integer getAwayGoals() {
+        return awayGoals;
+    }
+
+    public void setAwayGoals(Integer awayGoals) {
+        this.awayGoals = awayGoals;
+    }
+}
@@ -36,6 +36,11 @@ public class MatchDTO {
     private LocalDateTime createdAt;
     private String result;
 
+    // Knockout bracket only
+    private Integer bracketRound;
+    private Integer bracketPosition;
+    private Long nextMatchId;
+
     // Constructors
     public MatchDTO() {}
 
@@ -149,4 +154,28 @@ public class MatchDTO {
     public void setResult(String result) {
         this.result = result;
     }
+
+    public Integer getBracketRound() {
+        return bracketRound;
+    }
+
+    public void setBracketRound(Integer bracketRound) {
+        this.bracketRound = bracketRound;
+    }
+
+    public Integer getBracketPosition() {
+        return bracketPosition;
+    }
+
+    public void setBracketPosition(Integer bracketPosition) {
+        this.bracketPosition = bracketPosition;
+    }
+
+    public Long getNextMatchId() {
+        return nextMatchId;
+    }
+
+    public void setNextMatchId(Long nextMatchId) {
+        this.nextMatchId = nextMatchId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.tournament_football_backend.dto;
+
+/**
+ * Data Transfer Object for one final score of a batch result update.
+ * Items are validated one by one by the service, so an invalid score or a missing matchId fails only its own item.
+ */
+public class MatchResultDTO {
+
+    private Long matchId;
+    private Integer homeGoals;
+    private Integer awayGoals;
+
+    // Constructors
+    public MatchResultDTO() {}
+
+    public MatchResultDTO(Long matchId, Integer homeGoals, Integer awayGoals) {
+        this.matchId = matchId;
+        this.homeGoals = homeGoals;
+        this.awayGoals = awayGoals;
+    }
+
+    // Getters and Setters
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    public Integer getHomeGoals() {
+        return homeGoals;
+    }
+
+    public void setHomeGoals(Integer homeGoals) {
+        this.homeGoals = homeGoals;
+    }
+
+    public Integer getAwayGoals() {
+        return awayGoals;
+    }
+
+    public void setAwayGoals(Integer awayGoals) {
+        this.awayGoals = awayGoals;
+    }
+}
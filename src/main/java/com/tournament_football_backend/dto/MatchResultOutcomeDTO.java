@@ -0,0 +1,69 @@
+package com.tournament_football_backend.dto;
+
+/**
+ * Data Transfer Object for the outcome of one item of a batch result update, in request order.
+ * An updated item carries the match as saved; a failed one the error code and message
+ * the single-result endpoint would have answered with.
+ */
+public class MatchResultOutcomeDTO {
+
+    public enum Status { UPDATED, FAILED }
+
+    private Long matchId;
+    private Status status;
+    private MatchDTO match;
+    private String errorCode;
+    private String message;
+
+    // Constructors
+    public MatchResultOutcomeDTO() {}
+
+    public MatchResultOutcomeDTO(Long matchId, Status status, MatchDTO match, String errorCode, String message) {
+        this.matchId = matchId;
+        this.status = status;
+        this.match = match;
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public MatchDTO getMatch() {
+        return match;
+    }
+
+    public void setMatch(MatchDTO match) {
+        this.match = match;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tournament_football_backend.dto;
+
+/**
+ * Data Transfer Object for one result of the full-text search, best matches first.
+ * The name is the tournament or team name, or the username for users.
+ */
+public class SearchHitDTO {
+
+    public enum Type { TEAM, TOURNAMENT, USER }
+
+    private Type type;
+    private Long id;
+    private String name;
+    private float score;
+
+    // Constructors
+    public SearchHitDTO() {}
+
+    public SearchHitDTO(Type type, Long id, String name, float score) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
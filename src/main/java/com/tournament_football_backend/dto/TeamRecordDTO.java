@@ -0,0 +1,103 @@
+package com.tournament_football_backend.dto;
+
+/**
+ * Data Transfer Object for the results of a team: over all its completed matches,
+ * or in one tournament when tournamentId and tournamentName are set.
+ */
+public class TeamRecordDTO {
+
+    private Long tournamentId;
+    private String tournamentName;
+    private int played;
+    private int won;
+    private int drawn;
+    private int lost;
+    private int goalsFor;
+    private int goalsAgainst;
+
+    // Constructors
+    public TeamRecordDTO() {}
+
+    // Used by the JPQL constructor projection in MatchRepository
+    public TeamRecordDTO(Long tournamentId, String tournamentName, Long played, Long won, Long drawn, Long lost,
+                         Long goalsFor, Long goalsAgainst) {
+        this.tournamentId = tournamentId;
+        this.tournamentName = tournamentName;
+        this.played = played.intValue();
+        this.won = won.intValue();
+        this.drawn = drawn.intValue();
+        this.lost = lost.intValue();
+        this.goalsFor = goalsFor.intValue();
+        this.goalsAgainst = goalsAgainst.intValue();
+    }
+
+    // Used by the JPQL constructor projection in MatchRepository, for records not split by tournament
+    public TeamRecordDTO(Long played, Long won, Long drawn, Long lost, Long goalsFor, Long goalsAgainst) {
+        this(null, null, played, won, drawn, lost, goalsFor, goalsAgainst);
+    }
+
+    // Getters and Setters
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public String getTournamentName() {
+        return tournamentName;
+    }
+
+    public void setTournamentName(String tournamentName) {
+        this.tournamentName = tournamentName;
+    }
+
+    public int getPlayed() {
+        return played;
+    }
+
+    public void setPlayed(int played) {
+        this.played = played;
+    }
+
+    public int getWon() {
+        return won;
+    }
+
+    public void setWon(int won) {
+        this.won = won;
+    }
+
+    public int getDrawn() {
+        return drawn;
+    }
+
+    public void setDrawn(int drawn) {
+        this.drawn = drawn;
+    }
+
+    public int getLost() {
+        return lost;
+    }
+
+    public void setLost(int lost) {
+        this.lost = lost;
+    }
+
+    public int getGoalsFor() {
+        return goalsFor;
+    }
+
+    public void setGoalsFor(int goalsFor) {
+        this.goalsFor = goalsFor;
+    }
+
+    public int getGoalsAgainst() {
+        return goalsAgainst;
+    }
+
+    public void setGoalsAgainst(int goalsAgainst) {
+        this.goalsAgainst = goalsAgainst;
+    }
+}
@@ -0,0 +1,70 @@
+package com.tournament_football_backend.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the statistics of a team: its overall record, its record in each tournament
+ * it played (by tournament id) and its form, the results of its latest completed matches as W, D or L,
+ * most recent first.
+ */
+public class TeamStatsDTO {
+
+    private Long teamId;
+    private String teamName;
+    private String form;
+    private TeamRecordDTO overall;
+    private List<TeamRecordDTO> tournaments;
+
+    // Constructors
+    public TeamStatsDTO() {}
+
+    public TeamStatsDTO(Long teamId, String teamName, String form, TeamRecordDTO overall,
+                        List<TeamRecordDTO> tournaments) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.form = form;
+        this.overall = overall;
+        this.tournaments = tournaments;
+    }
+
+    // Getters and Setters
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public void setTeamName(String teamName) {
+        this.teamName = teamName;
+    }
+
+    public String getForm() {
+        return form;
+    }
+
+    public void setForm(String form) {
+        this.form = form;
+    }
+
+    public TeamRecordDTO getOverall() {
+        return overall;
+    }
+
+    public void setOverall(TeamRecordDTO overall) {
+        this.overall = overall;
+    }
+
+    public List<TeamRecordDTO> getTournaments() {
+        return tournaments;
+    }
+
+    public void setTournaments(List<TeamRecordDTO> tournaments) {
+        this.tournaments = tournaments;
+    }
+}
@@ -44,6 +44,21 @@ public class TournamentDTO {
         this.endDate = endDate;
     }
 
+    // Used by the JPQL constructor projections in TournamentRepository
+    public TournamentDTO(Long id, String name, String description, LocalDate startDate, LocalDate endDate,
+                         Integer maxTeams, TournamentStatus status, LocalDateTime createdAt,
+                         int numberOfRegisteredTeams) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.maxTeams = maxTeams;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.numberOfRegisteredTeams = numberOfRegisteredTeams;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -2,11 +2,14 @@ package com.tournament_football_backend.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -111,6 +114,50 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    // Handles optimistic lock failures
+    // This is thrown when another request updated or deleted the same row between our read and our write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentModification(
+            OptimisticLockingFailureException ex, WebRequest request) {
+
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse("CONCURRENT_MODIFICATION",
+                "The resource was modified by another request, reload it and retry");
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // Handles transactions that could not get a database connection
+    // This is typically thrown when every pooled connection stays busy for the whole wait timeout
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(
+            CannotCreateTransactionException ex, WebRequest request) {
+
+        logger.warn("Database unavailable: {}", ex.getMostSpecificCause().getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse("DATABASE_BUSY", "Database temporarily unavailable, retry later");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    // Handles logins and registrations turned away by the password hashing pool
+    // This is thrown when every hashing thread is busy and the queue in front of them is full
+    @ExceptionHandler(UserExceptions.PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(
+            UserExceptions.PasswordHashingBusyException ex, WebRequest request) {
+
+        logger.warn("Password hashing busy: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(ex.getErrorCode(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     // Handles generic exceptions
     // This is a catch-all for any unexpected errors that occur
     // e.g., database errors, null pointer exceptions, etc.
@@ -138,6 +185,9 @@ public class GlobalExceptionHandler {
                 errorCode.contains("NOT_OPEN")) {
             return HttpStatus.CONFLICT;
         }
+        if (errorCode.equals("PRECONDITION_FAILED")) {
+            return HttpStatus.PRECONDITION_FAILED;
+        }
         if (errorCode.contains("UNAUTHORIZED")) {
             return HttpStatus.FORBIDDEN;
         }
@@ -28,4 +28,22 @@ public class MatchExceptions {
             super("Invalid match result", "INVALID_MATCH_RESULT");
         }
     }
+
+    public static class MatchTeamsNotSetException extends TournamentException {
+        public MatchTeamsNotSetException() {
+            super("Both teams must be known before the match result is recorded", "MATCH_TEAMS_NOT_SET");
+        }
+    }
+
+    public static class KnockoutDrawException extends TournamentException {
+        public KnockoutDrawException() {
+            super("A knockout match must have a winner", "INVALID_KNOCKOUT_RESULT");
+        }
+    }
+
+    public static class NextRoundAlreadyPlayedException extends TournamentException {
+        public NextRoundAlreadyPlayedException() {
+            super("The winner cannot change once the next round match has been played", "NEXT_ROUND_ALREADY_PLAYED");
+        }
+    }
 }
\ No newline at end of file
@@ -41,4 +41,22 @@ public class TournamentExceptions {
             super("Team is not registered in tournament", "TEAM_NOT_IN_TOURNAMENT");
         }
     }
+
+    public static class NotEnoughTeamsException extends TournamentException {
+        public NotEnoughTeamsException() {
+            super("At least two teams are needed to generate the fixtures", "NOT_ENOUGH_TEAMS");
+        }
+    }
+
+    public static class FixturesAlreadyExistException extends TournamentException {
+        public FixturesAlreadyExistException() {
+            super("Tournament already has matches", "FIXTURES_ALREADY_EXISTS");
+        }
+    }
+
+    public static class InvalidFixtureScheduleException extends TournamentException {
+        public InvalidFixtureScheduleException() {
+            super("Match days do not fit between the tournament start and end dates", "INVALID_FIXTURE_SCHEDULE");
+        }
+    }
 }
\ No newline at end of file
@@ -24,4 +24,10 @@ public class UserExceptions {
         }
     }
 
+    public static class PasswordHashingBusyException extends TournamentException {
+        public PasswordHashingBusyException() {
+            super("Too many logins and registrations in progress, retry later", "PASSWORD_HASHING_BUSY");
+        }
+    }
+
 }
\ No newline at end of file
@@ -22,4 +22,10 @@ public class ValidationExceptions {
             super("Invalid parameter: " + parameter, "INVALID_PARAMETER");
         }
     }
-}
\ No newline at end of file
+
+    public static class PreconditionFailedException extends TournamentException {
+        public PreconditionFailedException() {
+            super("The resource was modified since it was read", "PRECONDITION_FAILED");
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.tournament_football_backend.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
 /**
@@ -13,18 +15,25 @@ import java.time.LocalDateTime;
 @Table(name = "matches")
 public class Match {
 
+    // Ids come from a pooled table generator rather than AUTO_INCREMENT, so that inserts can be
+    // JDBC-batched (IDENTITY forces one round trip per row to read back the generated key)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "match_id")
+    @TableGenerator(name = "match_id", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "last_used_id", pkColumnValue = "matches", allocationSize = 50)
     private Long id;
 
-    @NotNull
+    // Optimistic lock, also the source of the ETags. Null until persisted: Spring Data tells new entities by it
+    @Version
+    private Long version;
+
+    // Null only for knockout matches whose teams are not known yet (TO_BE_SCHEDULED)
     @ManyToOne
-    @JoinColumn(name = "home_team_id", nullable = false)
+    @JoinColumn(name = "home_team_id")
     private Team homeTeam;
 
-    @NotNull
     @ManyToOne
-    @JoinColumn(name = "away_team_id", nullable = false)
+    @JoinColumn(name = "away_team_id")
     private Team awayTeam;
 
     @NotNull
@@ -50,6 +59,19 @@ public class Match {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Knockout bracket: round (1 = first round), position within the round, and the match the winner
+    // moves on to. The winner of position p takes the home slot of the next match if p is even, the away slot if odd
+    @Column(name = "bracket_round")
+    private Integer bracketRound;
+
+    @Column(name = "bracket_position")
+    private Integer bracketPosition;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "next_match_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Match nextMatch;
+
     public Match() {
         this.createdAt = LocalDateTime.now();
     }
@@ -73,6 +95,9 @@ public class Match {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public Team getHomeTeam() { return homeTeam; }
     public void setHomeTeam(Team homeTeam) { this.homeTeam = homeTeam; }
 
@@ -96,4 +121,13 @@ public class Match {
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Integer getBracketRound() { return bracketRound; }
+    public void setBracketRound(Integer bracketRound) { this.bracketRound = bracketRound; }
+
+    public Integer getBracketPosition() { return bracketPosition; }
+    public void setBracketPosition(Integer bracketPosition) { this.bracketPosition = bracketPosition; }
+
+    public Match getNextMatch() { return nextMatch; }
+    public void setNextMatch(Match nextMatch) { this.nextMatch = nextMatch; }
 }
\ No newline at end of file
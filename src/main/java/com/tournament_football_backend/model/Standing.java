@@ -0,0 +1,89 @@
+package com.tournament_football_backend.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Standing entity representing the league table row of a team in a tournament.
+ * The counters are maintained incrementally every time a match result is recorded,
+ * changed or removed, so the table can be read without aggregating the matches.
+ */
+@Entity
+@Table(name = "standings",
+        uniqueConstraints = @UniqueConstraint(name = "unique_tournament_team", columnNames = {"tournament_id", "team_id"}))
+public class Standing {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id", nullable = false)
+    private Tournament tournament;
+
+    @ManyToOne
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(nullable = false)
+    private int played;
+
+    @Column(nullable = false)
+    private int won;
+
+    @Column(nullable = false)
+    private int drawn;
+
+    @Column(nullable = false)
+    private int lost;
+
+    @Column(name = "goals_for", nullable = false)
+    private int goalsFor;
+
+    @Column(name = "goals_against", nullable = false)
+    private int goalsAgainst;
+
+    @Column(nullable = false)
+    private int points;
+
+    public Standing() {}
+
+    public Standing(Tournament tournament, Team team) {
+        this.tournament = tournament;
+        this.team = team;
+    }
+
+    public int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Tournament getTournament() { return tournament; }
+    public void setTournament(Tournament tournament) { this.tournament = tournament; }
+
+    public Team getTeam() { return team; }
+    public void setTeam(Team team) { this.team = team; }
+
+    public int getPlayed() { return played; }
+    public void setPlayed(int played) { this.played = played; }
+
+    public int getWon() { return won; }
+    public void setWon(int won) { this.won = won; }
+
+    public int getDrawn() { return drawn; }
+    public void setDrawn(int drawn) { this.drawn = drawn; }
+
+    public int getLost() { return lost; }
+    public void setLost(int lost) { this.lost = lost; }
+
+    public int getGoalsFor() { return goalsFor; }
+    public void setGoalsFor(int goalsFor) { this.goalsFor = goalsFor; }
+
+    public int getGoalsAgainst() { return goalsAgainst; }
+    public void setGoalsAgainst(int goalsAgainst) { this.goalsAgainst = goalsAgainst; }
+
+    public int getPoints() { return points; }
+    public void setPoints(int points) { this.points = points; }
+}
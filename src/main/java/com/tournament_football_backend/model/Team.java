@@ -3,6 +3,9 @@ package com.tournament_football_backend.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDateTime;
@@ -11,15 +14,23 @@ import java.util.Set;
 
 /* * Team entity representing a football team in the tournament system.
  * It contains fields for team name, creation date, and relationships with players and tournaments.
+ * Teams live in the second-level cache. Their rosters do not: the players are not cached (see User), so a
+ * cached roster would still load them one by one. Rosters are loaded in batches instead.
  */
 @Entity
 @Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Team {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic lock; roster changes increment it too, since the team owns the players association
+    @Version
+    private Long version;
+
     @NotBlank
     @Size(min = 2, max = 50)
     @Column(unique = true, nullable = false)
@@ -29,6 +40,7 @@ public class Team {
     private LocalDateTime createdAt;
 
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(
             name = "team_players",
             joinColumns = @JoinColumn(name = "team_id"),
@@ -58,6 +70,9 @@ public class Team {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
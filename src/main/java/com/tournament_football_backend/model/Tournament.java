@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDate;
@@ -14,15 +16,22 @@ import java.util.Set;
 /**
  * Tournament entity representing a football tournament in the system.
  * It contains fields for tournament name, description, dates, status, and relationships with teams and matches.
+ * Tournaments and their participating teams live in the second-level cache.
  */
 @Entity
 @Table(name = "tournaments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Tournament {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic lock; registrations increment it too, since the tournament owns the teams association
+    @Version
+    private Long version;
+
     @NotBlank
     @Size(min = 3, max = 100)
     @Column(nullable = false)
@@ -42,6 +51,10 @@ public class Tournament {
     @Column(name = "max_teams")
     private Integer maxTeams = 32;
 
+    // Rows of tournament_teams, maintained by the conditional updates of TournamentRepository only
+    @Column(name = "registered_teams", nullable = false, updatable = false)
+    private int registeredTeams;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TournamentStatus status = TournamentStatus.OPEN;
@@ -50,6 +63,7 @@ public class Tournament {
     private LocalDateTime createdAt;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "tournament_teams",
             joinColumns = @JoinColumn(name = "tournament_id"),
@@ -78,13 +92,16 @@ public class Tournament {
     }
 
     public boolean isFull() {
-        return participatingTeams.size() >= maxTeams;
+        return registeredTeams >= maxTeams;
     }
 
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
@@ -100,6 +117,9 @@ public class Tournament {
     public Integer getMaxTeams() { return maxTeams; }
     public void setMaxTeams(Integer maxTeams) { this.maxTeams = maxTeams; }
 
+    public int getRegisteredTeams() { return registeredTeams; }
+    public void setRegisteredTeams(int registeredTeams) { this.registeredTeams = registeredTeams; }
+
     public TournamentStatus getStatus() { return status; }
     public void setStatus(TournamentStatus status) { this.status = status; }
 
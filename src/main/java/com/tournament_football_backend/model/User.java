@@ -14,6 +14,7 @@ import java.util.Set;
  * User entity representing a user in the tournament system.
  * It contains fields for username, email, password, role, creation date,
  * and relationships with profile and teams.
+ * Not in the second-level cache, which would keep its password hash in memory.
  */
 @Entity
 @Table(name = "users")
@@ -23,6 +24,10 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic lock; profile updates increment it explicitly (the profile row is owned by Profile)
+    @Version
+    private Long version;
+
     @NotBlank
     @Size(min = 3, max = 50)
     @Column(unique = true, nullable = false)
@@ -34,7 +39,7 @@ public class User {
     private String email;
 
     @NotBlank
-    @Size(min = 6, max = 100)
+    @Size(min = 6, max = 255)
     @JsonIgnore
     @Column(nullable = false)
     private String password;
@@ -68,6 +73,9 @@ public class User {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
 
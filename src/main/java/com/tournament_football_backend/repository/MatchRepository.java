@@ -1,14 +1,23 @@
 package com.tournament_football_backend.repository;
 
+import com.tournament_football_backend.dto.HeadToHeadMatchDTO;
+import com.tournament_football_backend.dto.TeamRecordDTO;
 import com.tournament_football_backend.model.Match;
 import com.tournament_football_backend.model.MatchStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /* MatchRepository.java
  * This interface defines methods for accessing and manipulating Match entities in the database.
@@ -17,13 +26,114 @@ import java.util.List;
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
 
-    List<Match> findByTournamentId(Long tournamentId);
+    // Rows pulled from the driver per round trip while exporting
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Completed matches in the form of a team
+    int FORM_LENGTH = 5;
+
+    // The completed matches of a team as (tournament, goals for, goals against): one side per index range
+    String TEAM_RESULTS =
+            "SELECT m.tournament.id AS tournamentId, m.matchDate AS matchDate, m.id AS id, " +
+            "m.homeGoals AS goalsFor, m.awayGoals AS goalsAgainst " +
+            "FROM Match m WHERE m.homeTeam.id = :teamId AND m.status = 'COMPLETED' ";
+    String TEAM_AWAY_RESULTS =
+            "SELECT m.tournament.id, m.matchDate, m.id, m.awayGoals, m.homeGoals " +
+            "FROM Match m WHERE m.awayTeam.id = :teamId AND m.status = 'COMPLETED' ";
+
+    // Latest meetings in a head-to-head
+    int LAST_MEETINGS = 5;
+
+    // The completed matches of a team against an opponent, one direction each: both are read from the
+    // (home_team_id, away_team_id) index, with the teams swapped
+    String PAIR_RESULTS =
+            "SELECT m.id AS id, m.tournament.id AS tournamentId, m.matchDate AS matchDate, " +
+            "m.homeTeam.id AS homeTeamId, m.homeGoals AS homeGoals, m.awayGoals AS awayGoals, " +
+            "m.homeGoals AS goalsFor, m.awayGoals AS goalsAgainst " +
+            "FROM Match m WHERE m.homeTeam.id = :teamId AND m.awayTeam.id = :opponentId AND m.status = 'COMPLETED' ";
+    String PAIR_REVERSE_RESULTS =
+            "SELECT m.id, m.tournament.id, m.matchDate, m.homeTeam.id, m.homeGoals, m.awayGoals, " +
+            "m.awayGoals, m.homeGoals " +
+            "FROM Match m WHERE m.homeTeam.id = :opponentId AND m.awayTeam.id = :teamId AND m.status = 'COMPLETED' ";
+
+    // Filters on the foreign key column: the derived query would join tournaments to compare its id
+    @Query("SELECT m FROM Match m WHERE m.tournament.id = :tournamentId")
+    List<Match> findByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    boolean existsByTournamentId(Long tournamentId);
 
     List<Match> findByStatus(MatchStatus status);
 
-    @Query("SELECT m FROM Match m WHERE m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId")
+    // Keyset pages: rows after the cursor in id order, with teams and tournament fetched in the same statement.
+    // Teams are outer-joined so that knockout matches still waiting for their teams are listed too
+    @Query("SELECT m FROM Match m LEFT JOIN FETCH m.homeTeam LEFT JOIN FETCH m.awayTeam JOIN FETCH m.tournament " +
+            "WHERE m.id > :after ORDER BY m.id")
+    List<Match> findPageAfter(@Param("after") Long after, Limit limit);
+
+    @Query("SELECT m FROM Match m LEFT JOIN FETCH m.homeTeam LEFT JOIN FETCH m.awayTeam JOIN FETCH m.tournament " +
+            "WHERE m.status = :status AND m.id > :after ORDER BY m.id")
+    List<Match> findByStatusAfter(@Param("status") MatchStatus status, @Param("after") Long after, Limit limit);
+
+    /**
+     * Cursor over the matches to export, in id order. Null filters are ignored.
+     * The fetch size makes the driver hand rows over in chunks instead of buffering the whole result,
+     * and read-only loading spares Hibernate the dirty-checking snapshots.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Match m LEFT JOIN FETCH m.homeTeam LEFT JOIN FETCH m.awayTeam JOIN FETCH m.tournament WHERE " +
+            "(:tournamentId IS NULL OR m.tournament.id = :tournamentId) AND " +
+            "(:teamId IS NULL OR m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId) AND " +
+            "(:status IS NULL OR m.status = :status) AND " +
+            "(:start IS NULL OR m.matchDate >= :start) AND " +
+            "(:end IS NULL OR m.matchDate <= :end) " +
+            "ORDER BY m.id")
+    Stream<Match> streamForExport(@Param("tournamentId") Long tournamentId, @Param("teamId") Long teamId,
+                                  @Param("status") MatchStatus status,
+                                  @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // The whole knockout bracket of a tournament in one statement, round by round.
+    // The tournament is not fetched: joining it would move the filter onto its id instead of the indexed
+    // foreign key, and the one instance shared by all rows is a single lookup in the second-level cache
+    @Query("SELECT m FROM Match m LEFT JOIN FETCH m.homeTeam LEFT JOIN FETCH m.awayTeam " +
+            "WHERE m.tournament.id = :tournamentId AND m.bracketRound IS NOT NULL " +
+            "ORDER BY m.bracketRound, m.bracketPosition")
+    List<Match> findBracket(@Param("tournamentId") Long tournamentId);
+
+    // The matches of a batch of results in one statement, with what checking and advancing them reads.
+    // The next-round match is fetched too, so knockout results do not load it one match at a time
+    @Query("SELECT m FROM Match m LEFT JOIN FETCH m.homeTeam LEFT JOIN FETCH m.awayTeam JOIN FETCH m.tournament " +
+            "LEFT JOIN FETCH m.nextMatch WHERE m.id IN :ids")
+    List<Match> findForResultUpdate(@Param("ids") Collection<Long> ids);
+
+    // Versions behind the ETag of a match: its own, then the sum of its teams' and tournament's,
+    // whose names it embeds (see EntityTags)
+    @Query("SELECT CONCAT(CAST(m.version AS String), '.', " +
+            "CAST(t.version + COALESCE(h.version, 0) + COALESCE(a.version, 0) AS String)) " +
+            "FROM Match m JOIN m.tournament t LEFT JOIN m.homeTeam h LEFT JOIN m.awayTeam a WHERE m.id = :id")
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    // Versions behind the ETag of the match list of a tournament: row count, highest id, the sum of the
+    // versions of the matches and their teams, then the tournament's own. Empty if the tournament does not exist
+    @Query("SELECT CONCAT(CAST(COUNT(m) AS String), '.', CAST(COALESCE(MAX(m.id), 0) AS String), '.', " +
+            "CAST(COALESCE(SUM(m.version + COALESCE(h.version, 0) + COALESCE(a.version, 0)), 0) AS String), '.', " +
+            "CAST(t.version AS String)) " +
+            "FROM Tournament t LEFT JOIN t.matches m LEFT JOIN m.homeTeam h LEFT JOIN m.awayTeam a " +
+            "WHERE t.id = :tournamentId GROUP BY t.id, t.version")
+    Optional<String> findVersionTagByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // A union rather than OR, so that each side is served by the index on its team column
+    @Query("SELECT m FROM Match m WHERE m.homeTeam.id = :teamId " +
+            "UNION SELECT m FROM Match m WHERE m.awayTeam.id = :teamId")
     List<Match> findByTeamId(@Param("teamId") Long teamId);
 
+    @Query("SELECT m FROM Match m WHERE m.tournament.id = :tournamentId " +
+            "AND (m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId)")
+    List<Match> findByTournamentIdAndTeamId(@Param("tournamentId") Long tournamentId, @Param("teamId") Long teamId);
+
     @Query("SELECT m FROM Match m WHERE m.tournament.id = :tournamentId AND m.status = :status")
     List<Match> findByTournamentIdAndStatus(@Param("tournamentId") Long tournamentId, @Param("status") MatchStatus status);
 
@@ -42,4 +152,42 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
             "((m.homeTeam.id = :teamId AND m.homeGoals < m.awayGoals) OR " +
             "(m.awayTeam.id = :teamId AND m.awayGoals < m.homeGoals))")
     int countLossesByTeamInTournament(@Param("teamId") Long teamId, @Param("tournamentId") Long tournamentId);
+
+    // Record of a team in each tournament in one pass over its matches, by conditional aggregation
+    @Query("SELECT new com.tournament_football_backend.dto.TeamRecordDTO(t.id, t.name, COUNT(*), " +
+            "SUM(CASE WHEN r.goalsFor > r.goalsAgainst THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.goalsFor = r.goalsAgainst THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.goalsFor < r.goalsAgainst THEN 1 ELSE 0 END), " +
+            "SUM(r.goalsFor), SUM(r.goalsAgainst)) " +
+            "FROM (" + TEAM_RESULTS + "UNION ALL " + TEAM_AWAY_RESULTS + ") r " +
+            "JOIN Tournament t ON t.id = r.tournamentId " +
+            "GROUP BY t.id, t.name ORDER BY t.id")
+    List<TeamRecordDTO> findRecordsByTeam(@Param("teamId") Long teamId);
+
+    // W, D or L for the latest completed matches of a team, most recent first.
+    // Each side reads no more than FORM_LENGTH rows of its index, backwards
+    @Query("SELECT CASE WHEN r.goalsFor > r.goalsAgainst THEN 'W' WHEN r.goalsFor = r.goalsAgainst THEN 'D' ELSE 'L' END " +
+            "FROM ((" + TEAM_RESULTS + "ORDER BY m.matchDate DESC, m.id DESC LIMIT " + FORM_LENGTH + ") " +
+            "UNION ALL (" + TEAM_AWAY_RESULTS + "ORDER BY m.matchDate DESC, m.id DESC LIMIT " + FORM_LENGTH + ")) r " +
+            "ORDER BY r.matchDate DESC, r.id DESC LIMIT " + FORM_LENGTH)
+    List<String> findFormByTeam(@Param("teamId") Long teamId);
+
+    // Record of a team against an opponent over all their completed matches, from the team's side.
+    // Without GROUP BY there is always one row, zeros when they never met
+    @Query("SELECT new com.tournament_football_backend.dto.TeamRecordDTO(COUNT(*), " +
+            "COALESCE(SUM(CASE WHEN r.goalsFor > r.goalsAgainst THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN r.goalsFor = r.goalsAgainst THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN r.goalsFor < r.goalsAgainst THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(r.goalsFor), 0L), COALESCE(SUM(r.goalsAgainst), 0L)) " +
+            "FROM (" + PAIR_RESULTS + "UNION ALL " + PAIR_REVERSE_RESULTS + ") r")
+    TeamRecordDTO findHeadToHeadRecord(@Param("teamId") Long teamId, @Param("opponentId") Long opponentId);
+
+    // The latest completed matches between two teams, most recent first, with the name of their tournament
+    @Query("SELECT new com.tournament_football_backend.dto.HeadToHeadMatchDTO(" +
+            "r.id, t.id, t.name, r.matchDate, r.homeTeamId, r.homeGoals, r.awayGoals) " +
+            "FROM ((" + PAIR_RESULTS + "ORDER BY m.matchDate DESC, m.id DESC LIMIT " + LAST_MEETINGS + ") " +
+            "UNION ALL (" + PAIR_REVERSE_RESULTS + "ORDER BY m.matchDate DESC, m.id DESC LIMIT " + LAST_MEETINGS + ")) r " +
+            "JOIN Tournament t ON t.id = r.tournamentId " +
+            "ORDER BY r.matchDate DESC, r.id DESC LIMIT " + LAST_MEETINGS)
+    List<HeadToHeadMatchDTO> findLastMeetings(@Param("teamId") Long teamId, @Param("opponentId") Long opponentId);
 }
\ No newline at end of file
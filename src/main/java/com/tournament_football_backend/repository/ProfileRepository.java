@@ -2,6 +2,8 @@ package com.tournament_football_backend.repository;
 
 import com.tournament_football_backend.model.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,5 +13,6 @@ import java.util.Optional;
  */
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
-    Optional<Profile> findByUserId(Long userId);
+    @Query("SELECT p FROM Profile p WHERE p.user.id = :userId")
+    Optional<Profile> findByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
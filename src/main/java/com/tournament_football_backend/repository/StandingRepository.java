@@ -0,0 +1,40 @@
+package com.tournament_football_backend.repository;
+
+import com.tournament_football_backend.model.Standing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * StandingRepository.java
+ * This interface defines methods for reading and incrementally updating the standings table.
+ * The ranking read is served by the (tournament_id, team_id) unique index.
+ */
+@Repository
+public interface StandingRepository extends JpaRepository<Standing, Long> {
+
+    @Query("SELECT s FROM Standing s JOIN FETCH s.team WHERE s.tournament.id = :tournamentId " +
+            "ORDER BY s.points DESC, (s.goalsFor - s.goalsAgainst) DESC, s.goalsFor DESC, s.team.name ASC")
+    List<Standing> findRankingByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    boolean existsByTournamentIdAndTeamId(Long tournamentId, Long teamId);
+
+    @Modifying
+    @Query("UPDATE Standing s SET s.played = s.played + :played, s.won = s.won + :won, " +
+            "s.drawn = s.drawn + :drawn, s.lost = s.lost + :lost, " +
+            "s.goalsFor = s.goalsFor + :goalsFor, s.goalsAgainst = s.goalsAgainst + :goalsAgainst, " +
+            "s.points = s.points + :points " +
+            "WHERE s.tournament.id = :tournamentId AND s.team.id = :teamId")
+    int applyDelta(@Param("tournamentId") Long tournamentId, @Param("teamId") Long teamId,
+                   @Param("played") int played, @Param("won") int won, @Param("drawn") int drawn,
+                   @Param("lost") int lost, @Param("goalsFor") int goalsFor,
+                   @Param("goalsAgainst") int goalsAgainst, @Param("points") int points);
+
+    @Modifying
+    @Query("DELETE FROM Standing s WHERE s.tournament.id = :tournamentId AND s.team.id = :teamId")
+    int deleteByTournamentIdAndTeamId(@Param("tournamentId") Long tournamentId, @Param("teamId") Long teamId);
+}
@@ -1,11 +1,18 @@
 package com.tournament_football_backend.repository;
 
 import com.tournament_football_backend.model.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,15 +24,51 @@ import java.util.Optional;
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
+    // Cached query: invalidated by Hibernate whenever the teams table is written through it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Team> findByName(String name);
     boolean existsByName(String name);
 
-    @Query("SELECT t FROM Team t WHERE t.name LIKE %:keyword%")
-    List<Team> findByNameContaining(@Param("keyword") String keyword);
+    // Keyset pages: rows after the cursor in id order, served by a range scan on the primary key
+    @Query("SELECT t FROM Team t WHERE t.id > :after ORDER BY t.id")
+    List<Team> findPageAfter(@Param("after") Long after, Limit limit);
 
     @Query("SELECT t FROM Team t LEFT JOIN FETCH t.players WHERE t.id = :id")
     Optional<Team> findByIdWithPlayers(@Param("id") Long id);
 
     @Query("SELECT t FROM Team t JOIN t.players p WHERE p.id = :playerId")
     List<Team> findByPlayerId(@Param("playerId") Long playerId);
-}
\ No newline at end of file
+
+    // Versions behind the ETag of a team: its own, then the sum of its players' (see EntityTags)
+    @Query("SELECT CONCAT(CAST(t.version AS String), '.', CAST(COALESCE(SUM(p.version), 0) AS String)) " +
+            "FROM Team t LEFT JOIN t.players p WHERE t.id = :id GROUP BY t.id, t.version")
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    // Direct writes of the roster, without loading the players: the number of rows written.
+    // The primary key (team_id, user_id) turns a player already in the team into 0.
+    // Only the cached players collections are invalidated
+    @Modifying
+    @NativeQuery("INSERT IGNORE INTO team_players (team_id, user_id) VALUES (:teamId, :playerId)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_players"))
+    int insertPlayer(@Param("teamId") Long teamId, @Param("playerId") Long playerId);
+
+    @Modifying
+    @NativeQuery("DELETE FROM team_players WHERE team_id = :teamId AND user_id = :playerId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_players"))
+    int deletePlayer(@Param("teamId") Long teamId, @Param("playerId") Long playerId);
+
+    // Many players in one statement; ids of users that do not exist, and players already in the team, add no row
+    @Modifying
+    @NativeQuery("INSERT IGNORE INTO team_players (team_id, user_id) " +
+            "SELECT t.id, u.id FROM teams t, users u WHERE t.id = :teamId AND u.id IN (:playerIds)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_players"))
+    int insertPlayers(@Param("teamId") Long teamId, @Param("playerIds") Collection<Long> playerIds);
+
+    // The roster is part of the ETag of the team: the direct writes above move its version themselves.
+    // Native, with a query space of its own, so Hibernate evicts no cache region: the caller evicts the
+    // one cached team (ReferenceDataCache)
+    @Modifying
+    @NativeQuery("UPDATE teams SET version = version + 1 WHERE id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "teams.version"))
+    int incrementVersion(@Param("id") Long id);
+}
@@ -1,13 +1,21 @@
 package com.tournament_football_backend.repository;
 
+import com.tournament_football_backend.dto.TournamentDTO;
 import com.tournament_football_backend.model.Tournament;
 import com.tournament_football_backend.model.TournamentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,23 +27,113 @@ import java.util.Optional;
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
 
+    // Constructor projection shared by the read paths: the number of registered teams is the counter
+    // column, so no collection is initialized or counted while building the DTOs
+    String SUMMARY_QUERY = "SELECT new com.tournament_football_backend.dto.TournamentDTO(" +
+            "t.id, t.name, t.description, t.startDate, t.endDate, t.maxTeams, t.status, t.createdAt, " +
+            "t.registeredTeams) FROM Tournament t ";
+
+    // Cached query: invalidated by Hibernate whenever the tournaments table is written through it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tournament> findByStatus(TournamentStatus status);
     List<Tournament> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
     List<Tournament> findByStartDateAfter(LocalDate date);
     List<Tournament> findByEndDateBefore(LocalDate date);
 
-    @Query("SELECT t FROM Tournament t WHERE t.name LIKE %:keyword%")
-    List<Tournament> findByNameContaining(@Param("keyword") String keyword);
-
     @Query("SELECT t FROM Tournament t LEFT JOIN FETCH t.participatingTeams WHERE t.id = :id")
     Optional<Tournament> findByIdWithTeams(@Param("id") Long id);
 
+    // Membership answered by one row of tournament_teams, found through its primary key
+    boolean existsByIdAndParticipatingTeamsId(Long id, Long teamId);
+
     @Query("SELECT t FROM Tournament t LEFT JOIN FETCH t.matches WHERE t.id = :id")
     Optional<Tournament> findByIdWithMatches(@Param("id") Long id);
 
+    // Versions behind the ETag of a tournament: its own, then the sum of its registered teams' (see EntityTags)
+    @Query("SELECT CONCAT(CAST(t.version AS String), '.', CAST(COALESCE(SUM(pt.version), 0) AS String)) " +
+            "FROM Tournament t LEFT JOIN t.participatingTeams pt WHERE t.id = :id GROUP BY t.id, t.version")
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
     @Query("SELECT t FROM Tournament t JOIN t.participatingTeams pt WHERE pt.id = :teamId")
     List<Tournament> findByParticipatingTeamId(@Param("teamId") Long teamId);
 
     @Query("SELECT COUNT(pt) FROM Tournament t JOIN t.participatingTeams pt WHERE t.id = :tournamentId")
     int countTeamsByTournamentId(@Param("tournamentId") Long tournamentId);
-}
\ No newline at end of file
+
+    /**
+     * Takes a place in an open tournament that is not full: 1 if taken, 0 otherwise.
+     * The check and the increment are one statement, and its row lock makes concurrent registrations
+     * wait for each other, so every one sees the count left by the previous one.
+     * The version moves with the registered teams, as the ETag of the tournament covers them.
+     * Native, with a query space of its own: no cached query filters on these two columns, so Hibernate has
+     * nothing to invalidate, and the caller evicts the one cached tournament (ReferenceDataCache).
+     * A JPQL update, or the tournaments space, would evict every cached tournament and their teams.
+     */
+    @Modifying
+    @NativeQuery("UPDATE tournaments SET registered_teams = registered_teams + 1, version = version + 1 " +
+            "WHERE id = :id AND status = 'OPEN' AND registered_teams < max_teams")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournaments.registered_teams"))
+    int takeRegistrationPlace(@Param("id") Long id);
+
+    @Modifying
+    @NativeQuery("UPDATE tournaments SET registered_teams = registered_teams - 1, version = version + 1 " +
+            "WHERE id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournaments.registered_teams"))
+    int releaseRegistrationPlace(@Param("id") Long id);
+
+    // Before deleting a team, whose tournament_teams rows go with it through the foreign key cascade
+    @Modifying
+    @NativeQuery("UPDATE tournaments SET registered_teams = registered_teams - 1, version = version + 1 " +
+            "WHERE id IN (SELECT tournament_id FROM tournament_teams WHERE team_id = :teamId)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournaments"))
+    int releaseRegistrationPlacesOfTeam(@Param("teamId") Long teamId);
+
+    // Direct writes of the join table, without loading the participating teams: 1 if the row was written.
+    // The primary key (tournament_id, team_id) turns a second registration of the same team into 0.
+    // Only the cached participatingTeams collections are invalidated
+    @Modifying
+    @NativeQuery("INSERT IGNORE INTO tournament_teams (tournament_id, team_id) VALUES (:tournamentId, :teamId)")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournament_teams"))
+    int insertTeam(@Param("tournamentId") Long tournamentId, @Param("teamId") Long teamId);
+
+    @Modifying
+    @NativeQuery("DELETE FROM tournament_teams WHERE tournament_id = :tournamentId AND team_id = :teamId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournament_teams"))
+    int deleteTeam(@Param("tournamentId") Long tournamentId, @Param("teamId") Long teamId);
+
+    // Keyset pages: rows after the cursor in id order, served by a range scan on the primary key
+    @Query(SUMMARY_QUERY + "WHERE t.id > :after ORDER BY t.id")
+    List<TournamentDTO> findSummariesAfter(@Param("after") Long after, Limit limit);
+
+    @Query(SUMMARY_QUERY + "WHERE t.id = :id")
+    Optional<TournamentDTO> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_QUERY + "WHERE t.status = :status AND t.id > :after ORDER BY t.id")
+    List<TournamentDTO> findSummariesByStatusAfter(@Param("status") TournamentStatus status,
+                                                   @Param("after") Long after, Limit limit);
+
+    @Query(SUMMARY_QUERY + "WHERE t.startDate > :date ORDER BY t.id")
+    List<TournamentDTO> findSummariesByStartDateAfter(@Param("date") LocalDate date);
+
+    // Rows of the ids found by the search index
+    @Query(SUMMARY_QUERY + "WHERE t.id IN :ids ORDER BY t.id")
+    List<TournamentDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_QUERY + "JOIN t.participatingTeams filter WHERE filter.id = :teamId ORDER BY t.id")
+    List<TournamentDTO> findSummariesByParticipatingTeamId(@Param("teamId") Long teamId);
+
+    // Loads the participating teams of many tournaments at once, with the roster size counted in SQL
+    @Query("SELECT t.id AS tournamentId, pt.id AS id, pt.name AS name, SIZE(pt.players) AS numberOfPlayers " +
+            "FROM Tournament t JOIN t.participatingTeams pt WHERE t.id IN :tournamentIds")
+    List<ParticipatingTeamView> findParticipatingTeams(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    /**
+     * Projection of a participating team together with the tournament it is registered in.
+     */
+    interface ParticipatingTeamView {
+        Long getTournamentId();
+        Long getId();
+        String getName();
+        int getNumberOfPlayers();
+    }
+}
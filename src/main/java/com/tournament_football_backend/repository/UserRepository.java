@@ -2,11 +2,16 @@ package com.tournament_football_backend.repository;
 
 import com.tournament_football_backend.model.User;
 import com.tournament_football_backend.model.Role;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,10 +28,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     List<User> findByRole(Role role);
+    long countByIdIn(Collection<Long> ids);
 
-    @Query("SELECT u FROM User u WHERE u.username LIKE %:keyword% OR u.email LIKE %:keyword%")
-    List<User> findByUsernameContainingOrEmailContaining(@Param("keyword") String keyword);
+    // Keyset pages: rows after the cursor in id order, served by a range scan on the primary key
+    @Query("SELECT u FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<User> findPageAfter(@Param("after") Long after, Limit limit);
 
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.id = :id")
     Optional<User> findByIdWithProfile(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // For a profile update: the profile row is not part of the user, so the user's version is incremented
+    // explicitly at commit (and checked, so a concurrent update of the user fails instead of being lost).
+    // The profile is not fetched here, the lock mode would apply to it too and it has no version
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForProfileUpdate(@Param("id") Long id);
+
+    // Version behind the ETag of a user (see EntityTags)
+    @Query("SELECT CAST(u.version AS String) FROM User u WHERE u.id = :id")
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    // Rehash after a login, written only over the hash that was just verified. It leaves the version alone:
+    // the hash is not part of the user's ETag, and concurrent logins must not fail on each other's rehash
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.username = :username AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("username") String username, @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+}
@@ -0,0 +1,41 @@
+package com.tournament_football_backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BracketSeeding.java
+ * Places seeded teams in a single-elimination bracket sized to the next power of two.
+ * Seeds are spread so that 1 and 2 can only meet in the final, 1-4 in the semi-finals and so on;
+ * the missing seeds are byes, which always fall against the top seeds.
+ */
+final class BracketSeeding {
+
+    private BracketSeeding() {}
+
+    static int bracketSize(int teams) {
+        return Integer.highestOneBit(teams - 1) << 1;
+    }
+
+    /**
+     * Seed numbers (1-based) in bracket order: positions 2p and 2p+1 meet in first-round match p.
+     * For 8 slots: 1, 8, 4, 5, 2, 7, 3, 6.
+     */
+    static List<Integer> seedOrder(int bracketSize) {
+        List<Integer> order = List.of(1, 2);
+        for (int slots = 4; slots <= bracketSize; slots *= 2) {
+            List<Integer> next = new ArrayList<>(slots);
+            for (int seed : order) {
+                next.add(seed);
+                next.add(slots + 1 - seed);
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    // Number of rounds needed to get from the bracket size down to the final
+    static int rounds(int bracketSize) {
+        return Integer.numberOfTrailingZeros(bracketSize);
+    }
+}
@@ -0,0 +1,57 @@
+package com.tournament_football_backend.service;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.tournament_football_backend.exception.ValidationExceptions.*;
+
+/**
+ * EntityTags.java
+ * HTTP entity tags (ETags) built from the @Version columns, so that a conditional request is
+ * answered from one small version query instead of loading and serializing the resource.
+ *
+ * The versions are read by the repositories (findVersionTagById and friends): the resource's own version
+ * followed by the sum of the versions of what its representation embeds, such as the team names of a match.
+ * Versions only grow, and replacing an embedded entity changes the owner's own version, so any change of the
+ * representation changes the tag. Collection tags also carry the row count and the highest id, which catch
+ * rows added or removed.
+ *
+ * Tags are weak (W/"..."): they name a version of the resource, not the bytes of one response, which differ
+ * with ?fields= and gzip. Tomcat does not compress a response that carries a strong tag.
+ */
+public final class EntityTags {
+
+    private EntityTags() {}
+
+    public static String of(String resource, Long id, String versions) {
+        return "W/\"" + resource + "-" + id + "-" + versions + "\"";
+    }
+
+    /**
+     * Enforces an If-Match precondition inside the transaction of the write it guards.
+     * Without the header the write is unconditional; "*" only asks for the resource to exist. A resource
+     * that does not exist is left to the caller, which answers not found as it would without the header.
+     */
+    public static void checkIfMatch(String ifMatch, Supplier<Optional<String>> currentTag) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return;
+        }
+
+        Optional<String> current = currentTag.get();
+        if (current.isEmpty()) {
+            return;
+        }
+        // The tags are compared without their weak prefix, so clients can send back the ETag of a GET as is
+        String opaqueTag = opaque(current.get());
+        for (String tag : ifMatch.split(",")) {
+            if (opaque(tag.trim()).equals(opaqueTag)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException();
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,249 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.MatchDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LiveScoreBus.java
+ * In-memory fan-out of match updates to the Server-Sent Events subscribers of the live feeds.
+ *
+ * Publishing never waits for a client: an update is put in the buffer of every matching subscriber and
+ * a virtual thread is started to deliver it only for subscribers that are not already being written to,
+ * so a connection costs a thread only while it has something to receive, and a slow client holds up no
+ * one but itself. Buffers keep the latest state of each match: a newer update of the same match
+ * replaces the one still waiting (coalescing), and past the buffer size the oldest match is dropped,
+ * after which the client receives an "overflow" event telling it to reload.
+ *
+ * Heartbeat comments keep idle connections open through proxies and reveal the clients that went away.
+ */
+@Service
+public class LiveScoreBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreBus.class);
+
+    static final String MATCH_EVENT = "match";
+    static final String OVERFLOW_EVENT = "overflow";
+
+    @Value("${live.subscriber-buffer:32}")
+    private int bufferSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Registers the emitter for the updates of one match, of one tournament or of every match
+     * (null filters mean any) and sends it the snapshot first.
+     * The snapshot is read once the subscriber is registered, so an update committed in between is in the
+     * snapshot, in the feed or in both; if the snapshot cannot be read, the subscriber is removed again.
+     */
+    public SseEmitter subscribe(SseEmitter emitter, Long tournamentId, Long matchId,
+                                Supplier<List<MatchDTO>> snapshot) {
+        Subscriber subscriber = new Subscriber(emitter, tournamentId, matchId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+        try {
+            subscriber.offerSnapshot(snapshot.get());
+        } catch (RuntimeException e) {
+            subscribers.remove(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * Delivers the update once the current transaction commits (immediately without one),
+     * so a rolled back change is never shown.
+     */
+    public void publish(MatchDTO match) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanOut(match);
+                }
+            });
+        } else {
+            fanOut(match);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${live.heartbeat-interval:15s}", initialDelayString = "${live.heartbeat-interval:15s}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::heartbeat);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    private void fanOut(MatchDTO match) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(match)) {
+                subscriber.offer(match);
+            }
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long tournamentId;
+        private final Long matchId;
+
+        // Latest pending state of each match, oldest first; guarded by itself
+        private final Map<Long, MatchDTO> pending = new LinkedHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private int dropped;
+        private boolean heartbeatDue;
+        // Matches updated while the snapshot was read, whose update is at least as recent; null afterwards
+        private Set<Long> updatedBeforeSnapshot = new HashSet<>();
+
+        Subscriber(SseEmitter emitter, Long tournamentId, Long matchId) {
+            this.emitter = emitter;
+            this.tournamentId = tournamentId;
+            this.matchId = matchId;
+        }
+
+        boolean accepts(MatchDTO match) {
+            return (tournamentId == null || tournamentId.equals(match.getTournamentId()))
+                    && (matchId == null || matchId.equals(match.getId()));
+        }
+
+        void offer(MatchDTO match) {
+            synchronized (pending) {
+                if (updatedBeforeSnapshot != null) {
+                    updatedBeforeSnapshot.add(match.getId());
+                }
+                enqueue(match);
+            }
+            schedule();
+        }
+
+        // Coalescing would let the snapshot state of a match replace a newer update still waiting
+        void offerSnapshot(List<MatchDTO> snapshot) {
+            synchronized (pending) {
+                snapshot.stream()
+                        .filter(match -> !updatedBeforeSnapshot.contains(match.getId()))
+                        .forEach(this::enqueue);
+                updatedBeforeSnapshot = null;
+            }
+            schedule();
+        }
+
+        // Called holding the pending lock
+        private void enqueue(MatchDTO match) {
+            // Re-inserted, so the coalesced update takes the place of the newest
+            pending.remove(match.getId());
+            pending.put(match.getId(), match);
+            if (pending.size() > bufferSize) {
+                Iterator<Long> oldest = pending.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+                dropped++;
+            }
+        }
+
+        void heartbeat() {
+            synchronized (pending) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        // Runs on one virtual thread at a time per subscriber, until nothing is left to send
+        private void send() {
+            try {
+                while (true) {
+                    SseEmitter.SseEventBuilder event = next();
+                    if (event == null) {
+                        sending.set(false);
+                        // An offer made after next() found nothing but before the flag was cleared
+                        if (isIdle() || !sending.compareAndSet(false, true)) {
+                            return;
+                        }
+                        continue;
+                    }
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed
+                logger.debug("Dropping live score subscriber: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+
+        private SseEmitter.SseEventBuilder next() {
+            synchronized (pending) {
+                if (dropped > 0) {
+                    SseEmitter.SseEventBuilder overflow = SseEmitter.event()
+                            .name(OVERFLOW_EVENT)
+                            .data(Map.of("dropped", dropped), MediaType.APPLICATION_JSON);
+                    dropped = 0;
+                    return overflow;
+                }
+                Iterator<MatchDTO> iterator = pending.values().iterator();
+                if (iterator.hasNext()) {
+                    MatchDTO match = iterator.next();
+                    iterator.remove();
+                    heartbeatDue = false;
+                    return SseEmitter.event()
+                            .id(String.valueOf(sequence.incrementAndGet()))
+                            .name(MATCH_EVENT)
+                            .data(match, MediaType.APPLICATION_JSON);
+                }
+                if (heartbeatDue) {
+                    heartbeatDue = false;
+                    return SseEmitter.event().comment("heartbeat");
+                }
+                return null;
+            }
+        }
+
+        private boolean isIdle() {
+            synchronized (pending) {
+                return pending.isEmpty() && dropped == 0 && !heartbeatDue;
+            }
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.tournament_football_backend.service;
 
+import com.tournament_football_backend.dto.BracketDTO;
 import com.tournament_football_backend.dto.CreateMatchDTO;
+import com.tournament_football_backend.dto.GenerateBracketDTO;
+import com.tournament_football_backend.dto.GenerateFixturesDTO;
 import com.tournament_football_backend.dto.MatchDTO;
+import com.tournament_football_backend.dto.MatchResultDTO;
+import com.tournament_football_backend.dto.MatchResultOutcomeDTO;
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.UpdateMatchDTO;
+import com.tournament_football_backend.exception.TournamentException;
 import com.tournament_football_backend.model.Match;
 import com.tournament_football_backend.model.Team;
 import com.tournament_football_backend.model.MatchStatus;
@@ -10,14 +17,32 @@ import com.tournament_football_backend.model.Tournament;
 import com.tournament_football_backend.repository.MatchRepository;
 import com.tournament_football_backend.repository.TeamRepository;
 import com.tournament_football_backend.repository.TournamentRepository;
+import com.tournament_football_backend.service.RoundRobinScheduler.Pairing;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.tournament_football_backend.exception.MatchExceptions.*;
 import static com.tournament_football_backend.exception.TeamExceptions.*;
@@ -30,8 +55,18 @@ import static com.tournament_football_backend.exception.ValidationExceptions.*;
  */
 @Service
 @Transactional
+@Timed("service.method")
 public class MatchService {
 
+    // Exported entities are detached in batches, one fetch worth of rows at a time
+    public static final int EXPORT_CLEAR_INTERVAL = MatchRepository.EXPORT_FETCH_SIZE;
+
+    // Largest number of results accepted by one batch update
+    public static final int MAX_RESULT_BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Autowired
     private MatchRepository matchRepository;
 
@@ -41,17 +76,38 @@ public class MatchService {
     @Autowired
     private TournamentRepository tournamentRepository;
 
-    public List<MatchDTO> getAllMatches() {
-        return matchRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private LiveScoreBus liveScoreBus;
+
+    @Transactional(readOnly = true)
+    public PageDTO<MatchDTO> getAllMatches(Long after, int limit) {
+        int size = Pagination.size(limit);
+        List<Match> rows = matchRepository.findPageAfter(Pagination.start(after), Pagination.fetchLimit(size));
+        return Pagination.toPage(rows, size, Match::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public Optional<MatchDTO> getMatchById(Long id) {
         return matchRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    // ETag of the match, read without loading it; empty if it does not exist
+    @Transactional(readOnly = true)
+    public Optional<String> getMatchTag(Long id) {
+        return matchRepository.findVersionTagById(id).map(versions -> EntityTags.of("match", id, versions));
+    }
+
+    // ETag of the match list of a tournament; empty if the tournament does not exist
+    @Transactional(readOnly = true)
+    public Optional<String> getTournamentMatchesTag(Long tournamentId) {
+        return matchRepository.findVersionTagByTournamentId(tournamentId)
+                .map(versions -> EntityTags.of("tournament-matches", tournamentId, versions));
+    }
+
     public MatchDTO createMatch(CreateMatchDTO createMatchDTO) {
         // Validate teams exist
         Team homeTeam = teamRepository.findById(createMatchDTO.getHomeTeamId())
@@ -68,8 +124,9 @@ public class MatchService {
             throw new SameTeamMatchException();
         }
 
-        if (!tournament.getParticipatingTeams().contains(homeTeam) ||
-                !tournament.getParticipatingTeams().contains(awayTeam)) {
+        // Two lookups of tournament_teams, instead of loading every participating team
+        if (!tournamentRepository.existsByIdAndParticipatingTeamsId(tournament.getId(), homeTeam.getId()) ||
+                !tournamentRepository.existsByIdAndParticipatingTeamsId(tournament.getId(), awayTeam.getId())) {
             throw new TeamsNotInTournamentException();
         }
 
@@ -89,10 +146,78 @@ public class MatchService {
         match.setStatus(createMatchDTO.getStatus() != null ? createMatchDTO.getStatus() : MatchStatus.SCHEDULED);
 
         Match savedMatch = matchRepository.save(match);
+        standingsService.applyResultChange(null, MatchOutcome.of(savedMatch));
         return convertToDTO(savedMatch);
     }
 
+    /**
+     * Generates the whole round-robin schedule of a tournament from its participating teams.
+     * Match days start on the tournament start date and must all fall within its end date.
+     * The matches are inserted in JDBC batches within this single transaction.
+     */
+    public List<MatchDTO> generateFixtures(Long tournamentId, GenerateFixturesDTO generateFixturesDTO) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(TournamentNotFoundException::new);
+
+        if (matchRepository.existsByTournamentId(tournamentId)) {
+            throw new FixturesAlreadyExistException();
+        }
+
+        // Sorted so the same teams always produce the same schedule
+        List<Team> teams = tournament.getParticipatingTeams().stream()
+                .sorted(Comparator.comparing(Team::getId))
+                .collect(Collectors.toList());
+        if (teams.size() < 2) {
+            throw new NotEnoughTeamsException();
+        }
+
+        int legs = generateFixturesDTO.getLegs() != null ? generateFixturesDTO.getLegs() : 1;
+        List<List<Pairing<Team>>> rounds = RoundRobinScheduler.rounds(teams, legs);
+        int spacing = roundSpacing(tournament, rounds.size(), generateFixturesDTO.getDaysBetweenRounds());
+        LocalTime kickOff = generateFixturesDTO.getKickOffTime() != null
+                ? generateFixturesDTO.getKickOffTime() : GenerateFixturesDTO.DEFAULT_KICK_OFF;
+
+        List<Match> matches = new ArrayList<>();
+        for (int round = 0; round < rounds.size(); round++) {
+            LocalDateTime matchDate = tournament.getStartDate().plusDays((long) round * spacing).atTime(kickOff);
+            for (Pairing<Team> pairing : rounds.get(round)) {
+                Match match = new Match();
+                match.setHomeTeam(pairing.getHome());
+                match.setAwayTeam(pairing.getAway());
+                match.setTournament(tournament);
+                match.setMatchDate(matchDate);
+                match.setStatus(MatchStatus.SCHEDULED);
+                matches.add(match);
+            }
+        }
+
+        // Scheduled matches carry no result, so the standings are left untouched
+        return matchRepository.saveAll(matches).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Without an explicit spacing the match days are spread evenly over the tournament dates
+    private int roundSpacing(Tournament tournament, int rounds, Integer daysBetweenRounds) {
+        if (rounds == 1) {
+            return 0;
+        }
+
+        long availableDays = ChronoUnit.DAYS.between(tournament.getStartDate(), tournament.getEndDate());
+        long spacing = daysBetweenRounds != null ? daysBetweenRounds : availableDays / (rounds - 1);
+        if (spacing < 1 || spacing * (rounds - 1) > availableDays) {
+            throw new InvalidFixtureScheduleException();
+        }
+        return (int) spacing;
+    }
+
     public Optional<MatchDTO> updateMatch(Long id, UpdateMatchDTO updateMatchDTO) {
+        return updateMatch(id, updateMatchDTO, null);
+    }
+
+    // Conditional version for If-Match requests, checked in the same transaction as the write
+    public Optional<MatchDTO> updateMatch(Long id, UpdateMatchDTO updateMatchDTO, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getMatchTag(id));
         return matchRepository.findById(id)
                 .map(match -> {
                     // Validate scores
@@ -101,6 +226,8 @@ public class MatchService {
                         throw new InvalidMatchResultException();
                     }
 
+                    MatchOutcome previous = MatchOutcome.of(match);
+
                     // Update fields
                     if (updateMatchDTO.getMatchDate() != null)
                         match.setMatchDate(updateMatchDTO.getMatchDate());
@@ -111,34 +238,329 @@ public class MatchService {
                     if (updateMatchDTO.getStatus() != null)
                         match.setStatus(updateMatchDTO.getStatus());
 
-                    return convertToDTO(matchRepository.save(match));
+                    if (match.getStatus() == MatchStatus.COMPLETED) {
+                        requireTeams(match);
+                    }
+
+                    Match savedMatch = matchRepository.save(match);
+                    standingsService.applyResultChange(previous, MatchOutcome.of(savedMatch));
+                    advanceWinner(savedMatch);
+                    MatchDTO dto = convertToDTO(savedMatch);
+                    liveScoreBus.publish(dto);
+                    return dto;
                 });
     }
 
     public Optional<MatchDTO> updateResult(Long id, Integer homeGoals, Integer awayGoals) {
+        return updateResult(id, homeGoals, awayGoals, null);
+    }
+
+    public Optional<MatchDTO> updateResult(Long id, Integer homeGoals, Integer awayGoals, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getMatchTag(id));
         if (homeGoals < 0 || awayGoals < 0) {
             throw new InvalidMatchResultException();
         }
 
         return matchRepository.findById(id)
                 .map(match -> {
+                    requireTeams(match);
+                    MatchOutcome previous = MatchOutcome.of(match);
+
                     match.setHomeGoals(homeGoals);
                     match.setAwayGoals(awayGoals);
                     match.setStatus(MatchStatus.COMPLETED);
 
-                    return convertToDTO(matchRepository.save(match));
+                    Match savedMatch = matchRepository.save(match);
+                    standingsService.applyResultChange(previous, MatchOutcome.of(savedMatch));
+                    advanceWinner(savedMatch);
+                    MatchDTO dto = convertToDTO(savedMatch);
+                    liveScoreBus.publish(dto);
+                    return dto;
                 });
     }
 
-    public boolean deleteMatch(Long id) {
-        if (!matchRepository.existsById(id)) {
+    /**
+     * Records a batch of final scores in one transaction, for match days when they all come in together.
+     * The matches are loaded with a single query and the items are checked as updateResult checks them,
+     * in request order, so a semi-final listed before its final can send its winner there. An invalid item
+     * fails on its own and leaves its match untouched; the others are applied.
+     * Changed matches are written at commit as batched UPDATEs, and the standings are updated once for the
+     * whole batch instead of once per match.
+     */
+    public List<MatchResultOutcomeDTO> updateResults(List<MatchResultDTO> results) {
+        if (results == null || results.size() > MAX_RESULT_BATCH_SIZE) {
+            throw new InvalidParameterException("results");
+        }
+
+        Set<Long> ids = results.stream()
+                .filter(Objects::nonNull)
+                .map(MatchResultDTO::getMatchId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Match> matches = ids.isEmpty() ? Map.of() : matchRepository.findForResultUpdate(ids).stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+
+        // Outcome of every changed match before the batch, in the order they were first changed
+        Map<Long, MatchOutcome> before = new LinkedHashMap<>();
+        List<MatchResultOutcomeDTO> outcomes = new ArrayList<>(results.size());
+        for (MatchResultDTO result : results) {
+            Long matchId = result != null ? result.getMatchId() : null;
+            try {
+                Match match = applyResult(matches, result, before);
+                outcomes.add(new MatchResultOutcomeDTO(matchId, MatchResultOutcomeDTO.Status.UPDATED,
+                        convertToDTO(match), null, null));
+            } catch (TournamentException e) {
+                outcomes.add(new MatchResultOutcomeDTO(matchId, MatchResultOutcomeDTO.Status.FAILED,
+                        null, e.getErrorCode(), e.getMessage()));
+            }
+        }
+
+        if (!before.isEmpty()) {
+            List<MatchOutcome> after = before.keySet().stream()
+                    .map(id -> MatchOutcome.of(matches.get(id)))
+                    .toList();
+            standingsService.applyResultChanges(before.values(), after);
+            before.keySet().forEach(id -> liveScoreBus.publish(convertToDTO(matches.get(id))));
+        }
+        return outcomes;
+    }
+
+    private Match applyResult(Map<Long, Match> matches, MatchResultDTO result, Map<Long, MatchOutcome> before) {
+        // A null item or one without a match fails on its own, like any other invalid item
+        if (result == null || result.getMatchId() == null) {
+            throw new InvalidParameterException("matchId");
+        }
+        Integer homeGoals = result.getHomeGoals();
+        Integer awayGoals = result.getAwayGoals();
+        if (homeGoals == null || awayGoals == null || homeGoals < 0 || awayGoals < 0) {
+            throw new InvalidMatchResultException();
+        }
+        Match match = matches.get(result.getMatchId());
+        if (match == null) {
             throw new MatchNotFoundException();
         }
+        requireTeams(match);
+
+        MatchOutcome previous = MatchOutcome.of(match);
+        MatchStatus previousStatus = match.getStatus();
+        Integer previousHomeGoals = match.getHomeGoals();
+        Integer previousAwayGoals = match.getAwayGoals();
+
+        match.setHomeGoals(homeGoals);
+        match.setAwayGoals(awayGoals);
+        match.setStatus(MatchStatus.COMPLETED);
+        try {
+            advanceWinner(match);
+        } catch (TournamentException e) {
+            // Thrown before anything was placed in the next round: only the score has to be put back
+            match.setHomeGoals(previousHomeGoals);
+            match.setAwayGoals(previousAwayGoals);
+            match.setStatus(previousStatus);
+            throw e;
+        }
+
+        before.putIfAbsent(match.getId(), previous);
+        return match;
+    }
+
+    private void requireTeams(Match match) {
+        if (match.getHomeTeam() == null || match.getAwayTeam() == null) {
+            throw new MatchTeamsNotSetException();
+        }
+    }
+
+    /**
+     * Moves the winner of a completed knockout match into its slot of the next-round match,
+     * in the same transaction as the result. A corrected result replaces the team it had advanced,
+     * and a match reopened to any other status takes it back, as long as the next match has not kicked off yet.
+     */
+    private void advanceWinner(Match match) {
+        if (match.getNextMatch() == null) {
+            return;
+        }
+        if (match.getStatus() != MatchStatus.COMPLETED) {
+            withdrawFromNextMatch(match);
+            return;
+        }
+
+        Team winner = match.getWinner();
+        if (winner == null) {
+            throw new KnockoutDrawException();
+        }
+
+        Match next = match.getNextMatch();
+        Team current = match.getBracketPosition() % 2 == 0 ? next.getHomeTeam() : next.getAwayTeam();
+        if (current != null && current.getId().equals(winner.getId())) {
+            return;
+        }
+        if (hasKickedOff(next)) {
+            throw new NextRoundAlreadyPlayedException();
+        }
+        placeInNextMatch(match, winner);
+        liveScoreBus.publish(convertToDTO(next));
+    }
+
+    // Byes have no match of their own, so a team in this slot can only have come from this match
+    private void withdrawFromNextMatch(Match match) {
+        Match next = match.getNextMatch();
+        boolean homeSlot = match.getBracketPosition() % 2 == 0;
+        if ((homeSlot ? next.getHomeTeam() : next.getAwayTeam()) == null) {
+            return;
+        }
+        if (hasKickedOff(next)) {
+            throw new NextRoundAlreadyPlayedException();
+        }
+        if (homeSlot) {
+            next.setHomeTeam(null);
+        } else {
+            next.setAwayTeam(null);
+        }
+        next.setStatus(MatchStatus.TO_BE_SCHEDULED);
+        liveScoreBus.publish(convertToDTO(next));
+    }
+
+    // Once the next match is under way its teams are final, whatever happens to the results that sent them there
+    private boolean hasKickedOff(Match next) {
+        return next.getStatus() == MatchStatus.COMPLETED || next.getStatus() == MatchStatus.IN_PROGRESS;
+    }
+
+    // Publishing is left to the caller: the byes of a bracket being generated are placed before any match has an id
+    private void placeInNextMatch(Match match, Team team) {
+        Match next = match.getNextMatch();
+        if (match.getBracketPosition() % 2 == 0) {
+            next.setHomeTeam(team);
+        } else {
+            next.setAwayTeam(team);
+        }
+        if (next.getHomeTeam() != null && next.getAwayTeam() != null && next.getStatus() == MatchStatus.TO_BE_SCHEDULED) {
+            next.setStatus(MatchStatus.SCHEDULED);
+        }
+    }
+
+    /**
+     * Generates the single-elimination bracket of a tournament, every round included.
+     * Later-round matches are created without teams (TO_BE_SCHEDULED) and filled in as results come in;
+     * teams drawn against a bye go straight into the second round.
+     */
+    public BracketDTO generateBracket(Long tournamentId, GenerateBracketDTO generateBracketDTO) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(TournamentNotFoundException::new);
+
+        if (matchRepository.existsByTournamentId(tournamentId)) {
+            throw new FixturesAlreadyExistException();
+        }
+
+        List<Team> seeded = seedTeams(tournament, generateBracketDTO.getSeeds());
+        if (seeded.size() < 2) {
+            throw new NotEnoughTeamsException();
+        }
+
+        int bracketSize = BracketSeeding.bracketSize(seeded.size());
+        int rounds = BracketSeeding.rounds(bracketSize);
+
+        // Built from the final backwards, so every match is created after the one its winner moves on to
+        List<Match> bracket = new ArrayList<>();
+        List<Match> laterRound = List.of();
+        for (int round = rounds; round >= 1; round--) {
+            List<Match> currentRound = new ArrayList<>();
+            for (int position = 0; position < bracketSize >> round; position++) {
+                Match match = new Match();
+                match.setTournament(tournament);
+                match.setBracketRound(round);
+                match.setBracketPosition(position);
+                match.setStatus(MatchStatus.TO_BE_SCHEDULED);
+                if (round < rounds) {
+                    match.setNextMatch(laterRound.get(position / 2));
+                }
+                currentRound.add(match);
+            }
+            bracket.addAll(currentRound);
+            laterRound = currentRound;
+        }
+
+        List<Integer> seedOrder = BracketSeeding.seedOrder(bracketSize);
+        for (Match match : laterRound) {
+            Team home = seedAt(seeded, seedOrder.get(2 * match.getBracketPosition()));
+            Team away = seedAt(seeded, seedOrder.get(2 * match.getBracketPosition() + 1));
+            if (home != null && away != null) {
+                match.setHomeTeam(home);
+                match.setAwayTeam(away);
+                match.setStatus(MatchStatus.SCHEDULED);
+            } else {
+                // A bye: no first-round match, the team is already through
+                placeInNextMatch(match, home != null ? home : away);
+                bracket.remove(match);
+            }
+        }
+
+        matchRepository.saveAll(bracket);
+        bracket.sort(Comparator.comparing(Match::getBracketRound).thenComparing(Match::getBracketPosition));
+        return toBracket(tournamentId, bracket);
+    }
+
+    @Transactional(readOnly = true)
+    public BracketDTO getBracket(Long tournamentId) {
+        List<Match> bracket = matchRepository.findBracket(tournamentId);
+        if (bracket.isEmpty() && !tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException();
+        }
+        return toBracket(tournamentId, bracket);
+    }
+
+    // Explicit seeds must list every participating team exactly once
+    private List<Team> seedTeams(Tournament tournament, List<Long> seeds) {
+        Map<Long, Team> teamsById = tournament.getParticipatingTeams().stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        if (seeds == null) {
+            return teamsById.values().stream()
+                    .sorted(Comparator.comparing(Team::getId))
+                    .collect(Collectors.toList());
+        }
+
+        if (seeds.size() != teamsById.size() || !teamsById.keySet().equals(new HashSet<>(seeds))) {
+            throw new InvalidParameterException("seeds");
+        }
+        return seeds.stream()
+                .map(teamsById::get)
+                .collect(Collectors.toList());
+    }
+
+    // Null for a bye
+    private Team seedAt(List<Team> seeded, int seed) {
+        return seed <= seeded.size() ? seeded.get(seed - 1) : null;
+    }
+
+    // Expects the matches ordered by round and position
+    private BracketDTO toBracket(Long tournamentId, List<Match> bracket) {
+        BracketDTO dto = new BracketDTO(tournamentId);
+        BracketDTO.Round round = null;
+        for (Match match : bracket) {
+            if (round == null || round.getRound() != match.getBracketRound()) {
+                round = new BracketDTO.Round(match.getBracketRound());
+                dto.getRounds().add(round);
+            }
+            round.getMatches().add(convertToDTO(match));
+        }
+        return dto;
+    }
+
+    public boolean deleteMatch(Long id) {
+        return deleteMatch(id, null);
+    }
+
+    public boolean deleteMatch(Long id, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getMatchTag(id));
+        Match match = matchRepository.findById(id)
+                .orElseThrow(MatchNotFoundException::new);
 
-        matchRepository.deleteById(id);
+        // A deleted result must not keep counting in the standings
+        standingsService.applyResultChange(MatchOutcome.of(match), null);
+        matchRepository.delete(match);
         return true;
     }
 
+    @Transactional(readOnly = true)
     public List<MatchDTO> getMatchesByTournament(Long tournamentId) {
         // Verify tournament exists
         if (!tournamentRepository.existsById(tournamentId)) {
@@ -150,6 +572,7 @@ public class MatchService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<MatchDTO> getMatchesByTeam(Long teamId) {
         // Verify team exists
         if (!teamRepository.existsById(teamId)) {
@@ -161,12 +584,14 @@ public class MatchService {
                 .collect(Collectors.toList());
     }
 
-    public List<MatchDTO> getMatchesByStatus(MatchStatus status) {
-        return matchRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDTO<MatchDTO> getMatchesByStatus(MatchStatus status, Long after, int limit) {
+        int size = Pagination.size(limit);
+        List<Match> rows = matchRepository.findByStatusAfter(status, Pagination.start(after), Pagination.fetchLimit(size));
+        return Pagination.toPage(rows, size, Match::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<MatchDTO> getMatchesByPeriod(LocalDateTime start, LocalDateTime end) {
         if (start.isAfter(end)) {
             throw new ValidationException("Start date cannot be after end date");
@@ -177,6 +602,50 @@ public class MatchService {
                 .collect(Collectors.toList());
     }
 
+    // Kept separate so the controller can reject bad filters before the export response is committed
+    public void validateExportFilters(LocalDateTime start, LocalDateTime end) {
+        if (start != null && end != null && start.isAfter(end)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+    }
+
+    /**
+     * Streams the matches selected by the filters (null means any) to the sink, one DTO at a time.
+     * The persistence context is cleared every EXPORT_CLEAR_INTERVAL rows, so memory use stays flat
+     * however many matches are exported. Returns the number of exported matches.
+     */
+    @Transactional(readOnly = true)
+    public long exportMatches(Long tournamentId, Long teamId, MatchStatus status,
+                              LocalDateTime start, LocalDateTime end, Consumer<MatchDTO> sink) {
+        validateExportFilters(start, end);
+
+        long exported = 0;
+        try (Stream<Match> matches = matchRepository.streamForExport(tournamentId, teamId, status, start, end)) {
+            Iterator<Match> iterator = matches.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(convertToDTO(iterator.next()));
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * Matches in progress, of one tournament or of all of them: the first events of the live feeds.
+     */
+    @Transactional(readOnly = true)
+    public List<MatchDTO> getLiveMatches(Long tournamentId) {
+        List<Match> matches = tournamentId != null
+                ? matchRepository.findByTournamentIdAndStatus(tournamentId, MatchStatus.IN_PROGRESS)
+                : matchRepository.findByStatus(MatchStatus.IN_PROGRESS);
+        return matches.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
     public List<MatchDTO> getTodayMatches() {
         LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
@@ -186,11 +655,15 @@ public class MatchService {
     private MatchDTO convertToDTO(Match match) {
         MatchDTO dto = new MatchDTO();
         dto.setId(match.getId());
-        dto.setHomeTeamId(match.getHomeTeam().getId());
-        dto.setAwayTeamId(match.getAwayTeam().getId());
+        if (match.getHomeTeam() != null) {
+            dto.setHomeTeamId(match.getHomeTeam().getId());
+            dto.setHomeTeamName(match.getHomeTeam().getName());
+        }
+        if (match.getAwayTeam() != null) {
+            dto.setAwayTeamId(match.getAwayTeam().getId());
+            dto.setAwayTeamName(match.getAwayTeam().getName());
+        }
         dto.setTournamentId(match.getTournament().getId());
-        dto.setHomeTeamName(match.getHomeTeam().getName());
-        dto.setAwayTeamName(match.getAwayTeam().getName());
         dto.setTournamentName(match.getTournament().getName());
         dto.setMatchDate(match.getMatchDate());
         dto.setHomeGoals(match.getHomeGoals());
@@ -198,6 +671,9 @@ public class MatchService {
         dto.setStatus(match.getStatus());
         dto.setCreatedAt(match.getCreatedAt());
         dto.setResult(match.getResult());
+        dto.setBracketRound(match.getBracketRound());
+        dto.setBracketPosition(match.getBracketPosition());
+        dto.setNextMatchId(match.getNextMatch() != null ? match.getNextMatch().getId() : null);
         return dto;
     }
 }
\ No newline at end of file
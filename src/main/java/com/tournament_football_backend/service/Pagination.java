@@ -0,0 +1,74 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.PageDTO;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.tournament_football_backend.exception.ValidationExceptions.*;
+
+/**
+ * Pagination.java
+ * Helpers shared by the services for keyset pagination on the id column.
+ * Repositories are asked for one row more than the page size, so the presence of a next page
+ * is known without a COUNT query, and every page costs the same index range scan however deep it is.
+ */
+final class Pagination {
+
+    private Pagination() {}
+
+    // Ids start from 1, so a missing cursor means the first page
+    static long start(Long after) {
+        if (after != null && after < 0) {
+            throw new InvalidParameterException("after");
+        }
+        return after != null ? after : 0L;
+    }
+
+    static int size(int limit) {
+        if (limit < 1) {
+            throw new InvalidParameterException("limit");
+        }
+        return Math.min(limit, PageDTO.MAX_LIMIT);
+    }
+
+    // The extra row used to detect the next page
+    static Limit fetchLimit(int size) {
+        return Limit.of(size + 1);
+    }
+
+    static <E, D> PageDTO<D> toPage(List<E> rows, int size, Function<E, Long> idOf, Function<E, D> converter) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<D> items = pageRows.stream()
+                .map(converter)
+                .collect(Collectors.toList());
+
+        Long nextCursor = hasNext ? idOf.apply(pageRows.get(size - 1)) : null;
+        return new PageDTO<>(items, nextCursor);
+    }
+
+    /**
+     * Page of rows looked up by ids found elsewhere (the search index), which are asked for with the same
+     * extra id. The next page and its cursor follow the ids, not the rows: an id whose row is already gone
+     * makes its page one item shorter, but never ends the listing early. Only the ids of the page are loaded.
+     */
+    static <E, D> PageDTO<D> toPageOfIds(List<Long> ids, int size, Function<List<Long>, List<E>> loader,
+                                          Function<E, Long> idOf, Function<E, D> converter) {
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        List<D> items = pageIds.isEmpty() ? new ArrayList<>() : loader.apply(pageIds).stream()
+                .sorted(Comparator.comparing(idOf))
+                .map(converter)
+                .collect(Collectors.toList());
+
+        Long nextCursor = hasNext ? pageIds.get(size - 1) : null;
+        return new PageDTO<>(items, nextCursor);
+    }
+}
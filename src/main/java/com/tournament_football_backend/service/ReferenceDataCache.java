@@ -0,0 +1,66 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/*
+ * ReferenceDataCache.java
+ * Explicit eviction for the second-level cache regions of teams and tournaments.
+ * Changes made through Hibernate keep the cache in sync on their own; these methods cover the rows
+ * the database removes by itself (ON DELETE CASCADE on the join tables), which Hibernate never sees,
+ * and the single rows the native counter and version updates write behind its back.
+ */
+@Service
+public class ReferenceDataCache {
+
+    static final String TOURNAMENT_TEAMS = Tournament.class.getName() + ".participatingTeams";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // A deleted team disappears from tournament_teams through the foreign key cascade
+    public void evictTournamentTeams() {
+        evictCollection(TOURNAMENT_TEAMS);
+    }
+
+    // Registered teams and version of the tournament were updated in place
+    public void evictTournament(Long tournamentId) {
+        afterCommitToo(cache -> cache.evictEntityData(Tournament.class, tournamentId));
+    }
+
+    // Version of the team was moved by a direct write of its roster
+    public void evictTeam(Long teamId) {
+        afterCommitToo(cache -> cache.evictEntityData(Team.class, teamId));
+    }
+
+    // Evicts the whole collection region
+    private void evictCollection(String role) {
+        afterCommitToo(cache -> cache.evictCollectionData(role));
+    }
+
+    /**
+     * Evicts now and again after commit, so a concurrent request that reloaded the old rows
+     * before the commit cannot leave them cached.
+     */
+    private void afterCommitToo(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
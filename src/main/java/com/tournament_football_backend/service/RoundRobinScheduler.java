@@ -0,0 +1,66 @@
+package com.tournament_football_backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RoundRobinScheduler.java
+ * Pairs teams with the circle method: the first team stays fixed while the others rotate one
+ * position per round, so every team plays exactly once per round and meets every other team once.
+ * With an odd number of teams a bye is added and the team drawn against it rests for the round.
+ * The second leg repeats the first with home and away swapped.
+ */
+final class RoundRobinScheduler {
+
+    private RoundRobinScheduler() {}
+
+    static final class Pairing<T> {
+        private final T home;
+        private final T away;
+
+        Pairing(T home, T away) {
+            this.home = home;
+            this.away = away;
+        }
+
+        T getHome() { return home; }
+        T getAway() { return away; }
+    }
+
+    static <T> List<List<Pairing<T>>> rounds(List<T> teams, int legs) {
+        List<T> circle = new ArrayList<>(teams);
+        if (circle.size() % 2 != 0) {
+            circle.add(null); // bye
+        }
+
+        int size = circle.size();
+        List<List<Pairing<T>>> firstLeg = new ArrayList<>(size - 1);
+        for (int round = 0; round < size - 1; round++) {
+            List<Pairing<T>> pairings = new ArrayList<>(size / 2);
+            for (int i = 0; i < size / 2; i++) {
+                T first = circle.get(i);
+                T second = circle.get(size - 1 - i);
+                if (first == null || second == null) {
+                    continue;
+                }
+                // The fixed team would otherwise always play at home
+                boolean swap = i == 0 ? round % 2 == 1 : i % 2 == 1;
+                pairings.add(swap ? new Pairing<>(second, first) : new Pairing<>(first, second));
+            }
+            firstLeg.add(pairings);
+
+            // Rotate everyone but the fixed first team one position clockwise
+            circle.add(1, circle.remove(size - 1));
+        }
+
+        List<List<Pairing<T>>> rounds = new ArrayList<>(firstLeg);
+        if (legs == 2) {
+            for (List<Pairing<T>> round : firstLeg) {
+                rounds.add(round.stream()
+                        .map(p -> new Pairing<>(p.getAway(), p.getHome()))
+                        .toList());
+            }
+        }
+        return rounds;
+    }
+}
@@ -0,0 +1,353 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.config.ReadFromPrimary;
+import com.tournament_football_backend.dto.SearchHitDTO;
+import com.tournament_football_backend.dto.SearchHitDTO.Type;
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import com.tournament_football_backend.model.User;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SearchIndex.java
+ * In-memory Lucene index over tournament names and descriptions, team names, usernames and emails.
+ * It replaces the LIKE '%keyword%' queries, which read the whole table on every keystroke.
+ *
+ * Text is split on anything that is not a letter or digit, lowercased and stripped of accents, so
+ * "mario.rossi@email.com" is found by "rossi". Every word of the query must match a field of the
+ * document, exactly, as a prefix or within one or two typos; exact matches rank first, then prefixes,
+ * then fuzzy matches, and name fields weigh more than descriptions.
+ *
+ * The index is rebuilt from the database at startup and then kept in sync by the services, which
+ * call index/remove from their create, update and delete paths. Changes are applied after the
+ * transaction commits, so a rollback never reaches the index. The server already takes writes while
+ * the rebuild reads: changes committed meanwhile are held back and replayed on top of what it read,
+ * so replacing the contents of the index cannot discard them.
+ */
+@Service
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String EMAIL = "email";
+
+    // Searched fields and their weight
+    private static final Map<String, Float> FIELDS = Map.of(NAME, 3f, EMAIL, 1.5f, DESCRIPTION, 1f);
+
+    // Shorter words are matched exactly or as a prefix only: one typo in two letters is another word
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final int TWO_EDITS_MIN_LENGTH = 7;
+
+    private static final Analyzer ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ByteBuffersDirectory directory = new ByteBuffersDirectory();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Serializes the changes with the end of a rebuild, so a replayed change can never be overtaken
+    private final Object changeLock = new Object();
+
+    // Changes committed while a rebuild is reading the database, in commit order; null when none runs
+    private List<IndexChange> changesDuringRebuild;
+
+    public SearchIndex() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(ANALYZER));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Loads every tournament, team and user. Only the indexed columns are read, so no association
+     * (rosters, profiles) is initialized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    @ReadFromPrimary
+    public synchronized void rebuild() {
+        synchronized (changeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        List<Document> documents = null;
+        try {
+            documents = loadDocuments();
+        } finally {
+            replaceContents(documents);
+        }
+        logger.info("Search index built with {} documents", documents.size());
+    }
+
+    private List<Document> loadDocuments() {
+        List<Document> documents = new ArrayList<>();
+        entityManager.createQuery("SELECT t.id, t.name, t.description FROM Tournament t", Object[].class)
+                .getResultStream()
+                .forEach(row -> documents.add(document(Type.TOURNAMENT, (Long) row[0], (String) row[1],
+                        (String) row[2], null)));
+        entityManager.createQuery("SELECT t.id, t.name FROM Team t", Object[].class)
+                .getResultStream()
+                .forEach(row -> documents.add(document(Type.TEAM, (Long) row[0], (String) row[1], null, null)));
+        entityManager.createQuery("SELECT u.id, u.username, u.email FROM User u", Object[].class)
+                .getResultStream()
+                .forEach(row -> documents.add(document(Type.USER, (Long) row[0], (String) row[1], null,
+                        (String) row[2])));
+        return documents;
+    }
+
+    // Swaps in what the rebuild read, unless reading failed, then replays the changes held back meanwhile.
+    // A change committed before the read is replayed too: it is idempotent, and the newest one comes last
+    private void replaceContents(List<Document> documents) {
+        synchronized (changeLock) {
+            List<IndexChange> changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            try {
+                if (documents != null) {
+                    writer.deleteAll();
+                    writer.addDocuments(documents);
+                }
+                for (IndexChange change : changes) {
+                    change.run();
+                }
+                writer.commit();
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void index(Tournament tournament) {
+        put(document(Type.TOURNAMENT, tournament.getId(), tournament.getName(), tournament.getDescription(), null));
+    }
+
+    public void index(Team team) {
+        put(document(Type.TEAM, team.getId(), team.getName(), null, null));
+    }
+
+    public void index(User user) {
+        put(document(Type.USER, user.getId(), user.getUsername(), null, user.getEmail()));
+    }
+
+    public void remove(Type type, Long id) {
+        Term key = key(type, id);
+        afterCommit(() -> writer.deleteDocuments(key));
+    }
+
+    /**
+     * Best matches of the given types, highest score first.
+     */
+    public List<SearchHitDTO> search(String text, Collection<Type> types, int limit) {
+        Query query = query(text, types, null);
+        if (query == null) {
+            return List.of();
+        }
+        return withSearcher(searcher -> {
+            TopDocs top = searcher.search(query, limit);
+            StoredFields stored = searcher.storedFields();
+            List<SearchHitDTO> hits = new ArrayList<>(top.scoreDocs.length);
+            for (ScoreDoc scoreDoc : top.scoreDocs) {
+                Document document = stored.document(scoreDoc.doc);
+                hits.add(new SearchHitDTO(Type.valueOf(document.get(TYPE)),
+                        document.getField(ID).numericValue().longValue(), document.get(NAME), scoreDoc.score));
+            }
+            return hits;
+        });
+    }
+
+    /**
+     * Ids of the matching documents of one type that come after the cursor, in id order,
+     * for the keyset-paginated search endpoints.
+     */
+    public List<Long> findIds(Type type, String text, long after, int limit) {
+        Query query = query(text, List.of(type), after);
+        if (query == null) {
+            return List.of();
+        }
+        return withSearcher(searcher -> {
+            TopDocs top = searcher.search(query, limit, new Sort(new SortField(ID, SortField.Type.LONG)));
+            StoredFields stored = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+            for (ScoreDoc scoreDoc : top.scoreDocs) {
+                ids.add(stored.document(scoreDoc.doc).getField(ID).numericValue().longValue());
+            }
+            return ids;
+        });
+    }
+
+    private Query query(String text, Collection<Type> types, Long after) {
+        List<String> words = analyze(text);
+        if (words.isEmpty() || types.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            FIELDS.forEach((field, weight) -> {
+                Term term = new Term(field, word);
+                anyField.add(new BoostQuery(new TermQuery(term), weight * 4), BooleanClause.Occur.SHOULD);
+                anyField.add(new BoostQuery(new PrefixQuery(term), weight * 2), BooleanClause.Occur.SHOULD);
+                if (word.length() >= FUZZY_MIN_LENGTH) {
+                    int edits = word.length() >= TWO_EDITS_MIN_LENGTH ? 2 : 1;
+                    anyField.add(new BoostQuery(new FuzzyQuery(term, edits, 1), weight), BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        query.add(new TermInSetQuery(TYPE, types.stream().map(type -> new BytesRef(type.name())).toList()),
+                BooleanClause.Occur.FILTER);
+        if (after != null) {
+            query.add(LongPoint.newRangeQuery(ID, after + 1, Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        try (TokenStream stream = ANALYZER.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static Document document(Type type, Long id, String name, String description, String email) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(type, id).text(), Field.Store.NO));
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new LongPoint(ID, id));
+        document.add(new NumericDocValuesField(ID, id));
+        document.add(new StoredField(ID, id));
+        document.add(new TextField(NAME, name, Field.Store.YES));
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        if (email != null) {
+            document.add(new TextField(EMAIL, email, Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static Term key(Type type, Long id) {
+        return new Term(KEY, type.name() + ":" + id);
+    }
+
+    // Adds the document or replaces the previous version with the same key
+    private void put(Document document) {
+        Term key = new Term(KEY, document.get(KEY));
+        afterCommit(() -> writer.updateDocument(key, document));
+    }
+
+    private void afterCommit(IndexChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    // The change is visible to the next search as soon as this returns, or once a running rebuild ends
+    private void apply(IndexChange change) {
+        synchronized (changeLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+                return;
+            }
+            try {
+                change.run();
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private <T> T withSearcher(SearcherFunction<T> function) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return function.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface SearcherFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
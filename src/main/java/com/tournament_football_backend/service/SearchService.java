@@ -0,0 +1,46 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.SearchHitDTO;
+import com.tournament_football_backend.dto.SearchHitDTO.Type;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.tournament_football_backend.exception.ValidationExceptions.*;
+
+/**
+ * SearchService.java
+ * Service class behind the ranked search endpoints, answered from the in-memory SearchIndex
+ * without touching the database.
+ */
+@Service
+public class SearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    // Tournaments and teams, visible to every authenticated user
+    public List<SearchHitDTO> search(String text, int limit) {
+        return search(text, EnumSet.of(Type.TOURNAMENT, Type.TEAM), limit);
+    }
+
+    public List<SearchHitDTO> searchUsers(String text, int limit) {
+        return search(text, EnumSet.of(Type.USER), limit);
+    }
+
+    private List<SearchHitDTO> search(String text, Collection<Type> types, int limit) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new EmptySearchKeywordException();
+        }
+        if (limit < 1) {
+            throw new InvalidParameterException("limit");
+        }
+        return searchIndex.search(text, types, Math.min(limit, MAX_LIMIT));
+    }
+}
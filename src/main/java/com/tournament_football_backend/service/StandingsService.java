@@ -0,0 +1,244 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.StandingDTO;
+import com.tournament_football_backend.model.Match;
+import com.tournament_football_backend.model.MatchStatus;
+import com.tournament_football_backend.model.Standing;
+import com.tournament_football_backend.repository.StandingRepository;
+import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.tournament_football_backend.exception.TournamentExceptions.*;
+
+/**
+ * StandingsService.java
+ * Service class maintaining the materialized standings table of each tournament.
+ * Match results are applied as deltas (reversing the previously recorded score first),
+ * so reading the table never needs to aggregate the matches.
+ */
+@Service
+@Transactional
+public class StandingsService {
+
+    public static final int POINTS_FOR_WIN = 3;
+    public static final int POINTS_FOR_DRAW = 1;
+
+    @Autowired
+    private StandingRepository standingRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamStatsCache teamStatsCache;
+
+    @Transactional(readOnly = true)
+    public List<StandingDTO> getStandings(Long tournamentId) {
+        List<Standing> standings = standingRepository.findRankingByTournamentId(tournamentId);
+
+        // An empty table is legitimate, but only for an existing tournament
+        if (standings.isEmpty() && !tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException();
+        }
+
+        List<StandingDTO> table = new ArrayList<>(standings.size());
+        for (Standing standing : standings) {
+            table.add(convertToDTO(standing, table.size() + 1));
+        }
+        return table;
+    }
+
+    // Creates an empty row so that registered teams show up before playing any match
+    public void addTeam(Long tournamentId, Long teamId) {
+        if (!standingRepository.existsByTournamentIdAndTeamId(tournamentId, teamId)) {
+            standingRepository.save(new Standing(
+                    tournamentRepository.getReferenceById(tournamentId),
+                    teamRepository.getReferenceById(teamId)));
+        }
+    }
+
+    public void removeTeam(Long tournamentId, Long teamId) {
+        standingRepository.deleteByTournamentIdAndTeamId(tournamentId, teamId);
+    }
+
+    /**
+     * Applies the change between two snapshots of the same match to the standings.
+     * The previous outcome is reversed (if it counted) and the current one applied (if it counts),
+     * so re-entering the same score is a no-op and correcting a score moves only the difference.
+     * The cached statistics of the teams involved are dropped as well.
+     */
+    public void applyResultChange(MatchOutcome previous, MatchOutcome current) {
+        Map<StandingKey, Delta> deltas = new TreeMap<>(StandingKey.ORDER);
+        accumulate(deltas, previous, -1);
+        accumulate(deltas, current, 1);
+        flush(deltas);
+        teamStatsCache.evict(previous);
+        teamStatsCache.evict(current);
+    }
+
+    /**
+     * Applies the changes of several matches at once, as a batch of results does.
+     * Deltas are additive, so every previous outcome is reversed and every current one applied
+     * before anything is written: each standing row is updated once per batch,
+     * however many of its team's matches changed.
+     */
+    public void applyResultChanges(Collection<MatchOutcome> previous, Collection<MatchOutcome> current) {
+        Map<StandingKey, Delta> deltas = new TreeMap<>(StandingKey.ORDER);
+        previous.forEach(outcome -> accumulate(deltas, outcome, -1));
+        current.forEach(outcome -> accumulate(deltas, outcome, 1));
+        flush(deltas);
+        previous.forEach(teamStatsCache::evict);
+        current.forEach(teamStatsCache::evict);
+    }
+
+    private void accumulate(Map<StandingKey, Delta> deltas, MatchOutcome outcome, int sign) {
+        if (outcome == null || !outcome.isCompleted()) {
+            return;
+        }
+
+        int homeGoals = outcome.getHomeGoals();
+        int awayGoals = outcome.getAwayGoals();
+
+        deltas.computeIfAbsent(new StandingKey(outcome.getTournamentId(), outcome.getHomeTeamId()), key -> new Delta())
+                .add(homeGoals, awayGoals, sign);
+        deltas.computeIfAbsent(new StandingKey(outcome.getTournamentId(), outcome.getAwayTeamId()), key -> new Delta())
+                .add(awayGoals, homeGoals, sign);
+    }
+
+    // Rows are updated in key order so concurrent result updates always lock them in the same order
+    private void flush(Map<StandingKey, Delta> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta.isZero()) {
+                return;
+            }
+
+            int updated = standingRepository.applyDelta(key.tournamentId(), key.teamId(),
+                    delta.played, delta.won, delta.drawn, delta.lost,
+                    delta.goalsFor, delta.goalsAgainst, delta.points);
+
+            if (updated == 0) {
+                Standing standing = new Standing(
+                        tournamentRepository.getReferenceById(key.tournamentId()),
+                        teamRepository.getReferenceById(key.teamId()));
+                standing.setPlayed(delta.played);
+                standing.setWon(delta.won);
+                standing.setDrawn(delta.drawn);
+                standing.setLost(delta.lost);
+                standing.setGoalsFor(delta.goalsFor);
+                standing.setGoalsAgainst(delta.goalsAgainst);
+                standing.setPoints(delta.points);
+                standingRepository.save(standing);
+            }
+        });
+    }
+
+    private StandingDTO convertToDTO(Standing standing, int position) {
+        StandingDTO dto = new StandingDTO();
+        dto.setPosition(position);
+        dto.setTeamId(standing.getTeam().getId());
+        dto.setTeamName(standing.getTeam().getName());
+        dto.setPlayed(standing.getPlayed());
+        dto.setWon(standing.getWon());
+        dto.setDrawn(standing.getDrawn());
+        dto.setLost(standing.getLost());
+        dto.setGoalsFor(standing.getGoalsFor());
+        dto.setGoalsAgainst(standing.getGoalsAgainst());
+        dto.setGoalDifference(standing.getGoalDifference());
+        dto.setPoints(standing.getPoints());
+        return dto;
+    }
+
+    /**
+     * Immutable snapshot of the standings-relevant state of a match.
+     * Taken before and after a change so the service can compute the delta to apply.
+     */
+    public static class MatchOutcome {
+        private final Long tournamentId;
+        private final Long homeTeamId;
+        private final Long awayTeamId;
+        private final boolean completed;
+        private final int homeGoals;
+        private final int awayGoals;
+
+        public MatchOutcome(Long tournamentId, Long homeTeamId, Long awayTeamId,
+                            boolean completed, int homeGoals, int awayGoals) {
+            this.tournamentId = tournamentId;
+            this.homeTeamId = homeTeamId;
+            this.awayTeamId = awayTeamId;
+            this.completed = completed;
+            this.homeGoals = homeGoals;
+            this.awayGoals = awayGoals;
+        }
+
+        // Null for a knockout match whose teams are not known yet: it cannot count in the standings
+        public static MatchOutcome of(Match match) {
+            if (match.getHomeTeam() == null || match.getAwayTeam() == null) {
+                return null;
+            }
+            return new MatchOutcome(
+                    match.getTournament().getId(),
+                    match.getHomeTeam().getId(),
+                    match.getAwayTeam().getId(),
+                    match.getStatus() == MatchStatus.COMPLETED,
+                    match.getHomeGoals() != null ? match.getHomeGoals() : 0,
+                    match.getAwayGoals() != null ? match.getAwayGoals() : 0);
+        }
+
+        public Long getTournamentId() { return tournamentId; }
+        public Long getHomeTeamId() { return homeTeamId; }
+        public Long getAwayTeamId() { return awayTeamId; }
+        public boolean isCompleted() { return completed; }
+        public int getHomeGoals() { return homeGoals; }
+        public int getAwayGoals() { return awayGoals; }
+    }
+
+    private record StandingKey(Long tournamentId, Long teamId) {
+        static final Comparator<StandingKey> ORDER = Comparator
+                .comparing(StandingKey::tournamentId)
+                .thenComparing(StandingKey::teamId);
+    }
+
+    // Accumulated change of a single standings row
+    private static class Delta {
+        private int played;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+        private int points;
+
+        void add(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            if (scored > conceded) {
+                won += sign;
+                points += sign * POINTS_FOR_WIN;
+            } else if (scored == conceded) {
+                drawn += sign;
+                points += sign * POINTS_FOR_DRAW;
+            } else {
+                lost += sign;
+            }
+        }
+
+        boolean isZero() {
+            return played == 0 && won == 0 && drawn == 0 && lost == 0
+                    && goalsFor == 0 && goalsAgainst == 0 && points == 0;
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.tournament_football_backend.service;
 
+import com.tournament_football_backend.config.ReadFromPrimary;
 import com.tournament_football_backend.dto.CreateTeamDTO;
+import com.tournament_football_backend.dto.HeadToHeadDTO;
+import com.tournament_football_backend.dto.PageDTO;
+import com.tournament_football_backend.dto.SearchHitDTO;
 import com.tournament_football_backend.dto.TeamDTO;
+import com.tournament_football_backend.dto.TeamRecordDTO;
+import com.tournament_football_backend.dto.TeamStatsDTO;
 import com.tournament_football_backend.dto.UpdateTeamDTO;
 import com.tournament_football_backend.dto.UserDTO;
+import com.tournament_football_backend.model.Match;
 import com.tournament_football_backend.model.Team;
 import com.tournament_football_backend.model.User;
+import com.tournament_football_backend.repository.MatchRepository;
 import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
 import com.tournament_football_backend.repository.UserRepository;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.tournament_football_backend.exception.MatchExceptions.SameTeamMatchException;
 import static com.tournament_football_backend.exception.TeamExceptions.*;
 import static com.tournament_football_backend.exception.UserExceptions.*;
 import static com.tournament_football_backend.exception.ValidationExceptions.*;
@@ -27,30 +40,93 @@ import static com.tournament_football_backend.exception.ValidationExceptions.*;
  */
 @Service
 @Transactional
+@Timed("service.method")
 public class TeamService {
 
+    // Largest number of players accepted by one bulk roster update
+    public static final int MAX_PLAYER_BATCH_SIZE = 100;
+
     @Autowired
     private TeamRepository teamRepository;
 
     @Autowired
     private UserRepository userRepository;
 
-    public List<TeamDTO> getAllTeams() {
-        return teamRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TeamStatsCache teamStatsCache;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Transactional(readOnly = true)
+    public PageDTO<TeamDTO> getAllTeams(Long after, int limit) {
+        int size = Pagination.size(limit);
+        List<Team> rows = teamRepository.findPageAfter(Pagination.start(after), Pagination.fetchLimit(size));
+        return Pagination.toPage(rows, size, Team::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public Optional<TeamDTO> getTeamById(Long id) {
         return teamRepository.findByIdWithPlayers(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    @ReadFromPrimary
     public Optional<TeamDTO> getTeamByName(String name) {
         return teamRepository.findByName(name)
                 .map(this::convertToDTO);
     }
 
+    // ETag of the team, read without loading it; empty if it does not exist
+    @Transactional(readOnly = true)
+    public Optional<String> getTeamTag(Long id) {
+        return teamRepository.findVersionTagById(id).map(versions -> EntityTags.of("team", id, versions));
+    }
+
+    /**
+     * Record of the team over all its completed matches and in each tournament, with its form.
+     * Computed by one aggregate query and one form query, then cached until a result of the team changes.
+     */
+    @Transactional(readOnly = true)
+    @ReadFromPrimary
+    public TeamStatsDTO getTeamStats(Long id) {
+        Team team = teamRepository.findById(id)
+                .orElseThrow(TeamNotFoundException::new);
+        return teamStatsCache.get(id, teamId -> buildStats(team));
+    }
+
+    /**
+     * All-time record of a team against an opponent, across tournaments, with their latest meetings.
+     * Aggregated by the database in one query, then cached until a result between them changes.
+     */
+    @Transactional(readOnly = true)
+    @ReadFromPrimary
+    public HeadToHeadDTO getHeadToHead(Long teamId, Long opponentId) {
+        if (teamId.equals(opponentId)) {
+            throw new SameTeamMatchException();
+        }
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(TeamNotFoundException::new);
+        Team opponent = teamRepository.findById(opponentId)
+                .orElseThrow(TeamNotFoundException::new);
+        return teamStatsCache.getHeadToHead(teamId, opponentId, (a, b) -> new HeadToHeadDTO(
+                team.getId(), team.getName(), opponent.getId(), opponent.getName(),
+                matchRepository.findHeadToHeadRecord(a, b), matchRepository.findLastMeetings(a, b)));
+    }
+
     public TeamDTO createTeam(CreateTeamDTO createTeamDTO) {
         // Check if team name already exists
         if (teamRepository.existsByName(createTeamDTO.getName())) {
@@ -61,10 +137,17 @@ public class TeamService {
         team.setName(createTeamDTO.getName());
 
         Team savedTeam = teamRepository.save(team);
+        searchIndex.index(savedTeam);
         return convertToDTO(savedTeam);
     }
 
     public Optional<TeamDTO> updateTeam(Long id, UpdateTeamDTO updateTeamDTO) {
+        return updateTeam(id, updateTeamDTO, null);
+    }
+
+    // Conditional version for If-Match requests, checked in the same transaction as the write
+    public Optional<TeamDTO> updateTeam(Long id, UpdateTeamDTO updateTeamDTO, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getTeamTag(id));
         return teamRepository.findById(id)
                 .map(team -> {
                     // Check if new name is provided and different from current name
@@ -74,55 +157,98 @@ public class TeamService {
                             throw new TeamNameAlreadyExistsException();
                         }
                         team.setName(updateTeamDTO.getName());
+                        teamStatsCache.evict(id);
                     }
 
-                    return convertToDTO(teamRepository.save(team));
+                    Team savedTeam = teamRepository.save(team);
+                    searchIndex.index(savedTeam);
+                    return convertToDTO(savedTeam);
                 });
     }
 
     public boolean deleteTeam(Long id) {
+        return deleteTeam(id, null);
+    }
+
+    public boolean deleteTeam(Long id, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getTeamTag(id));
         if (!teamRepository.existsById(id)) {
             throw new TeamNotFoundException();
         }
 
+        // Its registrations are dropped by the foreign key cascade: their places are released first
+        tournamentRepository.releaseRegistrationPlacesOfTeam(id);
+        // So would be its matches, which are deleted here instead, once their results are taken out of the
+        // opponents' standings: loaded, they could not stay in the persistence context without their team
+        List<Match> matches = matchRepository.findByTeamId(id);
+        standingsService.applyResultChanges(matches.stream().map(MatchOutcome::of).toList(), List.of());
+        matchRepository.deleteAll(matches);
         teamRepository.deleteById(id);
+        referenceDataCache.evictTournamentTeams();
+        // Its matches go with it, and with them results of the other teams
+        teamStatsCache.evictAll();
+        searchIndex.remove(SearchHitDTO.Type.TEAM, id);
         return true;
     }
 
+    // The roster is written through team_players: the row count tells whether the player was already there
     public boolean addPlayer(Long teamId, Long playerId) {
-        Team team = teamRepository.findByIdWithPlayers(teamId)
-                .orElseThrow(TeamNotFoundException::new);
+        checkTeamAndPlayerExist(teamId, playerId);
 
-        User player = userRepository.findById(playerId)
-                .orElseThrow(UserNotFoundException::new);
-
-        // Check if player is already in the team
-        if (team.getPlayers().contains(player)) {
+        if (teamRepository.insertPlayer(teamId, playerId) == 0) {
             throw new PlayerAlreadyInTeamException();
         }
-
-        team.addPlayer(player);
-        teamRepository.save(team);
+        teamRepository.incrementVersion(teamId);
+        referenceDataCache.evictTeam(teamId);
         return true;
     }
 
     public boolean removePlayer(Long teamId, Long playerId) {
-        Team team = teamRepository.findByIdWithPlayers(teamId)
-                .orElseThrow(TeamNotFoundException::new);
-
-        User player = userRepository.findById(playerId)
-                .orElseThrow(UserNotFoundException::new);
+        checkTeamAndPlayerExist(teamId, playerId);
 
-        // Check if player is actually in the team
-        if (!team.getPlayers().contains(player)) {
+        if (teamRepository.deletePlayer(teamId, playerId) == 0) {
             throw new PlayerNotInTeamException();
         }
-
-        team.removePlayer(player);
-        teamRepository.save(team);
+        teamRepository.incrementVersion(teamId);
+        referenceDataCache.evictTeam(teamId);
         return true;
     }
 
+    /**
+     * Adds many players in one statement; all of them must exist, those already in the team are skipped.
+     * Returns the number of players added.
+     */
+    public int addPlayers(Long teamId, List<Long> playerIds) {
+        if (playerIds == null || playerIds.isEmpty() || playerIds.size() > MAX_PLAYER_BATCH_SIZE
+                || playerIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidParameterException("playerIds");
+        }
+        if (!teamRepository.existsById(teamId)) {
+            throw new TeamNotFoundException();
+        }
+        Set<Long> ids = Set.copyOf(playerIds);
+        if (userRepository.countByIdIn(ids) != ids.size()) {
+            throw new UserNotFoundException();
+        }
+
+        int added = teamRepository.insertPlayers(teamId, ids);
+        if (added > 0) {
+            teamRepository.incrementVersion(teamId);
+            referenceDataCache.evictTeam(teamId);
+        }
+        return added;
+    }
+
+    private void checkTeamAndPlayerExist(Long teamId, Long playerId) {
+        if (!teamRepository.existsById(teamId)) {
+            throw new TeamNotFoundException();
+        }
+        if (!userRepository.existsById(playerId)) {
+            throw new UserNotFoundException();
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<TeamDTO> getTeamsByPlayer(Long playerId) {
         // Verify player exists
         if (!userRepository.existsById(playerId)) {
@@ -134,14 +260,31 @@ public class TeamService {
                 .collect(Collectors.toList());
     }
 
-    public List<TeamDTO> searchTeams(String keyword) {
+    @Transactional(readOnly = true)
+    public PageDTO<TeamDTO> searchTeams(String keyword, Long after, int limit) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new EmptySearchKeywordException();
         }
 
-        return teamRepository.findByNameContaining(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Matching ids come from the search index, the rows from their primary key
+        int size = Pagination.size(limit);
+        List<Long> ids = searchIndex.findIds(SearchHitDTO.Type.TEAM, keyword, Pagination.start(after), size + 1);
+        return Pagination.toPageOfIds(ids, size, teamRepository::findAllById, Team::getId, this::convertToDTO);
+    }
+
+    private TeamStatsDTO buildStats(Team team) {
+        List<TeamRecordDTO> tournaments = matchRepository.findRecordsByTeam(team.getId());
+        TeamRecordDTO overall = new TeamRecordDTO();
+        for (TeamRecordDTO record : tournaments) {
+            overall.setPlayed(overall.getPlayed() + record.getPlayed());
+            overall.setWon(overall.getWon() + record.getWon());
+            overall.setDrawn(overall.getDrawn() + record.getDrawn());
+            overall.setLost(overall.getLost() + record.getLost());
+            overall.setGoalsFor(overall.getGoalsFor() + record.getGoalsFor());
+            overall.setGoalsAgainst(overall.getGoalsAgainst() + record.getGoalsAgainst());
+        }
+        String form = String.join("", matchRepository.findFormByTeam(team.getId()));
+        return new TeamStatsDTO(team.getId(), team.getName(), form, overall, tournaments);
     }
 
     private TeamDTO convertToDTO(Team team) {
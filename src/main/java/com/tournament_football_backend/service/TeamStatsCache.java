@@ -0,0 +1,115 @@
+package com.tournament_football_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tournament_football_backend.dto.HeadToHeadDTO;
+import com.tournament_football_backend.dto.TeamStatsDTO;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/*
+ * TeamStatsCache.java
+ * Bounded caches of the team statistics, keyed by team id, and of the head-to-heads, keyed by the
+ * ordered pair of teams as requested.
+ * Both only depend on completed matches, so entries are evicted when a result of their teams is
+ * entered, corrected or removed (StandingsService reports every such change) or one of the teams is
+ * renamed, and everything when a team or tournament is deleted, which removes matches of other teams,
+ * or a tournament is renamed.
+ */
+@Service
+public class TeamStatsCache {
+
+    @Value("${team-stats.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${team-stats.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${team-stats.head-to-head.max-size:10000}")
+    private long headToHeadMaxSize;
+
+    private Cache<Long, TeamStatsDTO> stats;
+    private Cache<Pair, HeadToHeadDTO> headToHeads;
+
+    @PostConstruct
+    void init() {
+        stats = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        headToHeads = Caffeine.newBuilder()
+                .maximumSize(headToHeadMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public TeamStatsDTO get(Long teamId, Function<Long, TeamStatsDTO> loader) {
+        return stats.get(teamId, loader);
+    }
+
+    public HeadToHeadDTO getHeadToHead(Long teamId, Long opponentId,
+                                       BiFunction<Long, Long, HeadToHeadDTO> loader) {
+        return headToHeads.get(new Pair(teamId, opponentId), pair -> loader.apply(pair.teamId(), pair.opponentId()));
+    }
+
+    // Drops everything showing the team, whose name changed
+    public void evict(Long teamId) {
+        afterCommitToo(() -> {
+            stats.invalidate(teamId);
+            headToHeads.asMap().keySet().removeIf(pair -> pair.involves(teamId));
+        });
+    }
+
+    // Drops the statistics of both teams of a match whose completed result changed, and their head-to-head
+    public void evict(MatchOutcome outcome) {
+        if (outcome == null || !outcome.isCompleted()) {
+            return;
+        }
+        Long homeTeamId = outcome.getHomeTeamId();
+        Long awayTeamId = outcome.getAwayTeamId();
+        afterCommitToo(() -> {
+            stats.invalidateAll(List.of(homeTeamId, awayTeamId));
+            headToHeads.invalidateAll(List.of(new Pair(homeTeamId, awayTeamId), new Pair(awayTeamId, homeTeamId)));
+        });
+    }
+
+    public void evictAll() {
+        afterCommitToo(() -> {
+            stats.invalidateAll();
+            headToHeads.invalidateAll();
+        });
+    }
+
+    /**
+     * Evicts now and again after commit, so a request that recomputed the old statistics
+     * while the transaction was running cannot keep them cached.
+     */
+    private void afterCommitToo(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record Pair(Long teamId, Long opponentId) {
+
+        boolean involves(Long id) {
+            return teamId.equals(id) || opponentId.equals(id);
+        }
+    }
+}
@@ -1,23 +1,30 @@
 package com.tournament_football_backend.service;
 
 import com.tournament_football_backend.dto.CreateTournamentDTO;
+import com.tournament_football_backend.dto.PageDTO;
+import com.tournament_football_backend.dto.SearchHitDTO;
 import com.tournament_football_backend.dto.TeamDTO;
 import com.tournament_football_backend.dto.TournamentDTO;
 import com.tournament_football_backend.dto.UpdateTournamentDTO;
-import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Match;
 import com.tournament_football_backend.model.Tournament;
 import com.tournament_football_backend.model.TournamentStatus;
+import com.tournament_football_backend.repository.MatchRepository;
 import com.tournament_football_backend.repository.TeamRepository;
 import com.tournament_football_backend.repository.TournamentRepository;
+import com.tournament_football_backend.repository.TournamentRepository.ParticipatingTeamView;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.tournament_football_backend.exception.TeamExceptions.*;
 import static com.tournament_football_backend.exception.TournamentExceptions.*;
@@ -30,6 +37,7 @@ import static com.tournament_football_backend.exception.ValidationExceptions.*;
  */
 @Service
 @Transactional
+@Timed("service.method")
 public class TournamentService {
 
     @Autowired
@@ -38,15 +46,39 @@ public class TournamentService {
     @Autowired
     private TeamRepository teamRepository;
 
-    public List<TournamentDTO> getAllTournaments() {
-        return tournamentRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TeamStatsCache teamStatsCache;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Transactional(readOnly = true)
+    public PageDTO<TournamentDTO> getAllTournaments(Long after, int limit) {
+        int size = Pagination.size(limit);
+        List<TournamentDTO> rows = tournamentRepository.findSummariesAfter(
+                Pagination.start(after), Pagination.fetchLimit(size));
+        return toPage(rows, size);
     }
 
+    @Transactional(readOnly = true)
     public Optional<TournamentDTO> getTournamentById(Long id) {
-        return tournamentRepository.findByIdWithTeams(id)
-                .map(this::convertToDTO);
+        return tournamentRepository.findSummaryById(id)
+                .map(dto -> withParticipatingTeams(List.of(dto)).get(0));
+    }
+
+    // ETag of the tournament, read without loading it; empty if it does not exist
+    @Transactional(readOnly = true)
+    public Optional<String> getTournamentTag(Long id) {
+        return tournamentRepository.findVersionTagById(id).map(versions -> EntityTags.of("tournament", id, versions));
     }
 
     public TournamentDTO createTournament(CreateTournamentDTO createTournamentDTO) {
@@ -63,14 +95,24 @@ public class TournamentService {
         tournament.setStatus(createTournamentDTO.getStatus() != null ? createTournamentDTO.getStatus() : TournamentStatus.OPEN);
 
         Tournament savedTournament = tournamentRepository.save(tournament);
+        searchIndex.index(savedTournament);
         return convertToDTO(savedTournament);
     }
 
     public Optional<TournamentDTO> updateTournament(Long id, UpdateTournamentDTO updateTournamentDTO) {
+        return updateTournament(id, updateTournamentDTO, null);
+    }
+
+    // Conditional version for If-Match requests, checked in the same transaction as the write
+    public Optional<TournamentDTO> updateTournament(Long id, UpdateTournamentDTO updateTournamentDTO, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getTournamentTag(id));
         return tournamentRepository.findById(id)
                 .map(tournament -> {
-                    if (updateTournamentDTO.getName() != null)
+                    if (updateTournamentDTO.getName() != null && !updateTournamentDTO.getName().equals(tournament.getName())) {
                         tournament.setName(updateTournamentDTO.getName());
+                        // The team statistics list the tournaments by name
+                        teamStatsCache.evictAll();
+                    }
                     if (updateTournamentDTO.getDescription() != null)
                         tournament.setDescription(updateTournamentDTO.getDescription());
                     if (updateTournamentDTO.getStartDate() != null)
@@ -88,92 +130,128 @@ public class TournamentService {
                         throw new InvalidTournamentDateException();
                     }
 
-                    return convertToDTO(tournamentRepository.save(tournament));
+                    Tournament savedTournament = tournamentRepository.save(tournament);
+                    searchIndex.index(savedTournament);
+                    return convertToDTO(savedTournament);
                 });
     }
 
     public boolean deleteTournament(Long id) {
+        return deleteTournament(id, null);
+    }
+
+    public boolean deleteTournament(Long id, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getTournamentTag(id));
         if (!tournamentRepository.existsById(id)) {
             throw new TournamentNotFoundException();
         }
 
         tournamentRepository.deleteById(id);
+        // Its matches go with it
+        teamStatsCache.evictAll();
+        searchIndex.remove(SearchHitDTO.Type.TOURNAMENT, id);
         return true;
     }
 
+    /**
+     * Registers a team in constant time, however many teams the tournament has: the place is taken by a
+     * conditional update of the counter, then the team is added to tournament_teams.
+     * Concurrent registrations queue on the tournament row and cannot overfill it; a team registered
+     * twice rolls back the place it took.
+     */
     public boolean registerTeam(Long tournamentId, Long teamId) {
-        Tournament tournament = tournamentRepository.findByIdWithTeams(tournamentId)
+        Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(TournamentNotFoundException::new);
 
-        Team team = teamRepository.findById(teamId)
+        teamRepository.findById(teamId)
                 .orElseThrow(TeamNotFoundException::new);
 
         if (tournament.getStatus() != TournamentStatus.OPEN) {
             throw new TournamentNotOpenException();
         }
 
-        if (tournament.isFull()) {
+        // Also refused when the tournament closed in the meantime
+        if (tournamentRepository.takeRegistrationPlace(tournamentId) == 0) {
             throw new TournamentFullException();
         }
+        referenceDataCache.evictTournament(tournamentId);
 
-        if (tournament.getParticipatingTeams().contains(team)) {
+        if (tournamentRepository.insertTeam(tournamentId, teamId) == 0) {
             throw new TeamAlreadyInTournamentException();
         }
 
-        tournament.addTeam(team);
-        tournamentRepository.save(tournament);
+        standingsService.addTeam(tournamentId, teamId);
         return true;
     }
 
     public boolean removeTeam(Long tournamentId, Long teamId) {
-        Tournament tournament = tournamentRepository.findByIdWithTeams(tournamentId)
+        tournamentRepository.findById(tournamentId)
                 .orElseThrow(TournamentNotFoundException::new);
 
-        Team team = teamRepository.findById(teamId)
+        teamRepository.findById(teamId)
                 .orElseThrow(TeamNotFoundException::new);
 
-        if (!tournament.getParticipatingTeams().contains(team)) {
+        if (tournamentRepository.deleteTeam(tournamentId, teamId) == 0) {
             throw new TeamNotInTournamentException();
         }
 
-        tournament.removeTeam(team);
-        tournamentRepository.save(tournament);
+        tournamentRepository.releaseRegistrationPlace(tournamentId);
+        referenceDataCache.evictTournament(tournamentId);
+        // Its matches in the tournament go with it, as when the team is deleted: the results are taken out
+        // of the opponents' standings first, and a later correction of a score cannot count them again
+        List<Match> matches = matchRepository.findByTournamentIdAndTeamId(tournamentId, teamId);
+        standingsService.applyResultChanges(matches.stream().map(MatchOutcome::of).toList(), List.of());
+        matchRepository.deleteAll(matches);
+        standingsService.removeTeam(tournamentId, teamId);
         return true;
     }
 
-    public List<TournamentDTO> getTournamentsByStatus(TournamentStatus status) {
-        return tournamentRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageDTO<TournamentDTO> getTournamentsByStatus(TournamentStatus status, Long after, int limit) {
+        int size = Pagination.size(limit);
+        List<TournamentDTO> rows = tournamentRepository.findSummariesByStatusAfter(
+                status, Pagination.start(after), Pagination.fetchLimit(size));
+        return toPage(rows, size);
     }
 
+    @Transactional(readOnly = true)
     public List<TournamentDTO> getUpcomingTournaments() {
-        return tournamentRepository.findByStartDateAfter(LocalDate.now()).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return withParticipatingTeams(tournamentRepository.findSummariesByStartDateAfter(LocalDate.now()));
     }
 
+    @Transactional(readOnly = true)
     public List<TournamentDTO> getTournamentsByTeam(Long teamId) {
         // Verify team exists
         if (!teamRepository.existsById(teamId)) {
             throw new TeamNotFoundException();
         }
 
-        return tournamentRepository.findByParticipatingTeamId(teamId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return withParticipatingTeams(tournamentRepository.findSummariesByParticipatingTeamId(teamId));
     }
 
-    public List<TournamentDTO> searchTournaments(String keyword) {
+    @Transactional(readOnly = true)
+    public PageDTO<TournamentDTO> searchTournaments(String keyword, Long after, int limit) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new EmptySearchKeywordException();
         }
 
-        return tournamentRepository.findByNameContaining(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Matching ids come from the search index, the rows from their primary key
+        int size = Pagination.size(limit);
+        List<Long> ids = searchIndex.findIds(SearchHitDTO.Type.TOURNAMENT, keyword, Pagination.start(after), size + 1);
+        PageDTO<TournamentDTO> page = Pagination.toPageOfIds(ids, size, tournamentRepository::findSummariesByIdIn,
+                TournamentDTO::getId, dto -> dto);
+        withParticipatingTeams(page.getItems());
+        return page;
     }
 
+    // Teams are attached after trimming, so the look-ahead row never costs a query
+    private PageDTO<TournamentDTO> toPage(List<TournamentDTO> rows, int size) {
+        PageDTO<TournamentDTO> page = Pagination.toPage(rows, size, TournamentDTO::getId, dto -> dto);
+        withParticipatingTeams(page.getItems());
+        return page;
+    }
+
+    // Builds the DTO from the entity columns only; teams are attached without touching the lazy collections
     private TournamentDTO convertToDTO(Tournament tournament) {
         TournamentDTO dto = new TournamentDTO();
         dto.setId(tournament.getId());
@@ -184,23 +262,40 @@ public class TournamentService {
         dto.setMaxTeams(tournament.getMaxTeams());
         dto.setStatus(tournament.getStatus());
         dto.setCreatedAt(tournament.getCreatedAt());
-        dto.setNumberOfRegisteredTeams(tournament.getParticipatingTeams().size());
 
-        if (tournament.getParticipatingTeams() != null && !tournament.getParticipatingTeams().isEmpty()) {
-            Set<TeamDTO> teamsDTO = tournament.getParticipatingTeams().stream()
-                    .map(this::convertTeamToDTO)
-                    .collect(Collectors.toSet());
-            dto.setParticipatingTeams(teamsDTO);
+        withParticipatingTeams(List.of(dto));
+        dto.setNumberOfRegisteredTeams(tournament.getRegisteredTeams());
+        return dto;
+    }
+
+    /**
+     * Attaches the participating teams to the given tournaments with a single query,
+     * so a list of any size costs one statement for the tournaments and one for their teams.
+     */
+    private List<TournamentDTO> withParticipatingTeams(List<TournamentDTO> tournaments) {
+        if (tournaments.isEmpty()) {
+            return tournaments;
         }
 
-        return dto;
+        Map<Long, TournamentDTO> tournamentsById = new HashMap<>();
+        tournaments.forEach(dto -> tournamentsById.put(dto.getId(), dto));
+
+        for (ParticipatingTeamView team : tournamentRepository.findParticipatingTeams(tournamentsById.keySet())) {
+            TournamentDTO tournament = tournamentsById.get(team.getTournamentId());
+            if (tournament.getParticipatingTeams() == null) {
+                tournament.setParticipatingTeams(new HashSet<>());
+            }
+            tournament.getParticipatingTeams().add(convertTeamToDTO(team));
+        }
+
+        return tournaments;
     }
 
-    private TeamDTO convertTeamToDTO(Team team) {
+    private TeamDTO convertTeamToDTO(ParticipatingTeamView team) {
         TeamDTO dto = new TeamDTO();
         dto.setId(team.getId());
         dto.setName(team.getName());
-        dto.setNumberOfPlayers(team.getPlayers().size());
+        dto.setNumberOfPlayers(team.getNumberOfPlayers());
         return dto;
     }
 }
\ No newline at end of file
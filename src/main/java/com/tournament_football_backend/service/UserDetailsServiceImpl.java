@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,10 +17,11 @@ import java.util.List;
 /*
  * UserDetailsServiceImpl.java
  * Implementation of UserDetailsService for loading user-specific data.
- * Provides methods to load user details by username and build UserPrincipal.
+ * Provides methods to load user details by username and build UserPrincipal,
+ * and stores the upgraded password hashes of users who logged in.
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     UserRepository userRepository;
@@ -33,6 +35,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return UserPrincipal.build(user);
     }
 
+    // Called after a successful login when the stored hash is not written with the configured algorithm
+    // and cost: newPassword is the same password hashed again with them. Best effort: when a concurrent
+    // login of the same user rehashed first, nothing is written and the login goes on with either hash
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserPrincipal principal = (UserPrincipal) user;
+        userRepository.updatePasswordIfUnchanged(principal.getUsername(), principal.getPassword(), newPassword);
+
+        return new UserPrincipal(principal.getId(), principal.getUsername(), principal.getEmail(), newPassword,
+                principal.getAuthorities());
+    }
+
     public static class UserPrincipal implements UserDetails {
         private static final long serialVersionUID = 1L;
 
@@ -0,0 +1,78 @@
+package com.tournament_football_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tournament_football_backend.model.User;
+import com.tournament_football_backend.repository.UserRepository;
+import com.tournament_football_backend.service.UserDetailsServiceImpl.UserPrincipal;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * UserPrincipalCache.java
+ * Bounded cache of the principals used to authenticate JWT requests, keyed by user id.
+ * A hit authenticates a request without touching the database. Entries expire after the configured
+ * staleness window and are evicted as soon as the user is updated or deleted.
+ */
+@Service
+public class UserPrincipalCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.principal-cache.ttl:60s}")
+    private Duration ttl;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<Long, UserPrincipal> principals;
+
+    @PostConstruct
+    void init() {
+        principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Returns null for a user that no longer exists; misses are not cached
+    public UserPrincipal getById(Long userId) {
+        return principals.get(userId, id -> userRepository.findById(id)
+                .map(this::buildPrincipal)
+                .orElse(null));
+    }
+
+    /**
+     * Drops the cached principal of a user that is being changed.
+     * The entry is evicted again after commit, so a request that reloaded the old row
+     * while the transaction was running cannot keep it cached for the whole window.
+     */
+    public void evict(Long userId) {
+        principals.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    // The password hash is not needed to authenticate a token, so it is not kept in memory
+    private UserPrincipal buildPrincipal(User user) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(user.getRole().name()));
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getEmail(), null, authorities);
+    }
+}
@@ -1,14 +1,16 @@
 package com.tournament_football_backend.service;
 
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.ProfileDTO;
+import com.tournament_football_backend.dto.SearchHitDTO;
 import com.tournament_football_backend.dto.UpdateUserDTO;
 import com.tournament_football_backend.dto.UserDTO;
 import com.tournament_football_backend.model.Profile;
 import com.tournament_football_backend.model.Role;
 import com.tournament_football_backend.model.User;
 import com.tournament_football_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,31 +28,45 @@ import static com.tournament_football_backend.exception.ValidationExceptions.*;
  */
 @Service
 @Transactional
+@Timed("service.method")
 public class UserService {
 
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private UserPrincipalCache userPrincipalCache;
 
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Transactional(readOnly = true)
+    public PageDTO<UserDTO> getAllUsers(Long after, int limit) {
+        int size = Pagination.size(limit);
+        List<User> rows = userRepository.findPageAfter(Pagination.start(after), Pagination.fetchLimit(size));
+        return Pagination.toPage(rows, size, User::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(Long id) {
         return userRepository.findByIdWithProfile(id)
                 .map(this::convertToDTO);
     }
 
+    // ETag of the user, read without loading it; empty if it does not exist
+    @Transactional(readOnly = true)
+    public Optional<String> getUserTag(Long id) {
+        return userRepository.findVersionTagById(id).map(version -> EntityTags.of("user", id, version));
+    }
+
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserByUsername(String username) {
         return userRepository.findByUsername(username)
                 .map(this::convertToDTO);
     }
 
-    public UserDTO createUser(UserDTO userDTO, String password) {
+    // The password arrives already hashed (see AuthController.registerUser)
+    public UserDTO createUser(UserDTO userDTO, String passwordHash) {
         if (userRepository.existsByUsername(userDTO.getUsername())) {
             throw new UsernameAlreadyExistsException();
         }
@@ -61,14 +77,21 @@ public class UserService {
         User user = new User();
         user.setUsername(userDTO.getUsername());
         user.setEmail(userDTO.getEmail());
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(passwordHash);
         user.setRole(userDTO.getRole() != null ? userDTO.getRole() : Role.ROLE_USER);
 
         User savedUser = userRepository.save(user);
+        searchIndex.index(savedUser);
         return convertToDTO(savedUser);
     }
 
     public Optional<UserDTO> updateUser(Long id, UpdateUserDTO updateUserDTO) {
+        return updateUser(id, updateUserDTO, null);
+    }
+
+    // Conditional version for If-Match requests, checked in the same transaction as the write
+    public Optional<UserDTO> updateUser(Long id, UpdateUserDTO updateUserDTO, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getUserTag(id));
         return userRepository.findById(id)
                 .map(user -> {
                     if (updateUserDTO.getUsername() != null && !updateUserDTO.getUsername().equals(user.getUsername())) {
@@ -86,21 +109,38 @@ public class UserService {
                     if (updateUserDTO.getRole() != null) {
                         user.setRole(updateUserDTO.getRole());
                     }
-                    return convertToDTO(userRepository.save(user));
+
+                    // Username and role are part of the cached principal used to authenticate tokens
+                    userPrincipalCache.evict(id);
+                    User savedUser = userRepository.save(user);
+                    searchIndex.index(savedUser);
+                    return convertToDTO(savedUser);
                 });
     }
 
     public boolean deleteUser(Long id) {
+        return deleteUser(id, null);
+    }
+
+    public boolean deleteUser(Long id, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getUserTag(id));
         if (!userRepository.existsById(id)) {
             throw new UserNotFoundException();
         }
 
         userRepository.deleteById(id);
+        userPrincipalCache.evict(id);
+        searchIndex.remove(SearchHitDTO.Type.USER, id);
         return true;
     }
 
     public Optional<UserDTO> updateProfile(Long userId, ProfileDTO profileDTO) {
-        return userRepository.findByIdWithProfile(userId)
+        return updateProfile(userId, profileDTO, null);
+    }
+
+    public Optional<UserDTO> updateProfile(Long userId, ProfileDTO profileDTO, String ifMatch) {
+        EntityTags.checkIfMatch(ifMatch, () -> getUserTag(userId));
+        return userRepository.findByIdForProfileUpdate(userId)
                 .map(user -> {
                     Profile profile = user.getProfile();
                     if (profile == null) {
@@ -120,20 +160,24 @@ public class UserService {
                 });
     }
 
-    public List<UserDTO> searchUsers(String keyword) {
+    @Transactional(readOnly = true)
+    public PageDTO<UserDTO> searchUsers(String keyword, Long after, int limit) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new EmptySearchKeywordException();
         }
 
-        return userRepository.findByUsernameContainingOrEmailContaining(keyword).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // Matching ids come from the search index, the rows from their primary key
+        int size = Pagination.size(limit);
+        List<Long> ids = searchIndex.findIds(SearchHitDTO.Type.USER, keyword, Pagination.start(after), size + 1);
+        return Pagination.toPageOfIds(ids, size, userRepository::findAllById, User::getId, this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
@@ -0,0 +1,36 @@
+-- Tables and columns the application needs on top of the original schema (V1)
+
+-- Knockout brackets: slots of later rounds have no teams until the previous round is played
+ALTER TABLE matches MODIFY home_team_id BIGINT NULL;
+ALTER TABLE matches MODIFY away_team_id BIGINT NULL;
+ALTER TABLE matches ADD COLUMN bracket_round INT;
+ALTER TABLE matches ADD COLUMN bracket_position INT;
+ALTER TABLE matches ADD COLUMN next_match_id BIGINT;
+ALTER TABLE matches ADD CONSTRAINT fk_matches_next_match
+    FOREIGN KEY (next_match_id) REFERENCES matches(id) ON DELETE SET NULL;
+
+-- Id blocks handed out by Hibernate for entities whose inserts are batched (see Match);
+-- V2_1 moves the counter past the existing matches
+CREATE TABLE IF NOT EXISTS id_generators (
+    name VARCHAR(50) NOT NULL PRIMARY KEY,
+    last_used_id BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO id_generators (name, last_used_id) VALUES ('matches', 0);
+
+-- Standings kept up to date incrementally by the application; V2_1 builds them for the existing matches
+CREATE TABLE IF NOT EXISTS standings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tournament_id BIGINT NOT NULL,
+    team_id BIGINT NOT NULL,
+    played INT NOT NULL DEFAULT 0,
+    won INT NOT NULL DEFAULT 0,
+    drawn INT NOT NULL DEFAULT 0,
+    lost INT NOT NULL DEFAULT 0,
+    goals_for INT NOT NULL DEFAULT 0,
+    goals_against INT NOT NULL DEFAULT 0,
+    points INT NOT NULL DEFAULT 0,
+    FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE CASCADE,
+    FOREIGN KEY (team_id) REFERENCES teams(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_tournament_team (tournament_id, team_id)
+);
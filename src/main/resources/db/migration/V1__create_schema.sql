@@ -1,6 +1,3 @@
-CREATE DATABASE IF NOT EXISTS tournament_football;
-USE tournament_football;
-
 CREATE TABLE IF NOT EXISTS users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
@@ -69,4 +66,4 @@ CREATE TABLE IF NOT EXISTS tournament_teams (
     PRIMARY KEY (tournament_id, team_id),
     FOREIGN KEY (tournament_id) REFERENCES tournaments(id) ON DELETE CASCADE,
     FOREIGN KEY (team_id) REFERENCES teams(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
@@ -0,0 +1,26 @@
+-- Runs after the demo data (db/seed/V2) when it is loaded, so it covers both the matches already in a
+-- database created before the migrations and those of the seed.
+
+-- The application allocates match ids from id_generators: continue after the existing rows
+UPDATE id_generators SET last_used_id = (SELECT COALESCE(MAX(id), 0) FROM matches) WHERE name = 'matches';
+
+-- Standings built from the completed matches (kept up to date incrementally by the application)
+INSERT IGNORE INTO standings (tournament_id, team_id, played, won, drawn, lost, goals_for, goals_against, points)
+SELECT r.tournament_id, r.team_id, r.played, r.won, r.drawn, r.lost, r.goals_for, r.goals_against, 3 * r.won + r.drawn
+FROM (
+    SELECT tt.tournament_id, tt.team_id,
+           COUNT(m.id) AS played,
+           COALESCE(SUM(CASE WHEN (m.home_team_id = tt.team_id AND m.home_goals > m.away_goals)
+                               OR (m.away_team_id = tt.team_id AND m.away_goals > m.home_goals) THEN 1 ELSE 0 END), 0) AS won,
+           COALESCE(SUM(CASE WHEN m.home_goals = m.away_goals THEN 1 ELSE 0 END), 0) AS drawn,
+           COALESCE(SUM(CASE WHEN (m.home_team_id = tt.team_id AND m.home_goals < m.away_goals)
+                               OR (m.away_team_id = tt.team_id AND m.away_goals < m.home_goals) THEN 1 ELSE 0 END), 0) AS lost,
+           COALESCE(SUM(CASE WHEN m.home_team_id = tt.team_id THEN m.home_goals ELSE m.away_goals END), 0) AS goals_for,
+           COALESCE(SUM(CASE WHEN m.home_team_id = tt.team_id THEN m.away_goals ELSE m.home_goals END), 0) AS goals_against
+    FROM tournament_teams tt
+    LEFT JOIN matches m ON m.tournament_id = tt.tournament_id
+        AND m.status = 'COMPLETED'
+        AND (m.home_team_id = tt.team_id OR m.away_team_id = tt.team_id)
+    GROUP BY tt.tournament_id, tt.team_id
+) r;
+
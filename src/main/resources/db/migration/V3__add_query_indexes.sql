@@ -0,0 +1,32 @@
+-- Indexes for the predicates and orderings of the repository queries.
+-- InnoDB appends the primary key to every secondary index: it is spelled out where a keyset page
+-- (... AND id > ? ORDER BY id) reads the index in id order, so the intent stays explicit.
+-- The foreign keys already index matches(home_team_id, away_team_id, next_match_id),
+-- team_players(user_id) and tournament_teams(team_id).
+
+-- findByTournamentId, findByTournamentIdAndStatus, count of wins/losses, existsByTournamentId
+CREATE INDEX idx_matches_tournament_status ON matches (tournament_id, status);
+
+-- findByStatus, findByStatusAfter
+CREATE INDEX idx_matches_status_id ON matches (status, id);
+
+-- findByMatchDateBetween (today's matches)
+CREATE INDEX idx_matches_match_date ON matches (match_date);
+
+-- findSpecificMatch
+CREATE INDEX idx_matches_home_away_tournament ON matches (home_team_id, away_team_id, tournament_id);
+
+-- findBracket: the rounds of a tournament already in bracket order
+CREATE INDEX idx_matches_tournament_bracket ON matches (tournament_id, bracket_round, bracket_position);
+
+-- findByStatus, findSummariesByStatusAfter
+CREATE INDEX idx_tournaments_status_id ON tournaments (status, id);
+
+-- findByStartDateBetween, findByStartDateAfter, findSummariesByStartDateAfter
+CREATE INDEX idx_tournaments_start_date ON tournaments (start_date);
+
+-- findByEndDateBefore
+CREATE INDEX idx_tournaments_end_date ON tournaments (end_date);
+
+-- findByRole
+CREATE INDEX idx_users_role ON users (role);
@@ -0,0 +1,6 @@
+-- Optimistic-lock versions (@Version) of the entities edited through the API.
+-- Every update checks and increments them, and the HTTP ETags are built from them.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE teams ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tournaments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE matches ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Completed matches of one team, per side and in match_date order: the team statistics aggregate them
+-- and the form reads the latest few backwards, stopping after the first rows.
+CREATE INDEX idx_matches_home_status_date ON matches (home_team_id, status, match_date);
+CREATE INDEX idx_matches_away_status_date ON matches (away_team_id, status, match_date);
@@ -0,0 +1,2 @@
+-- Room for every supported hash with its {id} prefix: an Argon2 hash alone is about 100 characters
+ALTER TABLE users MODIFY password VARCHAR(255) NOT NULL;
@@ -0,0 +1,7 @@
+-- Number of teams in tournament_teams for each tournament, kept by the registrations themselves:
+-- a registration takes a place with UPDATE ... WHERE registered_teams < max_teams, so the check
+-- and the increment are one statement and concurrent registrations cannot overfill a tournament.
+ALTER TABLE tournaments ADD COLUMN registered_teams INT NOT NULL DEFAULT 0;
+
+UPDATE tournaments
+SET registered_teams = (SELECT COUNT(*) FROM tournament_teams tt WHERE tt.tournament_id = tournaments.id);
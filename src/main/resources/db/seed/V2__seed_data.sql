@@ -140,4 +140,4 @@ INSERT IGNORE INTO matches (home_team_id, away_team_id, tournament_id, match_dat
 (1, 3, 7, '2025-12-05 18:00:00', 0, 0, 'SCHEDULED'),
 (5, 7, 7, '2025-12-05 18:30:00', 0, 0, 'SCHEDULED'),
 (9, 11, 7, '2025-12-05 19:00:00', 0, 0, 'SCHEDULED'),
-(6, 4, 7, '2025-12-05 19:30:00', 0, 0, 'SCHEDULED');
\ No newline at end of file
+(6, 4, 7, '2025-12-05 19:30:00', 0, 0, 'SCHEDULED');
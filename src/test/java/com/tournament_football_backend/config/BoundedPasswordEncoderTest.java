@@ -0,0 +1,125 @@
+package com.tournament_football_backend.config;
+
+import com.tournament_football_backend.exception.UserExceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private MeterRegistry registry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    void encodeAndMatches_ShouldDelegateOnHashingThreadAndRecordTime() {
+        // Given
+        when(delegate.encode("secret")).thenAnswer(invocation -> Thread.currentThread().getName());
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        // When
+        String thread = encoder.encode("secret");
+        boolean matches = encoder.matches("secret", "hash");
+
+        // Then
+        assertEquals("password-hashing-0", thread);
+        assertTrue(matches);
+        assertEquals(1, registry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(1, registry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(2, registry.get("password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void encode_WhenThreadsAndQueueFull_ShouldRejectAtOnce() throws Exception {
+        // Given - one hash running, one queued
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        var callers = Executors.newVirtualThreadPerTaskExecutor();
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"), callers);
+        awaitQueue(0);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"), callers);
+        awaitQueue(1);
+
+        // When & Then
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("c"));
+        assertEquals(1.0, registry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hash", running.get(10, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(10, TimeUnit.SECONDS));
+        callers.close();
+    }
+
+    @Test
+    void upgradeEncoding_WhenHashesQueued_ShouldPostponeRehash() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.upgradeEncoding("old")).thenReturn(true);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        assertTrue(encoder.upgradeEncoding("old"));
+        var callers = Executors.newVirtualThreadPerTaskExecutor();
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"), callers);
+        awaitQueue(0);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"), callers);
+        awaitQueue(1);
+
+        // When
+        boolean upgrade = encoder.upgradeEncoding("old");
+
+        // Then
+        assertFalse(upgrade);
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        queued.get(10, TimeUnit.SECONDS);
+        callers.close();
+    }
+
+    // Waits until the hashing thread is busy and the given number of hashes is queued
+    private void awaitQueue(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            if (registry.get("password.hashing.queue").gauge().value() == size
+                    && mockingDetails(delegate).getInvocations().stream()
+                    .anyMatch(invocation -> invocation.getMethod().getName().equals("encode"))) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("Queue never reached " + size);
+    }
+}
@@ -0,0 +1,102 @@
+package com.tournament_football_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(pool, 2, Duration.ofMillis(100));
+    }
+
+    @Test
+    void getConnection_WhenPermitsLeft_ShouldDelegateToPool() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.isReadOnly()).thenReturn(true);
+
+        // When
+        Connection limited = dataSource.getConnection();
+
+        // Then
+        assertTrue(limited.isReadOnly());
+        assertEquals(1, dataSource.availablePermits());
+        verify(pool).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenAllPermitsTaken_ShouldTimeOutWithoutReachingPool() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When & Then
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    void close_ShouldHandPermitToWaitingCallerOnce() throws Exception {
+        // Given
+        ConnectionLimitingDataSource single = new ConnectionLimitingDataSource(pool, 1, Duration.ofSeconds(5));
+        when(pool.getConnection()).thenReturn(connection);
+        Connection first = single.getConnection();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return single.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertFalse(waiting.isDone());
+
+            // When
+            first.close();
+            first.close();
+
+            // Then
+            assertNotNull(waiting.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(0, single.availablePermits());
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void getConnection_WhenPoolFails_ShouldReleasePermit() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When & Then
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
@@ -0,0 +1,61 @@
+package com.tournament_football_backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HibernateCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        HibernateCacheConfig config = new HibernateCacheConfig();
+        ReflectionTestUtils.setField(config, "maxSize", 100L);
+        ReflectionTestUtils.setField(config, "queryMaxSize", 10L);
+        ReflectionTestUtils.setField(config, "ttl", Duration.ofMinutes(5));
+        cacheManager = config.secondLevelCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void secondLevelCacheManager_ShouldExpireEntityCollectionAndQueryRegions() {
+        // Given
+        OptionalLong fiveMinutes = OptionalLong.of(Duration.ofMinutes(5).toNanos());
+
+        // When & Then
+        HibernateCacheConfig.REFERENCE_DATA_REGIONS.forEach(region ->
+                assertEquals(fiveMinutes, configuration(region).getExpireAfterWrite(), region));
+        assertEquals(fiveMinutes,
+                configuration(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME).getExpireAfterWrite());
+    }
+
+    @Test
+    void secondLevelCacheManager_ShouldNeverExpireUpdateTimestamps() {
+        // When
+        CaffeineConfiguration<?, ?> timestamps =
+                configuration(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+        // Then
+        assertEquals(OptionalLong.empty(), timestamps.getExpireAfterWrite());
+        assertEquals(OptionalLong.empty(), timestamps.getMaximumSize());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
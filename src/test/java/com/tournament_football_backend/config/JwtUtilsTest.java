@@ -0,0 +1,91 @@
+package com.tournament_football_backend.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
+    private static final String OTHER_SECRET = "otherSecretKey1234567890123456789012345678901234567890123456789";
+
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000);
+        jwtUtils.init();
+    }
+
+    @Test
+    void parseClaims_WhenTokenValid_ShouldReturnUsernameAndUserId() {
+        // Given
+        String token = jwtUtils.generateTokenFromUsername("testuser", 1L, "ROLE_USER");
+
+        // When
+        Optional<Claims> claims = jwtUtils.parseClaims(token);
+
+        // Then
+        assertTrue(claims.isPresent());
+        assertEquals("testuser", claims.get().getSubject());
+        assertEquals(1L, JwtUtils.getUserId(claims.get()));
+        assertEquals("ROLE_USER", claims.get().get(JwtUtils.CLAIM_ROLE, String.class));
+    }
+
+    @Test
+    void parseClaims_WhenTokenHasNoUserId_ShouldReturnNullUserId() {
+        // Given
+        String token = Jwts.builder()
+                .setSubject("testuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When
+        Optional<Claims> claims = jwtUtils.parseClaims(token);
+
+        // Then
+        assertTrue(claims.isPresent());
+        assertNull(JwtUtils.getUserId(claims.get()));
+    }
+
+    @Test
+    void parseClaims_WhenSignedWithOtherKey_ShouldReturnEmpty() {
+        // Given
+        String token = Jwts.builder()
+                .setSubject("testuser")
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OTHER_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertTrue(jwtUtils.parseClaims(token).isEmpty());
+    }
+
+    @Test
+    void parseClaims_WhenTokenExpired_ShouldReturnEmpty() {
+        // Given
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", -1_000);
+        String token = jwtUtils.generateTokenFromUsername("testuser", 1L, "ROLE_USER");
+
+        // When & Then
+        assertTrue(jwtUtils.parseClaims(token).isEmpty());
+    }
+
+    @Test
+    void parseClaims_WhenTokenMalformedOrEmpty_ShouldReturnEmpty() {
+        assertTrue(jwtUtils.parseClaims("not-a-jwt").isEmpty());
+        assertTrue(jwtUtils.parseClaims("").isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.tournament_football_backend.config;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyLoadingGuardTest {
+
+    private static final String COLLECTION = "collection com.tournament_football_backend.model.Team.players";
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void check_InServiceTransaction_ShouldAllow() {
+        // Given
+        LazyLoadingGuard guard = new LazyLoadingGuard(LazyLoadingGuard.Mode.FAIL);
+        inTransaction("com.tournament_football_backend.service.TeamService.getTeamById");
+
+        // When & Then
+        assertDoesNotThrow(() -> guard.check(COLLECTION));
+    }
+
+    @Test
+    void check_OutsideServiceTransaction_ShouldFail() {
+        // Given
+        LazyLoadingGuard guard = new LazyLoadingGuard(LazyLoadingGuard.Mode.FAIL);
+
+        // When & Then - no transaction (open-in-view), then the transaction of a repository
+        assertThrows(LazyInitializationException.class, () -> guard.check(COLLECTION));
+        inTransaction("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById");
+        LazyInitializationException e = assertThrows(LazyInitializationException.class,
+                () -> guard.check(COLLECTION));
+        assertTrue(e.getMessage().contains("SimpleJpaRepository.findById"));
+    }
+
+    @Test
+    void check_WhenWarnOrOff_ShouldNotThrow() {
+        // Given
+        LazyLoadingGuard warn = new LazyLoadingGuard(LazyLoadingGuard.Mode.WARN);
+        LazyLoadingGuard off = new LazyLoadingGuard(LazyLoadingGuard.Mode.OFF);
+
+        // When & Then
+        assertDoesNotThrow(() -> warn.check(COLLECTION));
+        assertDoesNotThrow(() -> off.check(COLLECTION));
+    }
+
+    private static void inTransaction(String name) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionName(name);
+    }
+}
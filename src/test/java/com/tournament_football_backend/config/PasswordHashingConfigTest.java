@@ -0,0 +1,52 @@
+package com.tournament_football_backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingConfigTest {
+
+    // Hash of "password123" in the seed data, stored without an {id} prefix
+    private static final String SEED_HASH = "$2a$10$9P5rY/LVvhSDE0k559TGhOZz0qXzC0rOha8Hi9IS69gac/dnRzMFG";
+
+    @Test
+    void delegatingEncoder_WhenHashHasNoPrefix_ShouldMatchAsBCryptAndUpgrade() {
+        // Given
+        PasswordEncoder encoder = PasswordHashingConfig.delegatingEncoder("bcrypt", 10, 1024, 1);
+
+        // When & Then
+        assertTrue(encoder.matches("password123", SEED_HASH));
+        assertFalse(encoder.matches("wrong", SEED_HASH));
+        assertTrue(encoder.upgradeEncoding(SEED_HASH));
+    }
+
+    @Test
+    void delegatingEncoder_WhenBCryptCostDiffers_ShouldUpgradeEitherWay() {
+        // Given
+        PasswordEncoder encoder = PasswordHashingConfig.delegatingEncoder("bcrypt", 5, 1024, 1);
+
+        // When & Then
+        assertTrue(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret")));
+        assertTrue(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+    }
+
+    @Test
+    void delegatingEncoder_WhenArgon2Configured_ShouldWriteArgon2AndStillReadBCrypt() {
+        // Given
+        PasswordEncoder encoder = PasswordHashingConfig.delegatingEncoder("argon2", 4, 1024, 1);
+
+        // When
+        String hash = encoder.encode("secret");
+
+        // Then
+        assertTrue(hash.startsWith("{argon2}$argon2id$"));
+        assertTrue(hash.length() <= 255);
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+        assertTrue(encoder.matches("password123", SEED_HASH));
+        assertTrue(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret")));
+    }
+}
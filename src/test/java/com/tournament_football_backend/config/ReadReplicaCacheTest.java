@@ -0,0 +1,69 @@
+package com.tournament_football_backend.config;
+
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.service.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The embedded database stands in for both nodes; what is checked is what each read leaves in the caches
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaCacheTest.URL,
+        "db.replica.url=" + ReadReplicaCacheTest.URL
+})
+@ActiveProfiles("test")
+class ReadReplicaCacheTest {
+
+    static final String URL = "jdbc:h2:mem:read_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        team = new Team();
+        team.setName("Replica " + UUID.randomUUID().toString().substring(0, 8));
+        team = teamRepository.save(team);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamService.deleteTeam(team.getId());
+    }
+
+    @Test
+    void readFromReplica_ShouldNotFillSecondLevelCache() {
+        // When
+        assertTrue(teamService.getTeamById(team.getId()).isPresent());
+
+        // Then
+        assertFalse(entityManagerFactory.getCache().contains(Team.class, team.getId()));
+    }
+
+    @Test
+    void readFromPrimary_ShouldFillSecondLevelCache() {
+        // When
+        assertTrue(teamService.getTeamByName(team.getName()).isPresent());
+
+        // Then
+        assertTrue(entityManagerFactory.getCache().contains(Team.class, team.getId()));
+    }
+}
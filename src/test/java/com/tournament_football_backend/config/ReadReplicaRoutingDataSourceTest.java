@@ -0,0 +1,123 @@
+package com.tournament_football_backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two in-memory H2 databases stand in for the primary and the replica; each knows its own name
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getConnection_ShouldSendOnlyReadOnlyTransactionsToReplica() {
+        // Given
+        Router router = new Router(Duration.ofMinutes(1));
+
+        // When & Then
+        assertEquals("replica", router.inTransaction(true));
+        assertEquals("primary", router.inTransaction(false));
+        assertEquals("primary", router.node());
+    }
+
+    @Test
+    void getConnection_AfterOwnWrite_ShouldReadFromPrimaryForTheWindow() {
+        // Given
+        Router router = new Router(Duration.ofMinutes(1));
+        authenticate("alice");
+        router.inTransaction(false);
+
+        // When & Then
+        assertEquals("primary", router.inTransaction(true));
+        authenticate("bob");
+        assertEquals("replica", router.inTransaction(true));
+    }
+
+    @Test
+    void getConnection_AfterWindowOrRollback_ShouldReadFromReplica() {
+        // Given - a window that is over as soon as it starts
+        Router expired = new Router(Duration.ZERO);
+        authenticate("alice");
+        expired.inTransaction(false);
+
+        // When & Then
+        assertEquals("replica", expired.inTransaction(true));
+
+        // Given - a write that is rolled back
+        Router router = new Router(Duration.ofMinutes(1));
+        router.transactions(false).executeWithoutResult(status -> {
+            router.jdbc.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // When & Then
+        assertEquals("replica", router.inTransaction(true));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("USER"))));
+    }
+
+    // The data source as ReadReplicaConfig builds it, with a transaction manager on top
+    private class Router {
+        final DataSource dataSource;
+        final JdbcTemplate jdbc;
+
+        Router(Duration readYourWritesWindow) {
+            dataSource = new LazyConnectionDataSourceProxy(
+                    new ReadReplicaRoutingDataSource(primary, replica, readYourWritesWindow));
+            jdbc = new JdbcTemplate(dataSource);
+        }
+
+        TransactionTemplate transactions(boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            template.setReadOnly(readOnly);
+            return template;
+        }
+
+        String inTransaction(boolean readOnly) {
+            return transactions(readOnly).execute(status -> node());
+        }
+
+        String node() {
+            return jdbc.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.tournament_football_backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestSqlStatisticsFilterTest {
+
+    private RequestSqlStatistics statistics;
+    private MeterRegistry registry;
+    private RequestSqlStatisticsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new RequestSqlStatistics();
+        registry = new SimpleMeterRegistry();
+        filter = new RequestSqlStatisticsFilter(statistics, registry, 2);
+    }
+
+    @Test
+    void doFilter_ShouldRecordStatementsAndLoadsOfTheRequestByUriTemplate() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/teams/1");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/teams/{id}");
+            statistics.inspect("select ...");
+            statistics.inspect("select ...");
+            statistics.inspect("select ...");
+            statistics.onLoad(new Object(), (Object) 1L, null, null, null);
+        });
+
+        // Then
+        DistributionSummary statements = registry.get("http.server.requests.sql.statements")
+                .tag("method", "GET").tag("uri", "/teams/{id}").summary();
+        DistributionSummary loads = registry.get("http.server.requests.entity.loads")
+                .tag("uri", "/teams/{id}").summary();
+        assertEquals(1, statements.count());
+        assertEquals(3.0, statements.totalAmount());
+        assertEquals(1.0, loads.totalAmount());
+    }
+
+    @Test
+    void inspect_OutsideRequest_ShouldNotCount() throws Exception {
+        // Given - a statement issued before the request
+        statistics.inspect("select ...");
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/teams"), new MockHttpServletResponse(),
+                (req, res) -> {});
+        statistics.inspect("select ...");
+
+        // Then
+        DistributionSummary statements = registry.get("http.server.requests.sql.statements")
+                .tag("uri", "UNKNOWN").summary();
+        assertEquals(0.0, statements.totalAmount());
+        assertEquals(0, statistics.stop().statements());
+    }
+}
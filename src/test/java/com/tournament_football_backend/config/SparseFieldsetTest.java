@@ -0,0 +1,140 @@
+package com.tournament_football_backend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.tournament_football_backend.dto.PageDTO;
+import com.tournament_football_backend.dto.TeamDTO;
+import com.tournament_football_backend.dto.TournamentDTO;
+import com.tournament_football_backend.dto.UserDTO;
+import com.tournament_football_backend.model.Role;
+import com.tournament_football_backend.model.TournamentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFieldsetTest {
+
+    private ObjectMapper objectMapper;
+    private TeamDTO team;
+    private TournamentDTO tournament;
+
+    @BeforeEach
+    void setUp() {
+        JacksonConfig config = new JacksonConfig();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(config.blackbirdModule(), config.sparseFieldsetModule())
+                .filters(SparseFieldset.ALL_FIELDS)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        team = new TeamDTO("Juventus");
+        team.setId(1L);
+        team.setPlayers(new LinkedHashSet<>(List.of(
+                new UserDTO(1L, "player1", "player1@example.com", Role.ROLE_USER, null),
+                new UserDTO(2L, "player2", "player2@example.com", Role.ROLE_USER, null))));
+        team.setNumberOfPlayers(2);
+
+        tournament = new TournamentDTO(1L, "Serie A", "Campionato", LocalDate.of(2025, 8, 23),
+                LocalDate.of(2026, 5, 24), 20, TournamentStatus.OPEN, null, 1);
+        tournament.setParticipatingTeams(Set.of(team));
+    }
+
+    @Test
+    void write_WhenNoFieldsRequested_ShouldWriteEveryProperty() throws Exception {
+        // When
+        JsonNode json = write(tournament, null);
+
+        // Then
+        assertEquals("Serie A", json.get("name").asText());
+        assertEquals("2025-08-23", json.get("startDate").asText());
+        JsonNode players = json.get("participatingTeams").get(0).get("players");
+        assertEquals(2, players.size());
+        assertEquals("player1@example.com", players.get(0).get("email").asText());
+    }
+
+    @Test
+    void write_WhenFieldsRequested_ShouldKeepOnlyThem() throws Exception {
+        // When
+        JsonNode json = write(tournament, "id, name");
+
+        // Then
+        assertEquals(List.of("id", "name"), names(json));
+    }
+
+    @Test
+    void write_WhenNestedFieldRequested_ShouldKeepItsParentsAndDropSiblings() throws Exception {
+        // When
+        JsonNode json = write(tournament, "name,participatingTeams.name,participatingTeams.players.username");
+
+        // Then
+        assertEquals(List.of("name", "participatingTeams"), names(json));
+        JsonNode registered = json.get("participatingTeams").get(0);
+        assertEquals(List.of("name", "players"), names(registered));
+        assertEquals(List.of("username"), names(registered.get("players").get(0)));
+    }
+
+    @Test
+    void write_WhenObjectRequested_ShouldKeepAllOfIt() throws Exception {
+        // When
+        JsonNode json = write(team, "players");
+
+        // Then
+        assertEquals(List.of("players"), names(json));
+        assertEquals(List.of("id", "username", "email", "role", "createdAt", "profile"),
+                names(json.get("players").get(0)));
+    }
+
+    @Test
+    void write_WhenBodyIsList_ShouldApplyFieldsToEveryItem() throws Exception {
+        // When
+        JsonNode json = write(List.of(team, team), "id,numberOfPlayers");
+
+        // Then
+        assertEquals(2, json.size());
+        assertEquals(List.of("id", "numberOfPlayers"), names(json.get(1)));
+    }
+
+    @Test
+    void write_WhenBodyIsPage_ShouldApplyFieldsToItemsAndKeepCursor() throws Exception {
+        // Given
+        PageDTO<TeamDTO> page = new PageDTO<>(List.of(team), 1L);
+
+        // When
+        JsonNode json = write(page, "name");
+
+        // Then
+        assertEquals(List.of("items", "nextCursor"), names(json));
+        assertEquals(List.of("name"), names(json.get("items").get(0)));
+        assertEquals(1L, json.get("nextCursor").asLong());
+    }
+
+    @Test
+    void of_WhenFieldsBlank_ShouldReturnNull() {
+        assertNull(SparseFieldset.of(null, team));
+        assertNull(SparseFieldset.of(" ", team));
+    }
+
+    private JsonNode write(Object body, String fields) throws Exception {
+        FilterProvider filters = SparseFieldset.of(fields, body);
+        String json = filters != null
+                ? objectMapper.writer(filters).writeValueAsString(body)
+                : objectMapper.writeValueAsString(body);
+        return objectMapper.readTree(json);
+    }
+
+    private static List<String> names(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
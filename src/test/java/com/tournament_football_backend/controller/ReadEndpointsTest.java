@@ -0,0 +1,78 @@
+package com.tournament_football_backend.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * The main read endpoints end to end on the seed data, with the lazy-loading guard on FAIL (test profile):
+ * a DTO that initializes an association after its service transaction ended fails the request.
+ * The second-level cache is emptied first, so the associations are really loaded.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ReadEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getTournament_ShouldIncludeParticipatingTeams() throws Exception {
+        mockMvc.perform(get("/tournaments/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participatingTeams.length()").value(greaterThan(0)));
+        mockMvc.perform(get("/tournaments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].participatingTeams").isArray());
+    }
+
+    @Test
+    void getTeam_ShouldIncludePlayers() throws Exception {
+        mockMvc.perform(get("/teams/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.players.length()").value(greaterThan(0)));
+        mockMvc.perform(get("/teams"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].players").isArray());
+    }
+
+    @Test
+    void getUser_ShouldIncludeProfile() throws Exception {
+        mockMvc.perform(get("/users/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile.firstName").value("Mario"));
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].profile").exists());
+    }
+
+    @Test
+    void getTournamentMatchesAndStandings_ShouldIncludeTeamNames() throws Exception {
+        mockMvc.perform(get("/matches/tournament/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].homeTeamName").exists());
+        mockMvc.perform(get("/tournaments/1/standings"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,155 @@
+package com.tournament_football_backend.repository;
+
+import com.tournament_football_backend.config.HibernateCacheConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every query declared on the repositories against the schema built by the Flyway migrations
+ * and fails if the plan of any statement it issues reads a whole table.
+ * New repository methods are picked up automatically; queries that cannot use an index by design
+ * have to be listed in FULL_SCAN_ALLOWED with the reason.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HibernateCacheConfig.class)
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            MatchRepository.class, TeamRepository.class, TournamentRepository.class,
+            UserRepository.class, ProfileRepository.class, StandingRepository.class);
+
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.of(
+            "MatchRepository.streamForExport", "optional filters: an unfiltered export reads every match");
+
+    private static final RecordingInspector INSPECTOR = new RecordingInspector();
+
+    @TestConfiguration
+    static class StatementRecording {
+        @Bean
+        HibernatePropertiesCustomizer statementRecorder() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, INSPECTOR);
+        }
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repositoryQueries_ShouldNotScanWholeTables() throws Exception {
+        List<String> fullScans = new ArrayList<>();
+        int checkedStatements = 0;
+
+        for (Class<?> repositoryType : REPOSITORIES) {
+            Object repository = context.getBean(repositoryType);
+            for (Method method : repositoryType.getDeclaredMethods()) {
+                String name = repositoryType.getSimpleName() + "." + method.getName();
+                for (String sql : statementsOf(repository, method)) {
+                    checkedStatements++;
+                    String plan = explain(sql);
+                    if (plan.contains(".tableScan") && !FULL_SCAN_ALLOWED.containsKey(name)) {
+                        fullScans.add(name + ":\n" + plan);
+                    }
+                }
+            }
+        }
+
+        assertTrue(checkedStatements > 0, "No statement was recorded");
+        assertTrue(fullScans.isEmpty(), "Full table scans:\n" + String.join("\n\n", fullScans));
+    }
+
+    // Invokes the method with placeholder arguments and returns the SQL it sent to the database
+    private List<String> statementsOf(Object repository, Method method) throws Exception {
+        // Nothing may come from the persistence context or the query cache
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        INSPECTOR.statements.clear();
+
+        Object[] args = Arrays.stream(method.getParameterTypes()).map(this::placeholder).toArray();
+        try {
+            Object result = method.invoke(repository, args);
+            if (result instanceof Stream<?> stream) {
+                try (stream) {
+                    stream.forEach(row -> {});
+                }
+            }
+        } catch (InvocationTargetException e) {
+            throw new AssertionError(method + " failed", e.getCause());
+        }
+        entityManager.flush();
+        return List.copyOf(INSPECTOR.statements);
+    }
+
+    private Object placeholder(Class<?> type) {
+        if (type == Long.class || type == long.class) return 1L;
+        if (type == Integer.class || type == int.class) return 1;
+        if (type == String.class) return "a";
+        if (type == LocalDate.class) return LocalDate.of(2025, 1, 1);
+        if (type == LocalDateTime.class) return LocalDateTime.of(2025, 1, 1, 0, 0);
+        if (type == Limit.class) return Limit.of(10);
+        if (Collection.class.isAssignableFrom(type)) return List.of(1L, 2L);
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        throw new IllegalArgumentException("No placeholder for " + type);
+    }
+
+    // H2 plans a statement when it is prepared, so unbound parameters do not change the plan
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement ps) -> {
+            for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                ps.setObject(i, null);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    static class RecordingInspector implements StatementInspector {
+        final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
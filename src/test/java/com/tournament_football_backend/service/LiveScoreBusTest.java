@@ -0,0 +1,223 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.MatchDTO;
+import com.tournament_football_backend.model.MatchStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LiveScoreBusTest {
+
+    private LiveScoreBus liveScoreBus;
+
+    @BeforeEach
+    void setUp() {
+        liveScoreBus = new LiveScoreBus();
+        ReflectionTestUtils.setField(liveScoreBus, "bufferSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        liveScoreBus.close();
+    }
+
+    @Test
+    void subscribe_ShouldSendSnapshotFirst() throws IOException {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // When
+        liveScoreBus.subscribe(emitter, null, 1L, () -> List.of(match(1L, 10L, 0, 0)));
+
+        // Then
+        assertEquals(1L, ((MatchDTO) sent(emitter, 1).get(0)).getId());
+        assertEquals(1, liveScoreBus.subscriberCount());
+    }
+
+    @Test
+    void subscribe_WhenUpdatedWhileSnapshotIsRead_ShouldKeepTheUpdate() throws IOException {
+        // Given - the update is committed after the snapshot read the match, before it is offered
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // When
+        liveScoreBus.subscribe(emitter, null, null, () -> {
+            List<MatchDTO> snapshot = List.of(match(1L, 10L, 0, 0));
+            liveScoreBus.publish(match(1L, 10L, 1, 0));
+            return snapshot;
+        });
+
+        // Then - delivered, and not replaced by the older snapshot state
+        assertEquals(1, ((MatchDTO) sent(emitter, 1).get(0)).getHomeGoals());
+        verify(emitter, after(200).times(1)).send(any(SseEventBuilder.class));
+        assertEquals(1, liveScoreBus.subscriberCount());
+    }
+
+    @Test
+    void subscribe_WhenSnapshotFails_ShouldNotKeepSubscriber() {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> liveScoreBus.subscribe(emitter, null, 1L, () -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+        assertEquals(0, liveScoreBus.subscriberCount());
+    }
+
+    @Test
+    void publish_ShouldReachOnlyMatchingSubscribers() throws IOException {
+        // Given
+        SseEmitter all = mock(SseEmitter.class);
+        SseEmitter tournament = mock(SseEmitter.class);
+        SseEmitter otherMatch = mock(SseEmitter.class);
+        liveScoreBus.subscribe(all, null, null, List::of);
+        liveScoreBus.subscribe(tournament, 10L, null, List::of);
+        liveScoreBus.subscribe(otherMatch, null, 2L, List::of);
+
+        // When
+        liveScoreBus.publish(match(1L, 10L, 1, 0));
+
+        // Then
+        assertEquals(1L, ((MatchDTO) sent(all, 1).get(0)).getId());
+        assertEquals(1L, ((MatchDTO) sent(tournament, 1).get(0)).getId());
+        verify(otherMatch, after(200).never()).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    void publish_WhenClientSlow_ShouldCoalesceUpdatesOfSameMatch() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch releaseClient = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstSendStarted.countDown();
+            releaseClient.await(5, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(emitter).send(any(SseEventBuilder.class));
+        liveScoreBus.subscribe(emitter, null, null, List::of);
+
+        // When
+        liveScoreBus.publish(match(1L, 10L, 1, 0));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        liveScoreBus.publish(match(1L, 10L, 2, 0));
+        liveScoreBus.publish(match(1L, 10L, 3, 0));
+        releaseClient.countDown();
+
+        // Then
+        List<Object> sent = sent(emitter, 2);
+        assertEquals(List.of(1, 3), sent.stream().map(data -> ((MatchDTO) data).getHomeGoals()).toList());
+    }
+
+    @Test
+    void publish_WhenBufferFull_ShouldDropOldestAndTellClient() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch releaseClient = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstSendStarted.countDown();
+            releaseClient.await(5, TimeUnit.SECONDS);
+            return null;
+        }).doNothing().when(emitter).send(any(SseEventBuilder.class));
+        liveScoreBus.subscribe(emitter, null, null, List::of);
+
+        // When
+        liveScoreBus.publish(match(1L, 10L, 1, 0));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        liveScoreBus.publish(match(2L, 10L, 0, 0));
+        liveScoreBus.publish(match(3L, 10L, 0, 0));
+        liveScoreBus.publish(match(4L, 10L, 0, 0));
+        releaseClient.countDown();
+
+        // Then
+        List<Object> sent = sent(emitter, 4);
+        assertEquals(1L, ((MatchDTO) sent.get(0)).getId());
+        assertEquals(Map.of("dropped", 1), sent.get(1));
+        assertEquals(List.of(3L, 4L), sent.subList(2, 4).stream().map(data -> ((MatchDTO) data).getId()).toList());
+    }
+
+    @Test
+    void publish_WhenTransactionActive_ShouldWaitForCommit() throws IOException {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        liveScoreBus.subscribe(emitter, null, null, List::of);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            liveScoreBus.publish(match(1L, 10L, 1, 0));
+
+            // Then
+            verify(emitter, after(200).never()).send(any(SseEventBuilder.class));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1L, ((MatchDTO) sent(emitter, 1).get(0)).getId());
+    }
+
+    @Test
+    void heartbeat_WhenClientGone_ShouldRemoveSubscriber() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEventBuilder.class));
+        // Awaited with a latch: completeWithError is synchronized, and a verify with timeout would hold
+        // the monitor of the emitter while it polls, keeping the sender from calling it
+        CountDownLatch completed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(emitter).completeWithError(any(IOException.class));
+        liveScoreBus.subscribe(emitter, null, null, List::of);
+
+        // When
+        liveScoreBus.heartbeat();
+
+        // Then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, liveScoreBus.subscriberCount());
+    }
+
+    // Payloads of the events sent to the emitter, waiting for the given number of them
+    private static List<Object> sent(SseEmitter emitter, int count) throws IOException {
+        ArgumentCaptor<SseEventBuilder> events = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, timeout(5000).times(count)).send(events.capture());
+        return events.getAllValues().stream()
+                .map(event -> event.build().stream()
+                        .filter(part -> MediaType.APPLICATION_JSON.equals(part.getMediaType()))
+                        .map(DataWithMediaType::getData)
+                        .findFirst()
+                        .orElseThrow())
+                .toList();
+    }
+
+    private static MatchDTO match(Long id, Long tournamentId, int homeGoals, int awayGoals) {
+        MatchDTO match = new MatchDTO();
+        match.setId(id);
+        match.setTournamentId(tournamentId);
+        match.setHomeGoals(homeGoals);
+        match.setAwayGoals(awayGoals);
+        match.setStatus(MatchStatus.IN_PROGRESS);
+        return match;
+    }
+}
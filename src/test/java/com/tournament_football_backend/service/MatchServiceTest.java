@@ -1,7 +1,13 @@
 package com.tournament_football_backend.service;
 
+import com.tournament_football_backend.dto.BracketDTO;
 import com.tournament_football_backend.dto.CreateMatchDTO;
+import com.tournament_football_backend.dto.GenerateBracketDTO;
+import com.tournament_football_backend.dto.GenerateFixturesDTO;
 import com.tournament_football_backend.dto.MatchDTO;
+import com.tournament_football_backend.dto.MatchResultDTO;
+import com.tournament_football_backend.dto.MatchResultOutcomeDTO;
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.UpdateMatchDTO;
 import com.tournament_football_backend.exception.MatchExceptions.*;
 import com.tournament_football_backend.exception.TeamExceptions.*;
@@ -14,18 +20,31 @@ import com.tournament_football_backend.model.Tournament;
 import com.tournament_football_backend.repository.MatchRepository;
 import com.tournament_football_backend.repository.TeamRepository;
 import com.tournament_football_backend.repository.TournamentRepository;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +62,15 @@ class MatchServiceTest {
     @Mock
     private TournamentRepository tournamentRepository;
 
+    @Mock
+    private StandingsService standingsService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private LiveScoreBus liveScoreBus;
+
     @InjectMocks
     private MatchService matchService;
 
@@ -104,18 +132,33 @@ class MatchServiceTest {
     void getAllMatches_ShouldReturnListOfMatchDTOs() {
         // Given
         List<Match> matches = Arrays.asList(testMatch);
-        when(matchRepository.findAll()).thenReturn(matches);
+        when(matchRepository.findPageAfter(eq(0L), any(Limit.class))).thenReturn(matches);
 
         // When
-        List<MatchDTO> result = matchService.getAllMatches();
+        PageDTO<MatchDTO> result = matchService.getAllMatches(null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(testMatch.getId(), result.get(0).getId());
-        assertEquals(testMatch.getHomeTeam().getName(), result.get(0).getHomeTeamName());
-        assertEquals(testMatch.getAwayTeam().getName(), result.get(0).getAwayTeamName());
-        verify(matchRepository).findAll();
+        assertEquals(1, result.getItems().size());
+        assertEquals(testMatch.getId(), result.getItems().get(0).getId());
+        assertEquals(testMatch.getHomeTeam().getName(), result.getItems().get(0).getHomeTeamName());
+        assertEquals(testMatch.getAwayTeam().getName(), result.getItems().get(0).getAwayTeamName());
+        verify(matchRepository).findPageAfter(eq(0L), any(Limit.class));
+    }
+
+    @Test
+    void getAllMatches_WhenCursorGiven_ShouldSeekPastIt() {
+        // Given
+        when(matchRepository.findPageAfter(1L, Limit.of(PageDTO.DEFAULT_LIMIT + 1)))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        PageDTO<MatchDTO> result = matchService.getAllMatches(1L, PageDTO.DEFAULT_LIMIT);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(matchRepository, never()).findAll();
     }
 
     @Test
@@ -153,6 +196,7 @@ class MatchServiceTest {
         when(teamRepository.findById(1L)).thenReturn(Optional.of(homeTeam));
         when(teamRepository.findById(2L)).thenReturn(Optional.of(awayTeam));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.existsByIdAndParticipatingTeamsId(eq(1L), anyLong())).thenReturn(true);
         when(matchRepository.save(any(Match.class))).thenReturn(testMatch);
 
         // When
@@ -241,6 +285,8 @@ class MatchServiceTest {
         when(teamRepository.findById(1L)).thenReturn(Optional.of(homeTeam));
         when(teamRepository.findById(3L)).thenReturn(Optional.of(externalTeam));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.existsByIdAndParticipatingTeamsId(1L, 1L)).thenReturn(true);
+        when(tournamentRepository.existsByIdAndParticipatingTeamsId(1L, 3L)).thenReturn(false);
 
         testCreateMatchDTO.setAwayTeamId(3L);
 
@@ -260,6 +306,7 @@ class MatchServiceTest {
         when(teamRepository.findById(1L)).thenReturn(Optional.of(homeTeam));
         when(teamRepository.findById(2L)).thenReturn(Optional.of(awayTeam));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.existsByIdAndParticipatingTeamsId(eq(1L), anyLong())).thenReturn(true);
 
         // When & Then
         InvalidMatchResultException exception = assertThrows(InvalidMatchResultException.class,
@@ -277,6 +324,7 @@ class MatchServiceTest {
         when(teamRepository.findById(1L)).thenReturn(Optional.of(homeTeam));
         when(teamRepository.findById(2L)).thenReturn(Optional.of(awayTeam));
         when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.existsByIdAndParticipatingTeamsId(eq(1L), anyLong())).thenReturn(true);
 
         // When & Then
         InvalidMatchResultException exception = assertThrows(InvalidMatchResultException.class,
@@ -287,6 +335,34 @@ class MatchServiceTest {
         verify(matchRepository, never()).save(any(Match.class));
     }
 
+    @Test
+    void getLiveMatches_WhenTournamentGiven_ShouldReturnItsMatchesInProgress() {
+        // Given
+        testMatch.setStatus(MatchStatus.IN_PROGRESS);
+        when(matchRepository.findByTournamentIdAndStatus(1L, MatchStatus.IN_PROGRESS)).thenReturn(List.of(testMatch));
+
+        // When
+        List<MatchDTO> result = matchService.getLiveMatches(1L);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(MatchStatus.IN_PROGRESS, result.get(0).getStatus());
+        verify(matchRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    void getLiveMatches_WhenNoTournament_ShouldReturnAllMatchesInProgress() {
+        // Given
+        when(matchRepository.findByStatus(MatchStatus.IN_PROGRESS)).thenReturn(List.of());
+
+        // When
+        List<MatchDTO> result = matchService.getLiveMatches(null);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(matchRepository).findByStatus(MatchStatus.IN_PROGRESS);
+    }
+
     @Test
     void updateMatch_WhenExists_ShouldUpdateAndReturn() {
         // Given
@@ -301,6 +377,7 @@ class MatchServiceTest {
         assertEquals(testMatch.getId(), result.get().getId());
         verify(matchRepository).findById(1L);
         verify(matchRepository).save(any(Match.class));
+        verify(liveScoreBus).publish(result.get());
     }
 
     @Test
@@ -365,6 +442,68 @@ class MatchServiceTest {
         assertTrue(result.isPresent());
         verify(matchRepository).findById(1L);
         verify(matchRepository).save(any(Match.class));
+        verify(liveScoreBus).publish(result.get());
+    }
+
+    @Test
+    void updateResult_WhenFirstResult_ShouldApplyOnlyNewOutcomeToStandings() {
+        // Given
+        when(matchRepository.findById(1L)).thenReturn(Optional.of(testMatch));
+        when(matchRepository.save(any(Match.class))).thenReturn(testMatch);
+
+        // When
+        matchService.updateResult(1L, 3, 1);
+
+        // Then
+        ArgumentCaptor<MatchOutcome> previous = ArgumentCaptor.forClass(MatchOutcome.class);
+        ArgumentCaptor<MatchOutcome> current = ArgumentCaptor.forClass(MatchOutcome.class);
+        verify(standingsService).applyResultChange(previous.capture(), current.capture());
+        assertFalse(previous.getValue().isCompleted());
+        assertTrue(current.getValue().isCompleted());
+        assertEquals(3, current.getValue().getHomeGoals());
+        assertEquals(1, current.getValue().getAwayGoals());
+    }
+
+    @Test
+    void updateResult_WhenCorrectingScore_ShouldPassPreviousScoreForReversal() {
+        // Given
+        testMatch.setStatus(MatchStatus.COMPLETED);
+        testMatch.setHomeGoals(1);
+        testMatch.setAwayGoals(1);
+        when(matchRepository.findById(1L)).thenReturn(Optional.of(testMatch));
+        when(matchRepository.save(any(Match.class))).thenReturn(testMatch);
+
+        // When
+        matchService.updateResult(1L, 2, 1);
+
+        // Then
+        ArgumentCaptor<MatchOutcome> previous = ArgumentCaptor.forClass(MatchOutcome.class);
+        ArgumentCaptor<MatchOutcome> current = ArgumentCaptor.forClass(MatchOutcome.class);
+        verify(standingsService).applyResultChange(previous.capture(), current.capture());
+        assertTrue(previous.getValue().isCompleted());
+        assertEquals(1, previous.getValue().getHomeGoals());
+        assertEquals(1, previous.getValue().getAwayGoals());
+        assertEquals(2, current.getValue().getHomeGoals());
+    }
+
+    @Test
+    void updateMatch_WhenStatusLeavesCompleted_ShouldPassNotCompletedOutcome() {
+        // Given
+        testMatch.setStatus(MatchStatus.COMPLETED);
+        testMatch.setHomeGoals(2);
+        testMatch.setAwayGoals(0);
+        when(matchRepository.findById(1L)).thenReturn(Optional.of(testMatch));
+        when(matchRepository.save(any(Match.class))).thenReturn(testMatch);
+
+        // When
+        matchService.updateMatch(1L, testUpdateMatchDTO);
+
+        // Then
+        ArgumentCaptor<MatchOutcome> previous = ArgumentCaptor.forClass(MatchOutcome.class);
+        ArgumentCaptor<MatchOutcome> current = ArgumentCaptor.forClass(MatchOutcome.class);
+        verify(standingsService).applyResultChange(previous.capture(), current.capture());
+        assertTrue(previous.getValue().isCompleted());
+        assertFalse(current.getValue().isCompleted());
     }
 
     @Test
@@ -406,21 +545,60 @@ class MatchServiceTest {
     @Test
     void deleteMatch_WhenExists_ShouldReturnTrue() {
         // Given
-        when(matchRepository.existsById(1L)).thenReturn(true);
+        when(matchRepository.findById(1L)).thenReturn(Optional.of(testMatch));
 
         // When
         boolean result = matchService.deleteMatch(1L);
 
         // Then
         assertTrue(result);
-        verify(matchRepository).existsById(1L);
-        verify(matchRepository).deleteById(1L);
+        verify(matchRepository).findById(1L);
+        verify(matchRepository).delete(testMatch);
+    }
+
+    @Test
+    void deleteMatch_WhenIfMatchIsStale_ShouldThrowPreconditionFailedException() {
+        // Given
+        when(matchRepository.findVersionTagById(1L)).thenReturn(Optional.of("2.5"));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> matchService.deleteMatch(1L, "\"match-1-1.5\""));
+        verify(matchRepository, never()).delete(any(Match.class));
+        verifyNoInteractions(standingsService);
+    }
+
+    @Test
+    void getTournamentMatchesTag_WhenTournamentNotExists_ShouldReturnEmpty() {
+        // Given
+        when(matchRepository.findVersionTagByTournamentId(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertTrue(matchService.getTournamentMatchesTag(99L).isEmpty());
+    }
+
+    @Test
+    void deleteMatch_WhenCompleted_ShouldReverseResultInStandings() {
+        // Given
+        testMatch.setStatus(MatchStatus.COMPLETED);
+        testMatch.setHomeGoals(2);
+        testMatch.setAwayGoals(1);
+        when(matchRepository.findById(1L)).thenReturn(Optional.of(testMatch));
+
+        // When
+        matchService.deleteMatch(1L);
+
+        // Then
+        ArgumentCaptor<MatchOutcome> previous = ArgumentCaptor.forClass(MatchOutcome.class);
+        verify(standingsService).applyResultChange(previous.capture(), isNull());
+        assertTrue(previous.getValue().isCompleted());
+        assertEquals(2, previous.getValue().getHomeGoals());
+        assertEquals(1, previous.getValue().getAwayGoals());
     }
 
     @Test
     void deleteMatch_WhenNotExists_ShouldThrowMatchNotFoundException() {
         // Given
-        when(matchRepository.existsById(1L)).thenReturn(false);
+        when(matchRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         MatchNotFoundException exception = assertThrows(MatchNotFoundException.class,
@@ -428,8 +606,9 @@ class MatchServiceTest {
 
         assertEquals("Match not found", exception.getMessage());
         assertEquals("MATCH_NOT_FOUND", exception.getErrorCode());
-        verify(matchRepository).existsById(1L);
-        verify(matchRepository, never()).deleteById(1L);
+        verify(matchRepository).findById(1L);
+        verify(matchRepository, never()).delete(any(Match.class));
+        verify(standingsService, never()).applyResultChange(any(), any());
     }
 
     @Test
@@ -502,16 +681,16 @@ class MatchServiceTest {
     void getMatchesByStatus_ShouldReturnMatchesByStatus() {
         // Given
         List<Match> matches = Arrays.asList(testMatch);
-        when(matchRepository.findByStatus(MatchStatus.SCHEDULED)).thenReturn(matches);
+        when(matchRepository.findByStatusAfter(eq(MatchStatus.SCHEDULED), eq(0L), any(Limit.class))).thenReturn(matches);
 
         // When
-        List<MatchDTO> result = matchService.getMatchesByStatus(MatchStatus.SCHEDULED);
+        PageDTO<MatchDTO> result = matchService.getMatchesByStatus(MatchStatus.SCHEDULED, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(MatchStatus.SCHEDULED, result.get(0).getStatus());
-        verify(matchRepository).findByStatus(MatchStatus.SCHEDULED);
+        assertEquals(1, result.getItems().size());
+        assertEquals(MatchStatus.SCHEDULED, result.getItems().get(0).getStatus());
+        verify(matchRepository).findByStatusAfter(eq(MatchStatus.SCHEDULED), eq(0L), any(Limit.class));
     }
 
     @Test
@@ -563,4 +742,638 @@ class MatchServiceTest {
         assertEquals(testMatch.getId(), result.get(0).getId());
         verify(matchRepository).findByMatchDateBetween(any(LocalDateTime.class), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportMatches_ShouldStreamEveryMatchToTheSink() {
+        // Given
+        when(matchRepository.streamForExport(1L, null, MatchStatus.SCHEDULED, null, null))
+                .thenReturn(Stream.of(testMatch, testMatch));
+        List<MatchDTO> exported = new ArrayList<>();
+
+        // When
+        long count = matchService.exportMatches(1L, null, MatchStatus.SCHEDULED, null, null, exported::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(2, exported.size());
+        assertEquals(testMatch.getId(), exported.get(0).getId());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void exportMatches_ShouldClearPersistenceContextEveryInterval() {
+        // Given
+        when(matchRepository.streamForExport(null, null, null, null, null))
+                .thenReturn(Stream.generate(() -> testMatch).limit(MatchService.EXPORT_CLEAR_INTERVAL * 2L + 1));
+
+        // When
+        long count = matchService.exportMatches(null, null, null, null, null, match -> {});
+
+        // Then
+        assertEquals(MatchService.EXPORT_CLEAR_INTERVAL * 2L + 1, count);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportMatches_ShouldCloseTheStream() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(matchRepository.streamForExport(null, null, null, null, null))
+                .thenReturn(Stream.of(testMatch).onClose(() -> closed.set(true)));
+
+        // When
+        matchService.exportMatches(null, null, null, null, null, match -> {});
+
+        // Then
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportMatches_WhenStartAfterEnd_ShouldThrowValidationException() {
+        // Given
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime end = start.minusDays(1);
+
+        // When & Then
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> matchService.exportMatches(null, null, null, start, end, match -> {}));
+
+        assertEquals("Start date cannot be after end date", exception.getMessage());
+        verify(matchRepository, never()).streamForExport(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void generateFixtures_WhenEvenTeams_ShouldPairEveryTeamOncePerRound() {
+        // Given
+        Tournament league = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<MatchDTO> result = matchService.generateFixtures(1L, new GenerateFixturesDTO(1, 7));
+
+        // Then
+        assertEquals(6, result.size());
+        Set<String> pairs = new HashSet<>();
+        Map<LocalDateTime, Set<Long>> teamsByDay = new HashMap<>();
+        for (MatchDTO match : result) {
+            long low = Math.min(match.getHomeTeamId(), match.getAwayTeamId());
+            long high = Math.max(match.getHomeTeamId(), match.getAwayTeamId());
+            assertTrue(pairs.add(low + "-" + high));
+
+            Set<Long> playing = teamsByDay.computeIfAbsent(match.getMatchDate(), day -> new HashSet<>());
+            assertTrue(playing.add(match.getHomeTeamId()));
+            assertTrue(playing.add(match.getAwayTeamId()));
+            assertEquals(MatchStatus.SCHEDULED, match.getStatus());
+        }
+        assertEquals(Set.of(LocalDateTime.of(2026, 1, 1, 15, 0), LocalDateTime.of(2026, 1, 8, 15, 0),
+                LocalDateTime.of(2026, 1, 15, 15, 0)), teamsByDay.keySet());
+        verify(matchRepository, never()).save(any(Match.class));
+        verify(standingsService, never()).applyResultChange(any(), any());
+    }
+
+    @Test
+    void generateFixtures_WhenOddTeams_ShouldGiveEveryTeamOneRestDay() {
+        // Given
+        Tournament league = leagueWithTeams(5, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 1));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<MatchDTO> result = matchService.generateFixtures(1L, new GenerateFixturesDTO(1, 7));
+
+        // Then - 5 match days of 2 matches, every team plays the other 4 once
+        assertEquals(10, result.size());
+        assertEquals(5, result.stream().map(MatchDTO::getMatchDate).distinct().count());
+        Map<Long, Integer> played = new HashMap<>();
+        result.forEach(match -> {
+            played.merge(match.getHomeTeamId(), 1, Integer::sum);
+            played.merge(match.getAwayTeamId(), 1, Integer::sum);
+        });
+        assertEquals(Map.of(1L, 4, 2L, 4, 3L, 4, 4L, 4, 5L, 4), played);
+    }
+
+    @Test
+    void generateFixtures_WhenTwoLegs_ShouldPlayEveryPairHomeAndAway() {
+        // Given
+        Tournament league = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 1));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<MatchDTO> result = matchService.generateFixtures(1L, new GenerateFixturesDTO(2, 7));
+
+        // Then
+        assertEquals(12, result.size());
+        assertEquals(12, result.stream()
+                .map(match -> match.getHomeTeamId() + "-" + match.getAwayTeamId())
+                .distinct().count());
+        Map<Long, Long> homeGames = result.stream()
+                .collect(Collectors.groupingBy(MatchDTO::getHomeTeamId, Collectors.counting()));
+        assertEquals(Map.of(1L, 3L, 2L, 3L, 3L, 3L, 4L, 3L), homeGames);
+    }
+
+    @Test
+    void generateFixtures_WhenNoSpacingGiven_ShouldSpreadMatchDaysOverTournament() {
+        // Given
+        Tournament league = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<MatchDTO> result = matchService.generateFixtures(1L, new GenerateFixturesDTO());
+
+        // Then
+        assertEquals(List.of(LocalDateTime.of(2026, 1, 1, 15, 0), LocalDateTime.of(2026, 1, 16, 15, 0),
+                        LocalDateTime.of(2026, 1, 31, 15, 0)),
+                result.stream().map(MatchDTO::getMatchDate).distinct().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void generateFixtures_WhenMatchDaysExceedEndDate_ShouldThrowInvalidFixtureScheduleException() {
+        // Given
+        Tournament league = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 10));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(InvalidFixtureScheduleException.class,
+                () -> matchService.generateFixtures(1L, new GenerateFixturesDTO(1, 7)));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void generateFixtures_WhenFewerThanTwoTeams_ShouldThrowNotEnoughTeamsException() {
+        // Given
+        Tournament league = leagueWithTeams(1, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(NotEnoughTeamsException.class,
+                () -> matchService.generateFixtures(1L, new GenerateFixturesDTO()));
+    }
+
+    @Test
+    void generateFixtures_WhenTournamentHasMatches_ShouldThrowFixturesAlreadyExistException() {
+        // Given
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(FixturesAlreadyExistException.class,
+                () -> matchService.generateFixtures(1L, new GenerateFixturesDTO()));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void generateFixtures_WhenTournamentNotFound_ShouldThrowTournamentNotFoundException() {
+        // Given
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class,
+                () -> matchService.generateFixtures(1L, new GenerateFixturesDTO()));
+    }
+
+    @Test
+    void generateBracket_WhenPowerOfTwoTeams_ShouldSeedFirstRoundAndLinkRounds() {
+        // Given
+        Tournament cup = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(cup));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        ArgumentCaptor<List<Match>> saved = ArgumentCaptor.forClass(List.class);
+        when(matchRepository.saveAll(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BracketDTO result = matchService.generateBracket(1L, new GenerateBracketDTO());
+
+        // Then - seeds 1 v 4 and 2 v 3, both feeding the final
+        assertEquals(2, result.getRounds().size());
+        List<MatchDTO> semiFinals = result.getRounds().get(0).getMatches();
+        assertEquals(List.of(1L, 4L), List.of(semiFinals.get(0).getHomeTeamId(), semiFinals.get(0).getAwayTeamId()));
+        assertEquals(List.of(2L, 3L), List.of(semiFinals.get(1).getHomeTeamId(), semiFinals.get(1).getAwayTeamId()));
+        assertEquals(MatchStatus.SCHEDULED, semiFinals.get(0).getStatus());
+
+        MatchDTO finalMatch = result.getRounds().get(1).getMatches().get(0);
+        assertNull(finalMatch.getHomeTeamId());
+        assertEquals(MatchStatus.TO_BE_SCHEDULED, finalMatch.getStatus());
+
+        Match savedFinal = saved.getValue().stream()
+                .filter(match -> match.getBracketRound() == 2)
+                .findFirst().orElseThrow();
+        assertEquals(3, saved.getValue().size());
+        assertTrue(saved.getValue().stream()
+                .filter(match -> match.getBracketRound() == 1)
+                .allMatch(match -> match.getNextMatch() == savedFinal));
+    }
+
+    @Test
+    void generateBracket_WhenTeamsNotPowerOfTwo_ShouldGiveByesToTopSeeds() {
+        // Given
+        Tournament cup = leagueWithTeams(6, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(cup));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BracketDTO result = matchService.generateBracket(1L, new GenerateBracketDTO());
+
+        // Then - seeds 1 and 2 skip the first round
+        List<MatchDTO> firstRound = result.getRounds().get(0).getMatches();
+        assertEquals(2, firstRound.size());
+        assertEquals(List.of(4L, 5L), List.of(firstRound.get(0).getHomeTeamId(), firstRound.get(0).getAwayTeamId()));
+        assertEquals(List.of(3L, 6L), List.of(firstRound.get(1).getHomeTeamId(), firstRound.get(1).getAwayTeamId()));
+
+        List<MatchDTO> semiFinals = result.getRounds().get(1).getMatches();
+        assertEquals(1L, semiFinals.get(0).getHomeTeamId());
+        assertEquals(2L, semiFinals.get(1).getHomeTeamId());
+        assertNull(semiFinals.get(0).getAwayTeamId());
+        assertEquals(3, result.getRounds().size());
+        // Nothing is live yet, and the unsaved matches have no id to be published under
+        verify(liveScoreBus, never()).publish(any(MatchDTO.class));
+    }
+
+    @Test
+    void generateBracket_WhenSeedsGiven_ShouldSeedInThatOrder() {
+        // Given
+        Tournament cup = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(cup));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+        when(matchRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BracketDTO result = matchService.generateBracket(1L, new GenerateBracketDTO(List.of(3L, 1L, 4L, 2L)));
+
+        // Then
+        MatchDTO firstSemiFinal = result.getRounds().get(0).getMatches().get(0);
+        assertEquals(3L, firstSemiFinal.getHomeTeamId());
+        assertEquals(2L, firstSemiFinal.getAwayTeamId());
+    }
+
+    @Test
+    void generateBracket_WhenSeedsDoNotMatchTeams_ShouldThrowInvalidParameterException() {
+        // Given
+        Tournament cup = leagueWithTeams(4, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(cup));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(InvalidParameterException.class,
+                () -> matchService.generateBracket(1L, new GenerateBracketDTO(List.of(1L, 2L, 3L, 3L))));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void generateBracket_WhenTournamentHasMatches_ShouldThrowFixturesAlreadyExistException() {
+        // Given
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(matchRepository.existsByTournamentId(1L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(FixturesAlreadyExistException.class,
+                () -> matchService.generateBracket(1L, new GenerateBracketDTO()));
+    }
+
+    @Test
+    void getBracket_ShouldGroupMatchesByRound() {
+        // Given
+        Match finalMatch = knockoutMatch(2, 0, null, null, null);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        when(matchRepository.findBracket(1L)).thenReturn(List.of(semiFinal, finalMatch));
+
+        // When
+        BracketDTO result = matchService.getBracket(1L);
+
+        // Then
+        assertEquals(2, result.getRounds().size());
+        assertEquals(1, result.getRounds().get(0).getRound());
+        assertEquals(20L, result.getRounds().get(0).getMatches().get(0).getNextMatchId());
+        assertNull(result.getRounds().get(1).getMatches().get(0).getHomeTeamName());
+        verify(tournamentRepository, never()).existsById(any());
+    }
+
+    @Test
+    void getBracket_WhenTournamentNotFound_ShouldThrowTournamentNotFoundException() {
+        // Given
+        when(matchRepository.findBracket(1L)).thenReturn(List.of());
+        when(tournamentRepository.existsById(1L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(TournamentNotFoundException.class, () -> matchService.getBracket(1L));
+    }
+
+    @Test
+    void updateResult_WhenKnockoutMatchCompleted_ShouldAdvanceWinner() {
+        // Given
+        Match finalMatch = knockoutMatch(2, 0, null, null, null);
+        Match semiFinal = knockoutMatch(1, 1, homeTeam, awayTeam, finalMatch);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+
+        // When
+        matchService.updateResult(10L, 0, 2);
+
+        // Then - odd position: the winner takes the away slot
+        assertSame(awayTeam, finalMatch.getAwayTeam());
+        assertNull(finalMatch.getHomeTeam());
+        assertEquals(MatchStatus.TO_BE_SCHEDULED, finalMatch.getStatus());
+        verify(liveScoreBus, times(2)).publish(any(MatchDTO.class));
+    }
+
+    @Test
+    void updateResult_WhenBothFinalistsKnown_ShouldScheduleFinal() {
+        // Given
+        Team otherFinalist = new Team();
+        otherFinalist.setId(3L);
+        Match finalMatch = knockoutMatch(2, 0, null, otherFinalist, null);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+
+        // When
+        matchService.updateResult(10L, 3, 1);
+
+        // Then
+        assertSame(homeTeam, finalMatch.getHomeTeam());
+        assertEquals(MatchStatus.SCHEDULED, finalMatch.getStatus());
+    }
+
+    @Test
+    void updateResult_WhenKnockoutResultCorrected_ShouldReplaceAdvancedTeam() {
+        // Given
+        Match finalMatch = knockoutMatch(2, 0, homeTeam, null, null);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        semiFinal.setStatus(MatchStatus.COMPLETED);
+        semiFinal.setHomeGoals(2);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+
+        // When
+        matchService.updateResult(10L, 2, 3);
+
+        // Then
+        assertSame(awayTeam, finalMatch.getHomeTeam());
+    }
+
+    @Test
+    void updateResult_WhenNextRoundAlreadyPlayed_ShouldThrowNextRoundAlreadyPlayedException() {
+        // Given
+        Team otherFinalist = new Team();
+        otherFinalist.setId(3L);
+        Match finalMatch = knockoutMatch(2, 0, homeTeam, otherFinalist, null);
+        finalMatch.setStatus(MatchStatus.COMPLETED);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+
+        // When & Then
+        assertThrows(NextRoundAlreadyPlayedException.class, () -> matchService.updateResult(10L, 0, 1));
+        assertSame(homeTeam, finalMatch.getHomeTeam());
+    }
+
+    @Test
+    void updateResult_WhenNextRoundInProgress_ShouldThrowNextRoundAlreadyPlayedException() {
+        // Given
+        Team otherFinalist = new Team();
+        otherFinalist.setId(3L);
+        Match finalMatch = knockoutMatch(2, 0, homeTeam, otherFinalist, null);
+        finalMatch.setStatus(MatchStatus.IN_PROGRESS);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        semiFinal.setStatus(MatchStatus.COMPLETED);
+        semiFinal.setHomeGoals(2);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+
+        // When & Then
+        assertThrows(NextRoundAlreadyPlayedException.class, () -> matchService.updateResult(10L, 0, 1));
+        assertSame(homeTeam, finalMatch.getHomeTeam());
+        assertEquals(MatchStatus.IN_PROGRESS, finalMatch.getStatus());
+        verify(liveScoreBus, never()).publish(any(MatchDTO.class));
+    }
+
+    @Test
+    void updateMatch_WhenKnockoutMatchReopened_ShouldTakeWinnerBackFromNextMatch() {
+        // Given
+        Team otherFinalist = new Team();
+        otherFinalist.setId(3L);
+        Match finalMatch = knockoutMatch(2, 0, homeTeam, otherFinalist, null);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        semiFinal.setStatus(MatchStatus.COMPLETED);
+        semiFinal.setHomeGoals(2);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+        UpdateMatchDTO reopen = new UpdateMatchDTO();
+        reopen.setStatus(MatchStatus.IN_PROGRESS);
+
+        // When
+        matchService.updateMatch(10L, reopen);
+
+        // Then
+        assertNull(finalMatch.getHomeTeam());
+        assertSame(otherFinalist, finalMatch.getAwayTeam());
+        assertEquals(MatchStatus.TO_BE_SCHEDULED, finalMatch.getStatus());
+        verify(liveScoreBus, times(2)).publish(any(MatchDTO.class));
+    }
+
+    @Test
+    void updateMatch_WhenReopenedAfterNextRoundPlayed_ShouldThrowNextRoundAlreadyPlayedException() {
+        // Given
+        Team otherFinalist = new Team();
+        otherFinalist.setId(3L);
+        Match finalMatch = knockoutMatch(2, 0, homeTeam, otherFinalist, null);
+        finalMatch.setStatus(MatchStatus.COMPLETED);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        semiFinal.setStatus(MatchStatus.COMPLETED);
+        semiFinal.setHomeGoals(2);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+        UpdateMatchDTO reopen = new UpdateMatchDTO();
+        reopen.setStatus(MatchStatus.SCHEDULED);
+
+        // When & Then
+        assertThrows(NextRoundAlreadyPlayedException.class, () -> matchService.updateMatch(10L, reopen));
+        assertSame(homeTeam, finalMatch.getHomeTeam());
+        verify(liveScoreBus, never()).publish(any(MatchDTO.class));
+    }
+
+    @Test
+    void updateResult_WhenKnockoutDraw_ShouldThrowKnockoutDrawException() {
+        // Given
+        Match finalMatch = knockoutMatch(2, 0, null, null, null);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(semiFinal));
+        when(matchRepository.save(semiFinal)).thenReturn(semiFinal);
+
+        // When & Then
+        assertThrows(KnockoutDrawException.class, () -> matchService.updateResult(10L, 1, 1));
+        assertNull(finalMatch.getHomeTeam());
+    }
+
+    @Test
+    void updateResult_WhenTeamsNotKnownYet_ShouldThrowMatchTeamsNotSetException() {
+        // Given
+        Match finalMatch = knockoutMatch(2, 0, homeTeam, null, null);
+        when(matchRepository.findById(20L)).thenReturn(Optional.of(finalMatch));
+
+        // When & Then
+        assertThrows(MatchTeamsNotSetException.class, () -> matchService.updateResult(20L, 1, 0));
+        verify(matchRepository, never()).save(any(Match.class));
+    }
+
+    @Test
+    void updateResults_WhenAllValid_ShouldLoadMatchesOnceAndUpdateStandingsOnce() {
+        // Given
+        Match returnMatch = new Match();
+        returnMatch.setId(2L);
+        returnMatch.setHomeTeam(awayTeam);
+        returnMatch.setAwayTeam(homeTeam);
+        returnMatch.setTournament(testTournament);
+        returnMatch.setStatus(MatchStatus.SCHEDULED);
+        when(matchRepository.findForResultUpdate(Set.of(1L, 2L))).thenReturn(List.of(testMatch, returnMatch));
+
+        // When
+        List<MatchResultOutcomeDTO> outcomes = matchService.updateResults(List.of(
+                new MatchResultDTO(1L, 3, 1), new MatchResultDTO(2L, 0, 0)));
+
+        // Then
+        assertEquals(List.of(MatchResultOutcomeDTO.Status.UPDATED, MatchResultOutcomeDTO.Status.UPDATED),
+                outcomes.stream().map(MatchResultOutcomeDTO::getStatus).toList());
+        assertEquals(3, outcomes.get(0).getMatch().getHomeGoals());
+        assertEquals(MatchStatus.COMPLETED, returnMatch.getStatus());
+
+        ArgumentCaptor<List<MatchOutcome>> current = ArgumentCaptor.forClass(List.class);
+        verify(standingsService).applyResultChanges(anyCollection(), current.capture());
+        assertEquals(2, current.getValue().size());
+        verify(standingsService, never()).applyResultChange(any(), any());
+        verify(matchRepository, never()).findById(anyLong());
+        verify(matchRepository, never()).save(any(Match.class));
+        verify(liveScoreBus, times(2)).publish(any(MatchDTO.class));
+    }
+
+    @Test
+    void updateResults_WhenSomeItemsInvalid_ShouldFailOnlyThoseItems() {
+        // Given
+        when(matchRepository.findForResultUpdate(Set.of(1L, 99L))).thenReturn(List.of(testMatch));
+
+        // When
+        List<MatchResultOutcomeDTO> outcomes = matchService.updateResults(List.of(
+                new MatchResultDTO(1L, 2, 0),
+                new MatchResultDTO(99L, 1, 0),
+                new MatchResultDTO(1L, -1, 0)));
+
+        // Then
+        assertEquals(MatchResultOutcomeDTO.Status.UPDATED, outcomes.get(0).getStatus());
+        assertEquals("MATCH_NOT_FOUND", outcomes.get(1).getErrorCode());
+        assertEquals("INVALID_MATCH_RESULT", outcomes.get(2).getErrorCode());
+        assertNull(outcomes.get(2).getMatch());
+        assertEquals(2, testMatch.getHomeGoals());
+        verify(standingsService).applyResultChanges(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void updateResults_WhenItemsHaveNoMatchId_ShouldFailOnlyThoseItems() {
+        // Given
+        List<MatchResultDTO> results = new ArrayList<>();
+        results.add(new MatchResultDTO(null, 2, 0));
+        results.add(null);
+
+        // When
+        List<MatchResultOutcomeDTO> outcomes = matchService.updateResults(results);
+
+        // Then
+        assertEquals(2, outcomes.size());
+        assertTrue(outcomes.stream().allMatch(outcome -> outcome.getStatus() == MatchResultOutcomeDTO.Status.FAILED));
+        assertTrue(outcomes.stream().allMatch(outcome -> "INVALID_PARAMETER".equals(outcome.getErrorCode())));
+        assertNull(outcomes.get(0).getMatchId());
+        verifyNoInteractions(matchRepository, standingsService, liveScoreBus);
+    }
+
+    @Test
+    void updateResults_WhenKnockoutDraw_ShouldLeaveMatchUntouched() {
+        // Given
+        Match finalMatch = knockoutMatch(2, 0, null, null, null);
+        Match semiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        when(matchRepository.findForResultUpdate(Set.of(10L))).thenReturn(List.of(semiFinal));
+
+        // When
+        List<MatchResultOutcomeDTO> outcomes = matchService.updateResults(List.of(new MatchResultDTO(10L, 1, 1)));
+
+        // Then
+        assertEquals(MatchResultOutcomeDTO.Status.FAILED, outcomes.get(0).getStatus());
+        assertEquals("INVALID_KNOCKOUT_RESULT", outcomes.get(0).getErrorCode());
+        assertEquals(MatchStatus.SCHEDULED, semiFinal.getStatus());
+        assertEquals(0, semiFinal.getHomeGoals());
+        assertNull(finalMatch.getHomeTeam());
+        verifyNoInteractions(standingsService, liveScoreBus);
+    }
+
+    @Test
+    void updateResults_WhenSemiFinalsListedBeforeFinal_ShouldApplyThemInRequestOrder() {
+        // Given
+        Team otherTeam = new Team();
+        otherTeam.setId(3L);
+        Team fourthTeam = new Team();
+        fourthTeam.setId(4L);
+        Match finalMatch = knockoutMatch(2, 0, null, null, null);
+        Match firstSemiFinal = knockoutMatch(1, 0, homeTeam, awayTeam, finalMatch);
+        Match secondSemiFinal = knockoutMatch(1, 1, otherTeam, fourthTeam, finalMatch);
+        when(matchRepository.findForResultUpdate(Set.of(10L, 11L, 20L)))
+                .thenReturn(List.of(firstSemiFinal, secondSemiFinal, finalMatch));
+
+        // When
+        List<MatchResultOutcomeDTO> outcomes = matchService.updateResults(List.of(
+                new MatchResultDTO(10L, 2, 0),
+                new MatchResultDTO(11L, 0, 1),
+                new MatchResultDTO(20L, 1, 0)));
+
+        // Then
+        assertTrue(outcomes.stream().allMatch(outcome -> outcome.getStatus() == MatchResultOutcomeDTO.Status.UPDATED));
+        assertSame(homeTeam, finalMatch.getHomeTeam());
+        assertSame(fourthTeam, finalMatch.getAwayTeam());
+        assertSame(homeTeam, finalMatch.getWinner());
+    }
+
+    @Test
+    void updateResults_WhenTooManyResults_ShouldThrowInvalidParameterException() {
+        // Given
+        List<MatchResultDTO> results = Collections.nCopies(MatchService.MAX_RESULT_BATCH_SIZE + 1,
+                new MatchResultDTO(1L, 1, 0));
+
+        // When & Then
+        assertThrows(InvalidParameterException.class, () -> matchService.updateResults(results));
+        verifyNoInteractions(matchRepository);
+    }
+
+    private Match knockoutMatch(int round, int position, Team home, Team away, Match nextMatch) {
+        Match match = new Match();
+        match.setId(round * 10L + position);
+        match.setTournament(testTournament);
+        match.setHomeTeam(home);
+        match.setAwayTeam(away);
+        match.setBracketRound(round);
+        match.setBracketPosition(position);
+        match.setNextMatch(nextMatch);
+        match.setStatus(home != null && away != null ? MatchStatus.SCHEDULED : MatchStatus.TO_BE_SCHEDULED);
+        return match;
+    }
+
+    private Tournament leagueWithTeams(int teams, LocalDate startDate, LocalDate endDate) {
+        Tournament league = new Tournament();
+        league.setId(1L);
+        league.setName("League");
+        league.setStartDate(startDate);
+        league.setEndDate(endDate);
+        for (long id = 1; id <= teams; id++) {
+            Team team = new Team();
+            team.setId(id);
+            team.setName("Team " + id);
+            league.getParticipatingTeams().add(team);
+        }
+        return league;
+    }
+}
@@ -0,0 +1,217 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.SearchHitDTO;
+import com.tournament_football_backend.dto.SearchHitDTO.Type;
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import com.tournament_football_backend.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchIndexTest {
+
+    private static final EnumSet<Type> ALL = EnumSet.allOf(Type.class);
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex();
+        searchIndex.index(team(1L, "Juventus"));
+        searchIndex.index(team(2L, "Inter"));
+        searchIndex.index(team(3L, "Juve Stabia"));
+        searchIndex.index(tournament(1L, "Coppa Italia", "Torneo a eliminazione diretta"));
+        searchIndex.index(user(1L, "mario.rossi", "mario.rossi@email.com"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void search_WhenPrefix_ShouldMatchWordsStartingWithIt() {
+        // When
+        List<SearchHitDTO> hits = searchIndex.search("juv", ALL, 10);
+
+        // Then
+        assertEquals(List.of(1L, 3L), hits.stream().map(SearchHitDTO::getId).sorted().toList());
+        assertTrue(hits.stream().allMatch(hit -> hit.getType() == Type.TEAM));
+    }
+
+    @Test
+    void search_WhenTypo_ShouldMatchFuzzily() {
+        // When
+        List<SearchHitDTO> hits = searchIndex.search("Juvemtus", ALL, 10);
+
+        // Then
+        assertFalse(hits.isEmpty());
+        assertEquals("Juventus", hits.get(0).getName());
+    }
+
+    @Test
+    void search_WhenExactWord_ShouldRankItFirst() {
+        // When
+        List<SearchHitDTO> hits = searchIndex.search("juve", ALL, 10);
+
+        // Then
+        assertEquals(2, hits.size());
+        assertEquals("Juve Stabia", hits.get(0).getName());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void search_WhenSeveralWords_ShouldRequireAllOfThem() {
+        // When
+        List<SearchHitDTO> both = searchIndex.search("coppa ital", ALL, 10);
+        List<SearchHitDTO> none = searchIndex.search("coppa juventus", ALL, 10);
+
+        // Then
+        assertEquals(1, both.size());
+        assertEquals(Type.TOURNAMENT, both.get(0).getType());
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void search_WhenAccentsOrPunctuation_ShouldNormalizeThem() {
+        // When
+        List<SearchHitDTO> description = searchIndex.search("DIRÉTTA", ALL, 10);
+        List<SearchHitDTO> email = searchIndex.search("rossi", ALL, 10);
+
+        // Then
+        assertEquals("Coppa Italia", description.get(0).getName());
+        assertEquals("mario.rossi", email.get(0).getName());
+    }
+
+    @Test
+    void search_WhenTypesGiven_ShouldFilterOthersOut() {
+        // When
+        List<SearchHitDTO> hits = searchIndex.search("mario", EnumSet.of(Type.TEAM, Type.TOURNAMENT), 10);
+
+        // Then
+        assertTrue(hits.isEmpty());
+    }
+
+    @Test
+    void search_WhenBlankText_ShouldReturnNothing() {
+        assertTrue(searchIndex.search(" .,", ALL, 10).isEmpty());
+    }
+
+    @Test
+    void findIds_ShouldReturnIdsAfterCursorInOrder() {
+        // When
+        List<Long> firstPage = searchIndex.findIds(Type.TEAM, "juv", 0L, 1);
+        List<Long> nextPage = searchIndex.findIds(Type.TEAM, "juv", firstPage.get(0), 10);
+
+        // Then
+        assertEquals(List.of(1L), firstPage);
+        assertEquals(List.of(3L), nextPage);
+    }
+
+    @Test
+    void index_WhenDocumentExists_ShouldReplaceIt() {
+        // When
+        searchIndex.index(team(2L, "Internazionale"));
+
+        // Then
+        List<SearchHitDTO> hits = searchIndex.search("internazionale", ALL, 10);
+        assertEquals(1, hits.size());
+        assertEquals(2L, hits.get(0).getId());
+        assertEquals(1, searchIndex.search("inter", ALL, 10).size());
+    }
+
+    @Test
+    void remove_ShouldDropDocument() {
+        // When
+        searchIndex.remove(Type.TEAM, 1L);
+
+        // Then
+        assertEquals(List.of(3L), searchIndex.findIds(Type.TEAM, "juv", 0L, 10));
+    }
+
+    @Test
+    void index_WhenTransactionActive_ShouldWaitForCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchIndex.index(team(4L, "Atalanta"));
+
+            // Then
+            assertTrue(searchIndex.search("atalanta", ALL, 10).isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, searchIndex.search("atalanta", ALL, 10).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_WhenChangesCommitWhileReading_ShouldReplayThemOnTopOfWhatItRead() {
+        // Given - the teams are read as they were before a rename, a creation and a deletion committed
+        EntityManager entityManager = mock(EntityManager.class);
+        ReflectionTestUtils.setField(searchIndex, "entityManager", entityManager);
+        TypedQuery<Object[]> noRows = mock(TypedQuery.class);
+        when(noRows.getResultStream()).thenAnswer(invocation -> Stream.empty());
+        TypedQuery<Object[]> teams = mock(TypedQuery.class);
+        when(teams.getResultStream()).thenAnswer(invocation -> {
+            searchIndex.index(team(2L, "Internazionale"));
+            searchIndex.index(team(4L, "Atalanta"));
+            searchIndex.remove(Type.TEAM, 3L);
+            return Stream.of(new Object[]{1L, "Juventus"}, new Object[]{2L, "Inter"}, new Object[]{3L, "Juve Stabia"});
+        });
+        when(entityManager.createQuery(anyString(), eq(Object[].class)))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).contains("FROM Team") ? teams : noRows);
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertEquals(List.of(2L), searchIndex.findIds(Type.TEAM, "internazionale", 0L, 10));
+        assertEquals(List.of(4L), searchIndex.findIds(Type.TEAM, "atalanta", 0L, 10));
+        assertEquals(List.of(1L), searchIndex.findIds(Type.TEAM, "juv", 0L, 10));
+        assertTrue(searchIndex.findIds(Type.USER, "mario", 0L, 10).isEmpty());
+    }
+
+    private static Team team(Long id, String name) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName(name);
+        return team;
+    }
+
+    private static Tournament tournament(Long id, String name, String description) {
+        Tournament tournament = new Tournament();
+        tournament.setId(id);
+        tournament.setName(name);
+        tournament.setDescription(description);
+        return tournament;
+    }
+
+    private static User user(Long id, String username, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+}
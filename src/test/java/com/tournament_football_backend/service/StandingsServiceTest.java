@@ -0,0 +1,266 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.StandingDTO;
+import com.tournament_football_backend.exception.TournamentExceptions.*;
+import com.tournament_football_backend.model.Standing;
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import com.tournament_football_backend.repository.StandingRepository;
+import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandingsServiceTest {
+
+    @Mock
+    private StandingRepository standingRepository;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TeamStatsCache teamStatsCache;
+
+    @InjectMocks
+    private StandingsService standingsService;
+
+    private Tournament testTournament;
+    private Team homeTeam;
+    private Team awayTeam;
+
+    @BeforeEach
+    void setUp() {
+        testTournament = new Tournament();
+        testTournament.setId(1L);
+        testTournament.setName("Test Tournament");
+
+        homeTeam = new Team();
+        homeTeam.setId(1L);
+        homeTeam.setName("Home Team");
+
+        awayTeam = new Team();
+        awayTeam.setId(2L);
+        awayTeam.setName("Away Team");
+    }
+
+    @Test
+    void getStandings_ShouldReturnRankedRowsWithPositions() {
+        // Given
+        Standing first = new Standing(testTournament, homeTeam);
+        first.setPlayed(1);
+        first.setWon(1);
+        first.setGoalsFor(3);
+        first.setGoalsAgainst(1);
+        first.setPoints(3);
+        Standing second = new Standing(testTournament, awayTeam);
+        second.setPlayed(1);
+        second.setLost(1);
+        second.setGoalsFor(1);
+        second.setGoalsAgainst(3);
+        when(standingRepository.findRankingByTournamentId(1L)).thenReturn(Arrays.asList(first, second));
+
+        // When
+        List<StandingDTO> result = standingsService.getStandings(1L);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(0).getPosition());
+        assertEquals("Home Team", result.get(0).getTeamName());
+        assertEquals(2, result.get(0).getGoalDifference());
+        assertEquals(2, result.get(1).getPosition());
+        assertEquals(-2, result.get(1).getGoalDifference());
+        verify(tournamentRepository, never()).existsById(any());
+    }
+
+    @Test
+    void getStandings_WhenTournamentHasNoRows_ShouldReturnEmptyList() {
+        // Given
+        when(standingRepository.findRankingByTournamentId(1L)).thenReturn(Collections.emptyList());
+        when(tournamentRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        List<StandingDTO> result = standingsService.getStandings(1L);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void getStandings_WhenTournamentNotExists_ShouldThrowTournamentNotFoundException() {
+        // Given
+        when(standingRepository.findRankingByTournamentId(1L)).thenReturn(Collections.emptyList());
+        when(tournamentRepository.existsById(1L)).thenReturn(false);
+
+        // When & Then
+        TournamentNotFoundException exception = assertThrows(TournamentNotFoundException.class,
+                () -> standingsService.getStandings(1L));
+
+        assertEquals("TOURNAMENT_NOT_FOUND", exception.getErrorCode());
+    }
+
+    @Test
+    void addTeam_WhenRowMissing_ShouldCreateEmptyRow() {
+        // Given
+        when(standingRepository.existsByTournamentIdAndTeamId(1L, 1L)).thenReturn(false);
+        when(tournamentRepository.getReferenceById(1L)).thenReturn(testTournament);
+        when(teamRepository.getReferenceById(1L)).thenReturn(homeTeam);
+
+        // When
+        standingsService.addTeam(1L, 1L);
+
+        // Then
+        ArgumentCaptor<Standing> saved = ArgumentCaptor.forClass(Standing.class);
+        verify(standingRepository).save(saved.capture());
+        assertEquals(0, saved.getValue().getPlayed());
+        assertEquals(0, saved.getValue().getPoints());
+    }
+
+    @Test
+    void addTeam_WhenRowExists_ShouldNotCreateDuplicate() {
+        // Given
+        when(standingRepository.existsByTournamentIdAndTeamId(1L, 1L)).thenReturn(true);
+
+        // When
+        standingsService.addTeam(1L, 1L);
+
+        // Then
+        verify(standingRepository, never()).save(any(Standing.class));
+    }
+
+    @Test
+    void applyResultChange_WhenHomeWin_ShouldApplyWinAndLossDeltas() {
+        // Given
+        when(standingRepository.applyDelta(anyLong(), anyLong(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        MatchOutcome result = new MatchOutcome(1L, 1L, 2L, true, 3, 1);
+
+        // When
+        standingsService.applyResultChange(new MatchOutcome(1L, 1L, 2L, false, 0, 0), result);
+
+        // Then
+        verify(standingRepository).applyDelta(1L, 1L, 1, 1, 0, 0, 3, 1, 3);
+        verify(standingRepository).applyDelta(1L, 2L, 1, 0, 0, 1, 1, 3, 0);
+        verify(teamStatsCache).evict(result);
+    }
+
+    @Test
+    void applyResultChange_WhenCorrectingWinToDraw_ShouldApplyOnlyTheDifference() {
+        // Given
+        when(standingRepository.applyDelta(anyLong(), anyLong(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        // When
+        standingsService.applyResultChange(
+                new MatchOutcome(1L, 1L, 2L, true, 2, 1),
+                new MatchOutcome(1L, 1L, 2L, true, 2, 2));
+
+        // Then - played is unchanged, the win and the loss become draws
+        verify(standingRepository).applyDelta(1L, 1L, 0, -1, 1, 0, 0, 1, -2);
+        verify(standingRepository).applyDelta(1L, 2L, 0, 0, 1, -1, 1, 0, 1);
+    }
+
+    @Test
+    void applyResultChange_WhenSameScoreReentered_ShouldNotTouchStandings() {
+        // When
+        standingsService.applyResultChange(
+                new MatchOutcome(1L, 1L, 2L, true, 1, 0),
+                new MatchOutcome(1L, 1L, 2L, true, 1, 0));
+
+        // Then
+        verifyNoInteractions(standingRepository);
+    }
+
+    @Test
+    void applyResultChanges_WhenTeamPlayedSeveralMatches_ShouldUpdateItsRowOnce() {
+        // Given
+        when(standingRepository.applyDelta(anyLong(), anyLong(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        // When
+        standingsService.applyResultChanges(
+                List.of(new MatchOutcome(1L, 1L, 2L, false, 0, 0), new MatchOutcome(1L, 3L, 1L, false, 0, 0)),
+                List.of(new MatchOutcome(1L, 1L, 2L, true, 3, 1), new MatchOutcome(1L, 3L, 1L, true, 0, 0)));
+
+        // Then - team 1 gets both matches in one statement
+        verify(standingRepository).applyDelta(1L, 1L, 2, 1, 1, 0, 3, 1, 4);
+        verify(standingRepository).applyDelta(1L, 2L, 1, 0, 0, 1, 1, 3, 0);
+        verify(standingRepository).applyDelta(1L, 3L, 1, 0, 1, 0, 0, 0, 1);
+        verifyNoMoreInteractions(standingRepository);
+    }
+
+    @Test
+    void applyResultChange_WhenResultRemoved_ShouldReverseIt() {
+        // Given
+        when(standingRepository.applyDelta(anyLong(), anyLong(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        // When
+        standingsService.applyResultChange(new MatchOutcome(1L, 1L, 2L, true, 0, 0), null);
+
+        // Then
+        verify(standingRepository).applyDelta(1L, 1L, -1, 0, -1, 0, 0, 0, -1);
+        verify(standingRepository).applyDelta(1L, 2L, -1, 0, -1, 0, 0, 0, -1);
+    }
+
+    @Test
+    void applyResultChange_ShouldUpdateRowsInTeamIdOrder() {
+        // Given
+        when(standingRepository.applyDelta(anyLong(), anyLong(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        // When - the away team has the lower id
+        standingsService.applyResultChange(null, new MatchOutcome(1L, 2L, 1L, true, 1, 0));
+
+        // Then
+        InOrder inOrder = inOrder(standingRepository);
+        inOrder.verify(standingRepository).applyDelta(eq(1L), eq(1L), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt());
+        inOrder.verify(standingRepository).applyDelta(eq(1L), eq(2L), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void applyResultChange_WhenRowMissing_ShouldInsertIt() {
+        // Given
+        when(standingRepository.applyDelta(anyLong(), anyLong(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(0);
+        when(tournamentRepository.getReferenceById(1L)).thenReturn(testTournament);
+        when(teamRepository.getReferenceById(1L)).thenReturn(homeTeam);
+        when(teamRepository.getReferenceById(2L)).thenReturn(awayTeam);
+
+        // When
+        standingsService.applyResultChange(null, new MatchOutcome(1L, 1L, 2L, true, 1, 0));
+
+        // Then
+        ArgumentCaptor<Standing> saved = ArgumentCaptor.forClass(Standing.class);
+        verify(standingRepository, times(2)).save(saved.capture());
+        Standing home = saved.getAllValues().get(0);
+        assertEquals(homeTeam, home.getTeam());
+        assertEquals(1, home.getWon());
+        assertEquals(StandingsService.POINTS_FOR_WIN, home.getPoints());
+        Standing away = saved.getAllValues().get(1);
+        assertEquals(1, away.getLost());
+        assertEquals(0, away.getPoints());
+    }
+}
@@ -0,0 +1,133 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.CreateMatchDTO;
+import com.tournament_football_backend.dto.StandingDTO;
+import com.tournament_football_backend.model.MatchStatus;
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import com.tournament_football_backend.model.TournamentStatus;
+import com.tournament_football_backend.repository.MatchRepository;
+import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The matches a team loses with its deletion or its withdrawal must leave the opponents' standings too
+@SpringBootTest
+@ActiveProfiles("test")
+class TeamRemovalStandingsTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private Tournament tournament;
+    private final List<Long> teamIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        tournament = new Tournament();
+        tournament.setName("Withdrawal " + suffix);
+        tournament.setStartDate(LocalDate.now().plusDays(30));
+        tournament.setEndDate(LocalDate.now().plusDays(40));
+        tournament.setMaxTeams(4);
+        tournament.setStatus(TournamentStatus.OPEN);
+        tournament = tournamentRepository.save(tournament);
+
+        for (String name : List.of("Leaving", "Opponent", "Other")) {
+            Team team = new Team();
+            team.setName(name + " " + suffix);
+            Long teamId = teamRepository.save(team).getId();
+            tournamentService.registerTeam(tournament.getId(), teamId);
+            teamIds.add(teamId);
+        }
+
+        // The leaving team beat the opponent, who then drew with the other team
+        playMatch(teamIds.get(0), teamIds.get(1), 2, 0);
+        playMatch(teamIds.get(1), teamIds.get(2), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tournamentService.deleteTournament(tournament.getId());
+        teamIds.stream()
+                .filter(teamRepository::existsById)
+                .forEach(teamService::deleteTeam);
+    }
+
+    @Test
+    void deleteTeam_WhenTeamHasPlayedMatches_ShouldReverseThemInOpponentsStandings() {
+        // When
+        teamService.deleteTeam(teamIds.get(0));
+
+        // Then
+        assertOpponentKeepsOnlyTheDraw();
+    }
+
+    @Test
+    void removeTeam_WhenTeamHasPlayedMatches_ShouldReverseThemInOpponentsStandings() {
+        // When
+        tournamentService.removeTeam(tournament.getId(), teamIds.get(0));
+
+        // Then
+        assertOpponentKeepsOnlyTheDraw();
+        assertEquals(1, matchRepository.findByTournamentId(tournament.getId()).size());
+    }
+
+    private void assertOpponentKeepsOnlyTheDraw() {
+        List<StandingDTO> standings = standingsService.getStandings(tournament.getId());
+        assertEquals(2, standings.size());
+        StandingDTO opponent = standings.stream()
+                .filter(standing -> standing.getTeamId().equals(teamIds.get(1)))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, opponent.getPlayed());
+        assertEquals(0, opponent.getLost());
+        assertEquals(1, opponent.getDrawn());
+        assertEquals(1, opponent.getGoalsFor());
+        assertEquals(1, opponent.getGoalsAgainst());
+        assertEquals(StandingsService.POINTS_FOR_DRAW, opponent.getPoints());
+    }
+
+    private void playMatch(Long homeTeamId, Long awayTeamId, int homeGoals, int awayGoals) {
+        CreateMatchDTO match = new CreateMatchDTO();
+        match.setHomeTeamId(homeTeamId);
+        match.setAwayTeamId(awayTeamId);
+        match.setTournamentId(tournament.getId());
+        match.setMatchDate(LocalDateTime.now().minusDays(1));
+        match.setHomeGoals(homeGoals);
+        match.setAwayGoals(awayGoals);
+        match.setStatus(MatchStatus.COMPLETED);
+        matchService.createMatch(match);
+    }
+}
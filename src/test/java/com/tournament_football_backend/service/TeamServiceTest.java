@@ -1,25 +1,43 @@
 package com.tournament_football_backend.service;
 
 import com.tournament_football_backend.dto.CreateTeamDTO;
+import com.tournament_football_backend.dto.HeadToHeadDTO;
+import com.tournament_football_backend.dto.HeadToHeadMatchDTO;
+import com.tournament_football_backend.dto.PageDTO;
+import com.tournament_football_backend.dto.SearchHitDTO;
 import com.tournament_football_backend.dto.TeamDTO;
+import com.tournament_football_backend.dto.TeamRecordDTO;
+import com.tournament_football_backend.dto.TeamStatsDTO;
 import com.tournament_football_backend.dto.UpdateTeamDTO;
+import com.tournament_football_backend.exception.MatchExceptions.SameTeamMatchException;
 import com.tournament_football_backend.exception.TeamExceptions.*;
 import com.tournament_football_backend.exception.UserExceptions.*;
 import com.tournament_football_backend.exception.ValidationExceptions.*;
+import com.tournament_football_backend.model.Match;
+import com.tournament_football_backend.model.MatchStatus;
 import com.tournament_football_backend.model.Role;
 import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
 import com.tournament_football_backend.model.User;
+import com.tournament_football_backend.repository.MatchRepository;
 import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
 import com.tournament_football_backend.repository.UserRepository;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +52,24 @@ class TeamServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private TeamStatsCache teamStatsCache;
+
+    @Mock
+    private StandingsService standingsService;
+
     @InjectMocks
     private TeamService teamService;
 
@@ -69,17 +105,86 @@ class TeamServiceTest {
     void getAllTeams_ShouldReturnListOfTeamDTOs() {
         // Given
         List<Team> teams = Arrays.asList(testTeam);
-        when(teamRepository.findAll()).thenReturn(teams);
+        when(teamRepository.findPageAfter(eq(0L), any(Limit.class))).thenReturn(teams);
 
         // When
-        List<TeamDTO> result = teamService.getAllTeams();
+        PageDTO<TeamDTO> result = teamService.getAllTeams(null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Test Team", result.get(0).getName());
-        assertEquals(0, result.get(0).getNumberOfPlayers());
-        verify(teamRepository).findAll();
+        assertEquals(1, result.getItems().size());
+        assertEquals("Test Team", result.getItems().get(0).getName());
+        assertEquals(0, result.getItems().get(0).getNumberOfPlayers());
+        verify(teamRepository).findPageAfter(eq(0L), any(Limit.class));
+    }
+
+    @Test
+    void getAllTeams_WhenMoreRowsThanLimit_ShouldReturnPageWithNextCursor() {
+        // Given
+        Team secondTeam = new Team();
+        secondTeam.setId(2L);
+        secondTeam.setName("Second Team");
+        secondTeam.setPlayers(new HashSet<>());
+        Team thirdTeam = new Team();
+        thirdTeam.setId(3L);
+        thirdTeam.setName("Third Team");
+        thirdTeam.setPlayers(new HashSet<>());
+        when(teamRepository.findPageAfter(0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(testTeam, secondTeam, thirdTeam));
+
+        // When
+        PageDTO<TeamDTO> result = teamService.getAllTeams(null, 2);
+
+        // Then - the look-ahead row is not returned, it only signals the next page
+        assertEquals(2, result.getItems().size());
+        assertEquals(2L, result.getNextCursor());
+    }
+
+    @Test
+    void getAllTeams_WhenLastPage_ShouldReturnNullCursor() {
+        // Given
+        when(teamRepository.findPageAfter(1L, Limit.of(3))).thenReturn(Arrays.asList(testTeam));
+
+        // When
+        PageDTO<TeamDTO> result = teamService.getAllTeams(1L, 2);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getAllTeams_WhenLimitAboveMax_ShouldCapPageSize() {
+        // Given
+        when(teamRepository.findPageAfter(0L, Limit.of(PageDTO.MAX_LIMIT + 1))).thenReturn(Collections.emptyList());
+
+        // When
+        PageDTO<TeamDTO> result = teamService.getAllTeams(null, 10_000);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        verify(teamRepository).findPageAfter(0L, Limit.of(PageDTO.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void getAllTeams_WhenLimitNotPositive_ShouldThrowInvalidParameterException() {
+        // When & Then
+        InvalidParameterException exception = assertThrows(InvalidParameterException.class,
+                () -> teamService.getAllTeams(null, 0));
+
+        assertEquals("Invalid parameter: limit", exception.getMessage());
+        assertEquals("INVALID_PARAMETER", exception.getErrorCode());
+        verifyNoInteractions(teamRepository);
+    }
+
+    @Test
+    void getAllTeams_WhenCursorNegative_ShouldThrowInvalidParameterException() {
+        // When & Then
+        InvalidParameterException exception = assertThrows(InvalidParameterException.class,
+                () -> teamService.getAllTeams(-1L, PageDTO.DEFAULT_LIMIT));
+
+        assertEquals("Invalid parameter: after", exception.getMessage());
+        verifyNoInteractions(teamRepository);
     }
 
     @Test
@@ -153,6 +258,7 @@ class TeamServiceTest {
         assertEquals(testTeam.getId(), result.getId());
         verify(teamRepository).existsByName("New Team");
         verify(teamRepository).save(any(Team.class));
+        verify(searchIndex).index(testTeam);
     }
 
     @Test
@@ -186,6 +292,8 @@ class TeamServiceTest {
         verify(teamRepository).findById(1L);
         verify(teamRepository).existsByName("Updated Team");
         verify(teamRepository).save(any(Team.class));
+        verify(searchIndex).index(testTeam);
+        verify(teamStatsCache).evict(1L);
     }
 
     @Test
@@ -265,7 +373,140 @@ class TeamServiceTest {
         // Then
         assertTrue(result);
         verify(teamRepository).existsById(1L);
+        verify(tournamentRepository).releaseRegistrationPlacesOfTeam(1L);
         verify(teamRepository).deleteById(1L);
+        verify(referenceDataCache).evictTournamentTeams();
+        verify(teamStatsCache).evictAll();
+        verify(searchIndex).remove(SearchHitDTO.Type.TEAM, 1L);
+    }
+
+    @Test
+    void deleteTeam_WhenTeamHasPlayedMatches_ShouldReverseThemInStandings() {
+        // Given
+        Team opponent = new Team();
+        opponent.setId(2L);
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        Match match = new Match();
+        match.setTournament(tournament);
+        match.setHomeTeam(opponent);
+        match.setAwayTeam(testTeam);
+        match.setHomeGoals(1);
+        match.setAwayGoals(3);
+        match.setStatus(MatchStatus.COMPLETED);
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(matchRepository.findByTeamId(1L)).thenReturn(List.of(match));
+
+        // When
+        teamService.deleteTeam(1L);
+
+        // Then
+        ArgumentCaptor<List<MatchOutcome>> reversed = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(standingsService, matchRepository, teamRepository);
+        inOrder.verify(standingsService).applyResultChanges(reversed.capture(), eq(List.of()));
+        inOrder.verify(matchRepository).deleteAll(List.of(match));
+        inOrder.verify(teamRepository).deleteById(1L);
+        MatchOutcome outcome = reversed.getValue().get(0);
+        assertEquals(2L, outcome.getHomeTeamId());
+        assertEquals(1, outcome.getHomeGoals());
+        assertEquals(3, outcome.getAwayGoals());
+    }
+
+    @Test
+    void getTeamStats_WhenTeamPlayedSeveralTournaments_ShouldSumThemAndJoinForm() {
+        // Given
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(teamStatsCache.get(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, TeamStatsDTO>>getArgument(1).apply(1L));
+        when(matchRepository.findRecordsByTeam(1L)).thenReturn(List.of(
+                new TeamRecordDTO(1L, "Serie A", 3L, 2L, 1L, 0L, 5L, 2L),
+                new TeamRecordDTO(2L, "Coppa Italia", 2L, 0L, 0L, 2L, 1L, 4L)));
+        when(matchRepository.findFormByTeam(1L)).thenReturn(List.of("L", "L", "W", "D", "W"));
+
+        // When
+        TeamStatsDTO stats = teamService.getTeamStats(1L);
+
+        // Then
+        assertEquals("Test Team", stats.getTeamName());
+        assertEquals("LLWDW", stats.getForm());
+        assertEquals(2, stats.getTournaments().size());
+        TeamRecordDTO overall = stats.getOverall();
+        assertNull(overall.getTournamentId());
+        assertEquals(5, overall.getPlayed());
+        assertEquals(2, overall.getWon());
+        assertEquals(1, overall.getDrawn());
+        assertEquals(2, overall.getLost());
+        assertEquals(6, overall.getGoalsFor());
+        assertEquals(6, overall.getGoalsAgainst());
+    }
+
+    @Test
+    void getTeamStats_WhenCached_ShouldNotQueryMatches() {
+        // Given
+        TeamStatsDTO cached = new TeamStatsDTO(1L, "Test Team", "W", new TeamRecordDTO(), List.of());
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(teamStatsCache.get(eq(1L), any())).thenReturn(cached);
+
+        // When
+        TeamStatsDTO stats = teamService.getTeamStats(1L);
+
+        // Then
+        assertSame(cached, stats);
+        verifyNoInteractions(matchRepository);
+    }
+
+    @Test
+    void getTeamStats_WhenTeamNotExists_ShouldThrowTeamNotFoundException() {
+        // Given
+        when(teamRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TeamNotFoundException.class, () -> teamService.getTeamStats(1L));
+        verifyNoInteractions(teamStatsCache, matchRepository);
+    }
+
+    @Test
+    void getHeadToHead_WhenNotCached_ShouldAggregateBothDirectionsInTheDatabase() {
+        // Given
+        Team opponent = new Team();
+        opponent.setId(2L);
+        opponent.setName("Opponent");
+        TeamRecordDTO record = new TeamRecordDTO(3L, 1L, 1L, 1L, 4L, 4L);
+        List<HeadToHeadMatchDTO> meetings = List.of(
+                new HeadToHeadMatchDTO(7L, 1L, "Serie A", LocalDateTime.of(2025, 3, 1, 15, 0), 2L, 2, 0));
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.findById(2L)).thenReturn(Optional.of(opponent));
+        when(teamStatsCache.getHeadToHead(eq(1L), eq(2L), any())).thenAnswer(invocation ->
+                invocation.<BiFunction<Long, Long, HeadToHeadDTO>>getArgument(2).apply(1L, 2L));
+        when(matchRepository.findHeadToHeadRecord(1L, 2L)).thenReturn(record);
+        when(matchRepository.findLastMeetings(1L, 2L)).thenReturn(meetings);
+
+        // When
+        HeadToHeadDTO headToHead = teamService.getHeadToHead(1L, 2L);
+
+        // Then
+        assertEquals("Test Team", headToHead.getTeamName());
+        assertEquals("Opponent", headToHead.getOpponentName());
+        assertSame(record, headToHead.getOverall());
+        assertEquals(meetings, headToHead.getLastMeetings());
+    }
+
+    @Test
+    void getHeadToHead_WhenSameTeam_ShouldThrowSameTeamMatchException() {
+        // When & Then
+        assertThrows(SameTeamMatchException.class, () -> teamService.getHeadToHead(1L, 1L));
+        verifyNoInteractions(teamRepository, teamStatsCache, matchRepository);
+    }
+
+    @Test
+    void getHeadToHead_WhenOpponentNotExists_ShouldThrowTeamNotFoundException() {
+        // Given
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TeamNotFoundException.class, () -> teamService.getHeadToHead(1L, 2L));
+        verifyNoInteractions(teamStatsCache, matchRepository);
     }
 
     @Test
@@ -281,29 +522,104 @@ class TeamServiceTest {
         assertEquals("TEAM_NOT_FOUND", exception.getErrorCode());
         verify(teamRepository).existsById(1L);
         verify(teamRepository, never()).deleteById(any());
+        verify(referenceDataCache, never()).evictTournamentTeams();
     }
 
     @Test
-    void addPlayer_WhenValidData_ShouldReturnTrue() {
+    void getTeamTag_WhenExists_ShouldBuildTagFromVersions() {
         // Given
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.of(testTeam));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(teamRepository.findVersionTagById(1L)).thenReturn(Optional.of("3.7"));
+
+        // When
+        Optional<String> tag = teamService.getTeamTag(1L);
+
+        // Then
+        assertEquals(Optional.of("W/\"team-1-3.7\""), tag);
+    }
+
+    @Test
+    void updateTeam_WhenIfMatchIsCurrent_ShouldUpdate() {
+        // Given
+        when(teamRepository.findVersionTagById(1L)).thenReturn(Optional.of("3.7"));
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.existsByName("Updated Team")).thenReturn(false);
         when(teamRepository.save(any(Team.class))).thenReturn(testTeam);
 
         // When
-        boolean result = teamService.addPlayer(1L, 1L);
+        Optional<TeamDTO> result = teamService.updateTeam(1L, updateTeamDTO, "\"team-1-2.7\", \"team-1-3.7\"");
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(teamRepository).save(any(Team.class));
+    }
+
+    @Test
+    void updateTeam_WhenIfMatchIsStale_ShouldThrowPreconditionFailedException() {
+        // Given
+        when(teamRepository.findVersionTagById(1L)).thenReturn(Optional.of("4.7"));
+
+        // When & Then
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> teamService.updateTeam(1L, updateTeamDTO, "\"team-1-3.7\""));
+
+        assertEquals("PRECONDITION_FAILED", exception.getErrorCode());
+        verify(teamRepository, never()).findById(any());
+        verify(teamRepository, never()).save(any(Team.class));
+    }
+
+    @Test
+    void updateTeam_WhenIfMatchIsWeakTagOfGet_ShouldUpdate() {
+        // Given
+        when(teamRepository.findVersionTagById(1L)).thenReturn(Optional.of("3.7"));
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.existsByName("Updated Team")).thenReturn(false);
+        when(teamRepository.save(any(Team.class))).thenReturn(testTeam);
+
+        // When - the ETag of a GET sent back unchanged
+        Optional<TeamDTO> result = teamService.updateTeam(1L, updateTeamDTO, teamService.getTeamTag(1L).orElseThrow());
+
+        // Then
+        assertTrue(result.isPresent());
+        verify(teamRepository).save(any(Team.class));
+    }
+
+    @Test
+    void deleteTeam_WhenIfMatchIsWildcard_ShouldNotReadTag() {
+        // Given
+        when(teamRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        boolean result = teamService.deleteTeam(1L, "*");
 
         // Then
         assertTrue(result);
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository).findById(1L);
-        verify(teamRepository).save(testTeam);
+        verify(teamRepository, never()).findVersionTagById(any());
+        verify(teamRepository).deleteById(1L);
+    }
+
+    @Test
+    void addPlayer_WhenValidData_ShouldReturnTrue() {
+        // Given
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(teamRepository.insertPlayer(1L, 1L)).thenReturn(1);
+
+        // When
+        boolean result = teamService.addPlayer(1L, 1L);
+
+        // Then - the roster is written without being loaded
+        assertTrue(result);
+        verify(teamRepository).insertPlayer(1L, 1L);
+        verify(teamRepository).incrementVersion(1L);
+        verify(referenceDataCache).evictTeam(1L);
+        verify(teamRepository, never()).findByIdWithPlayers(any());
+        verify(teamRepository, never()).save(any());
     }
 
     @Test
     void addPlayer_WhenTeamNotExists_ShouldThrowTeamNotFoundException() {
         // Given
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(1L)).thenReturn(false);
 
         // When & Then
         TeamNotFoundException exception = assertThrows(TeamNotFoundException.class,
@@ -311,16 +627,15 @@ class TeamServiceTest {
 
         assertEquals("Team not found", exception.getMessage());
         assertEquals("TEAM_NOT_FOUND", exception.getErrorCode());
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository, never()).findById(any());
-        verify(teamRepository, never()).save(any());
+        verify(userRepository, never()).existsById(any());
+        verify(teamRepository, never()).insertPlayer(any(), any());
     }
 
     @Test
     void addPlayer_WhenUserNotExists_ShouldThrowUserNotFoundException() {
         // Given
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.of(testTeam));
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(1L)).thenReturn(false);
 
         // When & Then
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
@@ -328,17 +643,15 @@ class TeamServiceTest {
 
         assertEquals("User not found", exception.getMessage());
         assertEquals("USER_NOT_FOUND", exception.getErrorCode());
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository).findById(1L);
-        verify(teamRepository, never()).save(any());
+        verify(teamRepository, never()).insertPlayer(any(), any());
     }
 
     @Test
     void addPlayer_WhenPlayerAlreadyInTeam_ShouldThrowPlayerAlreadyInTeamException() {
         // Given
-        testTeam.getPlayers().add(testUser);
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.of(testTeam));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(teamRepository.insertPlayer(1L, 1L)).thenReturn(0);
 
         // When & Then
         PlayerAlreadyInTeamException exception = assertThrows(PlayerAlreadyInTeamException.class,
@@ -346,34 +659,31 @@ class TeamServiceTest {
 
         assertEquals("Player already in team", exception.getMessage());
         assertEquals("PLAYER_ALREADY_IN_TEAM", exception.getErrorCode());
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository).findById(1L);
-        verify(teamRepository, never()).save(any());
+        verify(teamRepository, never()).incrementVersion(any());
     }
 
     @Test
     void removePlayer_WhenValidData_ShouldReturnTrue() {
         // Given
-        testTeam.getPlayers().add(testUser);
-        testUser.getTeams().add(testTeam);
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.of(testTeam));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(teamRepository.save(any(Team.class))).thenReturn(testTeam);
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(teamRepository.deletePlayer(1L, 1L)).thenReturn(1);
 
         // When
         boolean result = teamService.removePlayer(1L, 1L);
 
         // Then
         assertTrue(result);
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository).findById(1L);
-        verify(teamRepository).save(testTeam);
+        verify(teamRepository).deletePlayer(1L, 1L);
+        verify(teamRepository).incrementVersion(1L);
+        verify(referenceDataCache).evictTeam(1L);
+        verify(teamRepository, never()).findByIdWithPlayers(any());
     }
 
     @Test
     void removePlayer_WhenTeamNotExists_ShouldThrowTeamNotFoundException() {
         // Given
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(1L)).thenReturn(false);
 
         // When & Then
         TeamNotFoundException exception = assertThrows(TeamNotFoundException.class,
@@ -381,16 +691,15 @@ class TeamServiceTest {
 
         assertEquals("Team not found", exception.getMessage());
         assertEquals("TEAM_NOT_FOUND", exception.getErrorCode());
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository, never()).findById(any());
-        verify(teamRepository, never()).save(any());
+        verify(userRepository, never()).existsById(any());
+        verify(teamRepository, never()).deletePlayer(any(), any());
     }
 
     @Test
     void removePlayer_WhenUserNotExists_ShouldThrowUserNotFoundException() {
         // Given
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.of(testTeam));
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(1L)).thenReturn(false);
 
         // When & Then
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
@@ -398,16 +707,15 @@ class TeamServiceTest {
 
         assertEquals("User not found", exception.getMessage());
         assertEquals("USER_NOT_FOUND", exception.getErrorCode());
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository).findById(1L);
-        verify(teamRepository, never()).save(any());
+        verify(teamRepository, never()).deletePlayer(any(), any());
     }
 
     @Test
     void removePlayer_WhenPlayerNotInTeam_ShouldThrowPlayerNotInTeamException() {
         // Given
-        when(teamRepository.findByIdWithPlayers(1L)).thenReturn(Optional.of(testTeam));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(teamRepository.deletePlayer(1L, 1L)).thenReturn(0);
 
         // When & Then
         PlayerNotInTeamException exception = assertThrows(PlayerNotInTeamException.class,
@@ -415,9 +723,79 @@ class TeamServiceTest {
 
         assertEquals("Player not in team", exception.getMessage());
         assertEquals("PLAYER_NOT_IN_TEAM", exception.getErrorCode());
-        verify(teamRepository).findByIdWithPlayers(1L);
-        verify(userRepository).findById(1L);
-        verify(teamRepository, never()).save(any());
+        verify(teamRepository, never()).incrementVersion(any());
+    }
+
+    @Test
+    void addPlayers_WhenValidData_ShouldInsertInOneStatement() {
+        // Given - a repeated id counts once
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.countByIdIn(Set.of(1L, 2L, 3L))).thenReturn(3L);
+        when(teamRepository.insertPlayers(1L, Set.of(1L, 2L, 3L))).thenReturn(2);
+
+        // When
+        int added = teamService.addPlayers(1L, List.of(1L, 2L, 3L, 2L));
+
+        // Then
+        assertEquals(2, added);
+        verify(teamRepository).insertPlayers(1L, Set.of(1L, 2L, 3L));
+        verify(teamRepository).incrementVersion(1L);
+        verify(referenceDataCache).evictTeam(1L);
+        verify(teamRepository, never()).insertPlayer(any(), any());
+    }
+
+    @Test
+    void addPlayers_WhenAllAlreadyInTeam_ShouldKeepVersion() {
+        // Given
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.countByIdIn(Set.of(1L))).thenReturn(1L);
+        when(teamRepository.insertPlayers(1L, Set.of(1L))).thenReturn(0);
+
+        // When
+        int added = teamService.addPlayers(1L, List.of(1L));
+
+        // Then
+        assertEquals(0, added);
+        verify(teamRepository, never()).incrementVersion(any());
+    }
+
+    @Test
+    void addPlayers_WhenAUserNotExists_ShouldThrowUserNotFoundException() {
+        // Given
+        when(teamRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.countByIdIn(Set.of(1L, 99L))).thenReturn(1L);
+
+        // When & Then - none of them is added
+        assertThrows(UserNotFoundException.class, () -> teamService.addPlayers(1L, List.of(1L, 99L)));
+        verify(teamRepository, never()).insertPlayers(any(), any());
+    }
+
+    @Test
+    void addPlayers_WhenTeamNotExists_ShouldThrowTeamNotFoundException() {
+        // Given
+        when(teamRepository.existsById(1L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(TeamNotFoundException.class, () -> teamService.addPlayers(1L, List.of(1L)));
+        verify(teamRepository, never()).insertPlayers(any(), any());
+    }
+
+    @Test
+    void addPlayers_WhenListEmptyTooLargeOrWithNull_ShouldThrowInvalidParameterException() {
+        // Given
+        List<Long> tooLarge = new ArrayList<>();
+        for (long id = 1; id <= TeamService.MAX_PLAYER_BATCH_SIZE + 1; id++) {
+            tooLarge.add(id);
+        }
+        List<Long> withNull = Arrays.asList(1L, null);
+
+        // When & Then
+        assertThrows(InvalidParameterException.class, () -> teamService.addPlayers(1L, List.of()));
+        assertThrows(InvalidParameterException.class, () -> teamService.addPlayers(1L, null));
+        assertThrows(InvalidParameterException.class, () -> teamService.addPlayers(1L, tooLarge));
+        assertThrows(InvalidParameterException.class, () -> teamService.addPlayers(1L, withNull));
+        verifyNoInteractions(userRepository);
+        verify(teamRepository, never()).insertPlayers(any(), any());
     }
 
     @Test
@@ -456,56 +834,73 @@ class TeamServiceTest {
     @Test
     void searchTeams_WhenValidKeyword_ShouldReturnTeamsList() {
         // Given
-        when(teamRepository.findByNameContaining("Test")).thenReturn(Arrays.asList(testTeam));
+        when(searchIndex.findIds(SearchHitDTO.Type.TEAM, "Test", 0L, PageDTO.DEFAULT_LIMIT + 1)).thenReturn(List.of(1L));
+        when(teamRepository.findAllById(List.of(1L))).thenReturn(Arrays.asList(testTeam));
 
         // When
-        List<TeamDTO> result = teamService.searchTeams("Test");
+        PageDTO<TeamDTO> result = teamService.searchTeams("Test", null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Test Team", result.get(0).getName());
-        assertEquals(testTeam.getId(), result.get(0).getId());
-        verify(teamRepository).findByNameContaining("Test");
+        assertEquals(1, result.getItems().size());
+        assertEquals("Test Team", result.getItems().get(0).getName());
+        assertEquals(testTeam.getId(), result.getItems().get(0).getId());
+        verify(searchIndex).findIds(SearchHitDTO.Type.TEAM, "Test", 0L, PageDTO.DEFAULT_LIMIT + 1);
+    }
+
+    @Test
+    void searchTeams_WhenIndexedTeamIsGone_ShouldKeepTheNextCursor() {
+        // Given - team 2 was deleted after the index returned it
+        when(searchIndex.findIds(SearchHitDTO.Type.TEAM, "Test", 0L, 3)).thenReturn(List.of(1L, 2L, 3L));
+        when(teamRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(testTeam));
+
+        // When
+        PageDTO<TeamDTO> result = teamService.searchTeams("Test", null, 2);
+
+        // Then - a short page, but the listing goes on after the missing team
+        assertEquals(1, result.getItems().size());
+        assertEquals(2L, result.getNextCursor());
+        verify(teamRepository, never()).findAllById(List.of(1L, 2L, 3L));
     }
 
     @Test
     void searchTeams_WhenEmptyKeyword_ShouldThrowEmptySearchKeywordException() {
         // When & Then
         EmptySearchKeywordException exception1 = assertThrows(EmptySearchKeywordException.class,
-                () -> teamService.searchTeams(""));
+                () -> teamService.searchTeams("", null, PageDTO.DEFAULT_LIMIT));
         EmptySearchKeywordException exception2 = assertThrows(EmptySearchKeywordException.class,
-                () -> teamService.searchTeams("   "));
+                () -> teamService.searchTeams("   ", null, PageDTO.DEFAULT_LIMIT));
 
         assertEquals("Search keyword cannot be empty", exception1.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception1.getErrorCode());
         assertEquals("Search keyword cannot be empty", exception2.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception2.getErrorCode());
-        verify(teamRepository, never()).findByNameContaining(any());
+        verify(searchIndex, never()).findIds(any(), any(), anyLong(), anyInt());
     }
 
     @Test
     void searchTeams_WhenNullKeyword_ShouldThrowEmptySearchKeywordException() {
         // When & Then
         EmptySearchKeywordException exception = assertThrows(EmptySearchKeywordException.class,
-                () -> teamService.searchTeams(null));
+                () -> teamService.searchTeams(null, null, PageDTO.DEFAULT_LIMIT));
 
         assertEquals("Search keyword cannot be empty", exception.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception.getErrorCode());
-        verify(teamRepository, never()).findByNameContaining(any());
+        verify(searchIndex, never()).findIds(any(), any(), anyLong(), anyInt());
     }
 
     @Test
     void searchTeams_WhenNoResults_ShouldReturnEmptyList() {
         // Given
-        when(teamRepository.findByNameContaining("NonExistent")).thenReturn(Collections.emptyList());
+        when(searchIndex.findIds(SearchHitDTO.Type.TEAM, "NonExistent", 0L, PageDTO.DEFAULT_LIMIT + 1)).thenReturn(Collections.emptyList());
 
         // When
-        List<TeamDTO> result = teamService.searchTeams("NonExistent");
+        PageDTO<TeamDTO> result = teamService.searchTeams("NonExistent", null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(teamRepository).findByNameContaining("NonExistent");
+        assertTrue(result.getItems().isEmpty());
+        verify(searchIndex).findIds(SearchHitDTO.Type.TEAM, "NonExistent", 0L, PageDTO.DEFAULT_LIMIT + 1);
+        verify(teamRepository, never()).findAllById(any());
     }
 }
\ No newline at end of file
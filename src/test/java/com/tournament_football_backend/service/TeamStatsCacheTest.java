@@ -0,0 +1,143 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.dto.HeadToHeadDTO;
+import com.tournament_football_backend.dto.TeamRecordDTO;
+import com.tournament_football_backend.dto.TeamStatsDTO;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamStatsCacheTest {
+
+    private TeamStatsCache teamStatsCache;
+    private AtomicInteger loads;
+    private Function<Long, TeamStatsDTO> loader;
+    private BiFunction<Long, Long, HeadToHeadDTO> headToHeadLoader;
+
+    @BeforeEach
+    void setUp() {
+        teamStatsCache = new TeamStatsCache();
+        ReflectionTestUtils.setField(teamStatsCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(teamStatsCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(teamStatsCache, "headToHeadMaxSize", 100L);
+        teamStatsCache.init();
+
+        loads = new AtomicInteger();
+        loader = teamId -> {
+            loads.incrementAndGet();
+            return new TeamStatsDTO(teamId, "Team " + teamId, "", new TeamRecordDTO(), List.of());
+        };
+        headToHeadLoader = (teamId, opponentId) -> {
+            loads.incrementAndGet();
+            return new HeadToHeadDTO(teamId, "Team " + teamId, opponentId, "Team " + opponentId,
+                    new TeamRecordDTO(), List.of());
+        };
+    }
+
+    @Test
+    void get_WhenCalledTwice_ShouldLoadOnce() {
+        // When
+        TeamStatsDTO first = teamStatsCache.get(1L, loader);
+        TeamStatsDTO second = teamStatsCache.get(1L, loader);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evict_WhenCompletedResultChanged_ShouldDropBothTeams() {
+        // Given
+        teamStatsCache.get(1L, loader);
+        teamStatsCache.get(2L, loader);
+        teamStatsCache.get(3L, loader);
+
+        // When
+        teamStatsCache.evict(new MatchOutcome(1L, 1L, 2L, true, 2, 0));
+        teamStatsCache.get(1L, loader);
+        teamStatsCache.get(2L, loader);
+        teamStatsCache.get(3L, loader);
+
+        // Then - team 3 still cached
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void evict_WhenCompletedResultChanged_ShouldDropHeadToHeadOfThePairOnly() {
+        // Given
+        teamStatsCache.getHeadToHead(1L, 2L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(2L, 1L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(1L, 3L, headToHeadLoader);
+
+        // When
+        teamStatsCache.evict(new MatchOutcome(1L, 2L, 1L, true, 1, 1));
+        teamStatsCache.getHeadToHead(1L, 2L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(2L, 1L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(1L, 3L, headToHeadLoader);
+
+        // Then - both directions reloaded, 1 vs 3 still cached
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void evict_WhenTeamRenamed_ShouldDropEveryHeadToHeadOfTheTeam() {
+        // Given
+        teamStatsCache.getHeadToHead(1L, 2L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(3L, 1L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(2L, 3L, headToHeadLoader);
+
+        // When
+        teamStatsCache.evict(1L);
+        teamStatsCache.getHeadToHead(1L, 2L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(3L, 1L, headToHeadLoader);
+        teamStatsCache.getHeadToHead(2L, 3L, headToHeadLoader);
+
+        // Then
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void evict_WhenMatchNotCompleted_ShouldKeepStatistics() {
+        // Given
+        teamStatsCache.get(1L, loader);
+
+        // When
+        teamStatsCache.evict(new MatchOutcome(1L, 1L, 2L, false, 0, 0));
+        teamStatsCache.evict((MatchOutcome) null);
+        teamStatsCache.get(1L, loader);
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evict_InsideTransaction_ShouldEvictAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Given
+            teamStatsCache.get(1L, loader);
+
+            // When - evicted, then recomputed from the old rows before the commit
+            teamStatsCache.evict(1L);
+            teamStatsCache.get(1L, loader);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            teamStatsCache.get(1L, loader);
+
+            // Then
+            assertEquals(3, loads.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.exception.TournamentExceptions.TournamentFullException;
+import com.tournament_football_backend.model.Team;
+import com.tournament_football_backend.model.Tournament;
+import com.tournament_football_backend.model.TournamentStatus;
+import com.tournament_football_backend.repository.TeamRepository;
+import com.tournament_football_backend.repository.TournamentRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Registrations racing on the embedded database: the counter must let exactly maxTeams of them through,
+// and each one must leave the other cached tournaments alone
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentRegistrationConcurrencyTest {
+
+    private static final int MAX_TEAMS = 8;
+    private static final int CLUBS = 40;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Tournament tournament;
+    private final List<Long> teamIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        tournament = new Tournament();
+        tournament.setName("Race " + suffix);
+        tournament.setStartDate(LocalDate.now().plusDays(30));
+        tournament.setEndDate(LocalDate.now().plusDays(40));
+        tournament.setMaxTeams(MAX_TEAMS);
+        tournament.setStatus(TournamentStatus.OPEN);
+        tournament = tournamentRepository.save(tournament);
+
+        for (int i = 0; i < CLUBS; i++) {
+            Team team = new Team();
+            team.setName("Club " + i + " " + suffix);
+            teamIds.add(teamRepository.save(team).getId());
+        }
+    }
+
+    // Through the services, whose transactions may load the collections the deletes cascade to
+    @AfterEach
+    void tearDown() {
+        tournamentService.deleteTournament(tournament.getId());
+        teamIds.forEach(teamService::deleteTeam);
+    }
+
+    @Test
+    void registerTeam_WhenClubsRegisterAtOnce_ShouldAdmitExactlyMaxTeams() throws Exception {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> registrations = teamIds.stream()
+                .<Callable<Boolean>>map(teamId -> () -> {
+                    start.await();
+                    try {
+                        return tournamentService.registerTeam(tournament.getId(), teamId);
+                    } catch (TournamentFullException e) {
+                        return false;
+                    }
+                })
+                .toList();
+
+        // When
+        int admitted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(CLUBS)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            registrations.forEach(registration -> results.add(executor.submit(registration)));
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    admitted++;
+                }
+            }
+        }
+
+        // Then
+        Long id = tournament.getId();
+        assertEquals(MAX_TEAMS, admitted);
+        assertEquals(MAX_TEAMS, jdbcTemplate.queryForObject(
+                "SELECT registered_teams FROM tournaments WHERE id = ?", Integer.class, id));
+        assertEquals(MAX_TEAMS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tournament_teams WHERE tournament_id = ?", Integer.class, id));
+        assertEquals(MAX_TEAMS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM standings WHERE tournament_id = ?", Integer.class, id));
+    }
+
+    @Test
+    void registerTeam_WhenSameTeamRegistersTwiceAtOnce_ShouldTakeOnePlace() throws Exception {
+        // Given
+        Long teamId = teamIds.get(0);
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<Boolean> registration = () -> {
+            start.await();
+            try {
+                return tournamentService.registerTeam(tournament.getId(), teamId);
+            } catch (RuntimeException e) {
+                return false;
+            }
+        };
+
+        // When
+        int admitted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Boolean> first = executor.submit(registration);
+            Future<Boolean> second = executor.submit(registration);
+            start.countDown();
+            admitted += first.get() ? 1 : 0;
+            admitted += second.get() ? 1 : 0;
+        }
+
+        // Then - the place taken by the loser is rolled back with it
+        assertEquals(1, admitted);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT registered_teams FROM tournaments WHERE id = ?", Integer.class, tournament.getId()));
+    }
+
+    @Test
+    void registerTeam_ShouldEvictOnlyThatTournamentFromSecondLevelCache() {
+        // Given - both tournaments cached
+        Tournament other = new Tournament();
+        other.setName("Bystander " + UUID.randomUUID().toString().substring(0, 8));
+        other.setStartDate(LocalDate.now().plusDays(30));
+        other.setEndDate(LocalDate.now().plusDays(40));
+        other.setMaxTeams(MAX_TEAMS);
+        other = tournamentRepository.save(other);
+        Cache cache = entityManagerFactory.getCache();
+        try {
+            tournamentRepository.findById(tournament.getId());
+            tournamentRepository.findById(other.getId());
+            assertTrue(cache.contains(Tournament.class, other.getId()));
+
+            // When
+            tournamentService.registerTeam(tournament.getId(), teamIds.get(0));
+
+            // Then
+            assertFalse(cache.contains(Tournament.class, tournament.getId()));
+            assertTrue(cache.contains(Tournament.class, other.getId()));
+            assertEquals(1, tournamentRepository.findById(tournament.getId()).orElseThrow().getRegisteredTeams());
+        } finally {
+            tournamentService.deleteTournament(other.getId());
+        }
+    }
+}
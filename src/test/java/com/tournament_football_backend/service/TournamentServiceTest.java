@@ -1,22 +1,31 @@
 package com.tournament_football_backend.service;
 
 import com.tournament_football_backend.dto.CreateTournamentDTO;
+import com.tournament_football_backend.dto.PageDTO;
+import com.tournament_football_backend.dto.SearchHitDTO;
 import com.tournament_football_backend.dto.TournamentDTO;
 import com.tournament_football_backend.dto.UpdateTournamentDTO;
 import com.tournament_football_backend.exception.TeamExceptions.*;
 import com.tournament_football_backend.exception.TournamentExceptions.*;
 import com.tournament_football_backend.exception.ValidationExceptions.*;
+import com.tournament_football_backend.model.Match;
+import com.tournament_football_backend.model.MatchStatus;
 import com.tournament_football_backend.model.Team;
 import com.tournament_football_backend.model.Tournament;
 import com.tournament_football_backend.model.TournamentStatus;
+import com.tournament_football_backend.repository.MatchRepository;
 import com.tournament_football_backend.repository.TeamRepository;
 import com.tournament_football_backend.repository.TournamentRepository;
+import com.tournament_football_backend.repository.TournamentRepository.ParticipatingTeamView;
+import com.tournament_football_backend.service.StandingsService.MatchOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,6 +44,21 @@ class TournamentServiceTest {
     @Mock
     private TeamRepository teamRepository;
 
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private StandingsService standingsService;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private TeamStatsCache teamStatsCache;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private TournamentService tournamentService;
 
@@ -77,23 +101,64 @@ class TournamentServiceTest {
     @Test
     void getAllTournaments_ShouldReturnTournamentsList() {
         // Given
-        when(tournamentRepository.findAll()).thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesAfter(eq(0L), any(Limit.class))).thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.getAllTournaments();
+        PageDTO<TournamentDTO> result = tournamentService.getAllTournaments(null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Test Tournament", result.get(0).getName());
-        assertEquals(TournamentStatus.OPEN, result.get(0).getStatus());
-        verify(tournamentRepository).findAll();
+        assertEquals(1, result.getItems().size());
+        assertEquals("Test Tournament", result.getItems().get(0).getName());
+        assertEquals(TournamentStatus.OPEN, result.getItems().get(0).getStatus());
+        verify(tournamentRepository).findSummariesAfter(eq(0L), any(Limit.class));
+        verify(tournamentRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllTournaments_ShouldAttachParticipatingTeamsWithOneQuery() {
+        // Given
+        Tournament otherTournament = new Tournament();
+        otherTournament.setId(2L);
+        otherTournament.setName("Other Tournament");
+        otherTournament.setStatus(TournamentStatus.OPEN);
+        when(tournamentRepository.findSummariesAfter(eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament), summaryOf(otherTournament)));
+        when(tournamentRepository.findParticipatingTeams(anyCollection()))
+                .thenReturn(Arrays.asList(participatingTeam(2L, 1L, "Test Team", 11)));
+
+        // When
+        PageDTO<TournamentDTO> result = tournamentService.getAllTournaments(null, PageDTO.DEFAULT_LIMIT);
+
+        // Then
+        assertNull(result.getItems().get(0).getParticipatingTeams());
+        assertEquals(1, result.getItems().get(1).getParticipatingTeams().size());
+        assertEquals(11, result.getItems().get(1).getParticipatingTeams().iterator().next().getNumberOfPlayers());
+        verify(tournamentRepository, times(1)).findParticipatingTeams(anyCollection());
+    }
+
+    @Test
+    void getAllTournaments_WhenMoreRowsThanLimit_ShouldLoadTeamsOfReturnedPageOnly() {
+        // Given
+        Tournament otherTournament = new Tournament();
+        otherTournament.setId(2L);
+        otherTournament.setName("Other Tournament");
+        when(tournamentRepository.findSummariesAfter(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament), summaryOf(otherTournament)));
+
+        // When
+        PageDTO<TournamentDTO> result = tournamentService.getAllTournaments(null, 1);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getNextCursor());
+        verify(tournamentRepository).findParticipatingTeams(Set.of(1L));
     }
 
     @Test
     void getTournamentById_WhenTournamentExists_ShouldReturnTournamentDTO() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findSummaryById(1L)).thenReturn(Optional.of(summaryOf(testTournament)));
 
         // When
         Optional<TournamentDTO> result = tournamentService.getTournamentById(1L);
@@ -103,20 +168,20 @@ class TournamentServiceTest {
         assertEquals("Test Tournament", result.get().getName());
         assertEquals(TournamentStatus.OPEN, result.get().getStatus());
         assertEquals(testTournament.getId(), result.get().getId());
-        verify(tournamentRepository).findByIdWithTeams(1L);
+        verify(tournamentRepository).findSummaryById(1L);
     }
 
     @Test
     void getTournamentById_WhenTournamentNotExists_ShouldReturnEmpty() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.empty());
+        when(tournamentRepository.findSummaryById(1L)).thenReturn(Optional.empty());
 
         // When
         Optional<TournamentDTO> result = tournamentService.getTournamentById(1L);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(tournamentRepository).findByIdWithTeams(1L);
+        verify(tournamentRepository).findSummaryById(1L);
     }
 
     @Test
@@ -132,6 +197,7 @@ class TournamentServiceTest {
         assertEquals("Test Tournament", result.getName());
         assertEquals(testTournament.getId(), result.getId());
         verify(tournamentRepository).save(any(Tournament.class));
+        verify(searchIndex).index(testTournament);
     }
 
     @Test
@@ -201,6 +267,33 @@ class TournamentServiceTest {
         assertEquals(testTournament.getId(), result.get().getId());
         verify(tournamentRepository).findById(1L);
         verify(tournamentRepository).save(any(Tournament.class));
+        verify(searchIndex).index(testTournament);
+        verify(teamStatsCache).evictAll();
+    }
+
+    @Test
+    void updateTournament_WhenIfMatchIsStale_ShouldThrowPreconditionFailedException() {
+        // Given - a team registered since the client read the tournament
+        when(tournamentRepository.findVersionTagById(1L)).thenReturn(Optional.of("5.12"));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> tournamentService.updateTournament(1L, updateTournamentDTO, "\"tournament-1-4.12\""));
+        verify(tournamentRepository, never()).save(any(Tournament.class));
+    }
+
+    @Test
+    void updateTournament_WhenTournamentNotExists_ShouldIgnoreIfMatchAndReturnEmpty() {
+        // Given
+        when(tournamentRepository.findVersionTagById(1L)).thenReturn(Optional.empty());
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<TournamentDTO> result = tournamentService.updateTournament(1L, updateTournamentDTO,
+                "\"tournament-1-4.12\"");
+
+        // Then
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -262,6 +355,8 @@ class TournamentServiceTest {
         assertTrue(result);
         verify(tournamentRepository).existsById(1L);
         verify(tournamentRepository).deleteById(1L);
+        verify(teamStatsCache).evictAll();
+        verify(searchIndex).remove(SearchHitDTO.Type.TOURNAMENT, 1L);
     }
 
     @Test
@@ -282,24 +377,28 @@ class TournamentServiceTest {
     @Test
     void registerTeam_WhenValidData_ShouldReturnTrue() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
-        when(tournamentRepository.save(any(Tournament.class))).thenReturn(testTournament);
+        when(tournamentRepository.takeRegistrationPlace(1L)).thenReturn(1);
+        when(tournamentRepository.insertTeam(1L, 1L)).thenReturn(1);
 
         // When
         boolean result = tournamentService.registerTeam(1L, 1L);
 
         // Then
         assertTrue(result);
-        verify(tournamentRepository).findByIdWithTeams(1L);
-        verify(teamRepository).findById(1L);
-        verify(tournamentRepository).save(testTournament);
+        verify(tournamentRepository).takeRegistrationPlace(1L);
+        verify(referenceDataCache).evictTournament(1L);
+        verify(tournamentRepository).insertTeam(1L, 1L);
+        verify(tournamentRepository, never()).findByIdWithTeams(any());
+        verify(tournamentRepository, never()).save(any());
+        verify(standingsService).addTeam(1L, 1L);
     }
 
     @Test
     void registerTeam_WhenTournamentNotExists_ShouldThrowTournamentNotFoundException() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.empty());
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         TournamentNotFoundException exception = assertThrows(TournamentNotFoundException.class,
@@ -307,15 +406,14 @@ class TournamentServiceTest {
 
         assertEquals("Tournament not found", exception.getMessage());
         assertEquals("TOURNAMENT_NOT_FOUND", exception.getErrorCode());
-        verify(tournamentRepository).findByIdWithTeams(1L);
         verify(teamRepository, never()).findById(any());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).takeRegistrationPlace(any());
     }
 
     @Test
     void registerTeam_WhenTeamNotExists_ShouldThrowTeamNotFoundException() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -324,16 +422,15 @@ class TournamentServiceTest {
 
         assertEquals("Team not found", exception.getMessage());
         assertEquals("TEAM_NOT_FOUND", exception.getErrorCode());
-        verify(tournamentRepository).findByIdWithTeams(1L);
         verify(teamRepository).findById(1L);
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).takeRegistrationPlace(any());
     }
 
     @Test
     void registerTeam_WhenTournamentNotOpen_ShouldThrowTournamentNotOpenException() {
         // Given
         testTournament.setStatus(TournamentStatus.IN_PROGRESS);
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
         // When & Then
@@ -342,14 +439,14 @@ class TournamentServiceTest {
 
         assertEquals("Tournament is not open for registration", exception.getMessage());
         assertEquals("TOURNAMENT_NOT_OPEN", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).takeRegistrationPlace(any());
     }
 
     @Test
     void registerTeam_WhenTournamentCompleted_ShouldThrowTournamentNotOpenException() {
         // Given
         testTournament.setStatus(TournamentStatus.COMPLETED);
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
         // When & Then
@@ -358,14 +455,14 @@ class TournamentServiceTest {
 
         assertEquals("Tournament is not open for registration", exception.getMessage());
         assertEquals("TOURNAMENT_NOT_OPEN", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).takeRegistrationPlace(any());
     }
 
     @Test
     void registerTeam_WhenTournamentCancelled_ShouldThrowTournamentNotOpenException() {
         // Given
         testTournament.setStatus(TournamentStatus.CANCELLED);
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
         // When & Then
@@ -374,14 +471,14 @@ class TournamentServiceTest {
 
         assertEquals("Tournament is not open for registration", exception.getMessage());
         assertEquals("TOURNAMENT_NOT_OPEN", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).takeRegistrationPlace(any());
     }
 
     @Test
     void registerTeam_WhenTournamentScheduled_ShouldThrowTournamentNotOpenException() {
         // Given
         testTournament.setStatus(TournamentStatus.SCHEDULED);
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
 
         // When & Then
@@ -390,22 +487,15 @@ class TournamentServiceTest {
 
         assertEquals("Tournament is not open for registration", exception.getMessage());
         assertEquals("TOURNAMENT_NOT_OPEN", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).takeRegistrationPlace(any());
     }
 
     @Test
     void registerTeam_WhenTournamentFull_ShouldThrowTournamentFullException() {
-        // Given
-        // Fill tournament to maximum capacity
-        for (int i = 0; i < testTournament.getMaxTeams(); i++) {
-            Team team = new Team();
-            team.setId((long) (i + 2)); // Start from ID 2
-            team.setName("Team " + (i + 2));
-            testTournament.getParticipatingTeams().add(team);
-        }
-
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        // Given - no place left for the conditional update
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(tournamentRepository.takeRegistrationPlace(1L)).thenReturn(0);
 
         // When & Then
         TournamentFullException exception = assertThrows(TournamentFullException.class,
@@ -413,15 +503,17 @@ class TournamentServiceTest {
 
         assertEquals("Tournament has reached maximum number of teams", exception.getMessage());
         assertEquals("TOURNAMENT_FULL", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).insertTeam(any(), any());
+        verify(standingsService, never()).addTeam(any(), any());
     }
 
     @Test
     void registerTeam_WhenTeamAlreadyInTournament_ShouldThrowTeamAlreadyInTournamentException() {
-        // Given
-        testTournament.getParticipatingTeams().add(testTeam);
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        // Given - the primary key of tournament_teams ignores the second row
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(tournamentRepository.takeRegistrationPlace(1L)).thenReturn(1);
+        when(tournamentRepository.insertTeam(1L, 1L)).thenReturn(0);
 
         // When & Then
         TeamAlreadyInTournamentException exception = assertThrows(TeamAlreadyInTournamentException.class,
@@ -429,31 +521,62 @@ class TournamentServiceTest {
 
         assertEquals("Team is already registered in tournament", exception.getMessage());
         assertEquals("TEAM_ALREADY_IN_TOURNAMENT", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(standingsService, never()).addTeam(any(), any());
     }
 
     @Test
     void removeTeam_WhenValidData_ShouldReturnTrue() {
         // Given
-        testTournament.getParticipatingTeams().add(testTeam);
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
-        when(tournamentRepository.save(any(Tournament.class))).thenReturn(testTournament);
+        when(tournamentRepository.deleteTeam(1L, 1L)).thenReturn(1);
 
         // When
         boolean result = tournamentService.removeTeam(1L, 1L);
 
         // Then
         assertTrue(result);
-        verify(tournamentRepository).findByIdWithTeams(1L);
-        verify(teamRepository).findById(1L);
-        verify(tournamentRepository).save(testTournament);
+        verify(tournamentRepository).deleteTeam(1L, 1L);
+        verify(tournamentRepository).releaseRegistrationPlace(1L);
+        verify(referenceDataCache).evictTournament(1L);
+        verify(standingsService).removeTeam(1L, 1L);
+    }
+
+    @Test
+    void removeTeam_WhenTeamHasMatches_ShouldReverseAndDeleteThem() {
+        // Given
+        Team opponent = new Team();
+        opponent.setId(2L);
+        Match match = new Match();
+        match.setTournament(testTournament);
+        match.setHomeTeam(testTeam);
+        match.setAwayTeam(opponent);
+        match.setHomeGoals(2);
+        match.setAwayGoals(0);
+        match.setStatus(MatchStatus.COMPLETED);
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
+        when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(tournamentRepository.deleteTeam(1L, 1L)).thenReturn(1);
+        when(matchRepository.findByTournamentIdAndTeamId(1L, 1L)).thenReturn(List.of(match));
+
+        // When
+        tournamentService.removeTeam(1L, 1L);
+
+        // Then
+        ArgumentCaptor<List<MatchOutcome>> reversed = ArgumentCaptor.forClass(List.class);
+        verify(standingsService).applyResultChanges(reversed.capture(), eq(List.of()));
+        MatchOutcome outcome = reversed.getValue().get(0);
+        assertEquals(2L, outcome.getAwayTeamId());
+        assertTrue(outcome.isCompleted());
+        assertEquals(2, outcome.getHomeGoals());
+        verify(matchRepository).deleteAll(List.of(match));
+        verify(standingsService).removeTeam(1L, 1L);
     }
 
     @Test
     void removeTeam_WhenTournamentNotExists_ShouldThrowTournamentNotFoundException() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.empty());
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         TournamentNotFoundException exception = assertThrows(TournamentNotFoundException.class,
@@ -462,13 +585,13 @@ class TournamentServiceTest {
         assertEquals("Tournament not found", exception.getMessage());
         assertEquals("TOURNAMENT_NOT_FOUND", exception.getErrorCode());
         verify(teamRepository, never()).findById(any());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).deleteTeam(any(), any());
     }
 
     @Test
     void removeTeam_WhenTeamNotExists_ShouldThrowTeamNotFoundException() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
@@ -477,14 +600,15 @@ class TournamentServiceTest {
 
         assertEquals("Team not found", exception.getMessage());
         assertEquals("TEAM_NOT_FOUND", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).deleteTeam(any(), any());
     }
 
     @Test
     void removeTeam_WhenTeamNotInTournament_ShouldThrowTeamNotInTournamentException() {
         // Given
-        when(tournamentRepository.findByIdWithTeams(1L)).thenReturn(Optional.of(testTournament));
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(testTournament));
         when(teamRepository.findById(1L)).thenReturn(Optional.of(testTeam));
+        when(tournamentRepository.deleteTeam(1L, 1L)).thenReturn(0);
 
         // When & Then
         TeamNotInTournamentException exception = assertThrows(TeamNotInTournamentException.class,
@@ -492,113 +616,114 @@ class TournamentServiceTest {
 
         assertEquals("Team is not registered in tournament", exception.getMessage());
         assertEquals("TEAM_NOT_IN_TOURNAMENT", exception.getErrorCode());
-        verify(tournamentRepository, never()).save(any());
+        verify(tournamentRepository, never()).releaseRegistrationPlace(any());
+        verify(standingsService, never()).removeTeam(any(), any());
     }
 
     @Test
     void getTournamentsByStatus_WhenOpen_ShouldReturnFilteredList() {
         // Given
-        when(tournamentRepository.findByStatus(TournamentStatus.OPEN))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByStatusAfter(eq(TournamentStatus.OPEN), eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.OPEN);
+        PageDTO<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.OPEN, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(TournamentStatus.OPEN, result.get(0).getStatus());
-        verify(tournamentRepository).findByStatus(TournamentStatus.OPEN);
+        assertEquals(1, result.getItems().size());
+        assertEquals(TournamentStatus.OPEN, result.getItems().get(0).getStatus());
+        verify(tournamentRepository).findSummariesByStatusAfter(eq(TournamentStatus.OPEN), eq(0L), any(Limit.class));
     }
 
     @Test
     void getTournamentsByStatus_WhenInProgress_ShouldReturnFilteredList() {
         // Given
         testTournament.setStatus(TournamentStatus.IN_PROGRESS);
-        when(tournamentRepository.findByStatus(TournamentStatus.IN_PROGRESS))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByStatusAfter(eq(TournamentStatus.IN_PROGRESS), eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.IN_PROGRESS);
+        PageDTO<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.IN_PROGRESS, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(TournamentStatus.IN_PROGRESS, result.get(0).getStatus());
-        verify(tournamentRepository).findByStatus(TournamentStatus.IN_PROGRESS);
+        assertEquals(1, result.getItems().size());
+        assertEquals(TournamentStatus.IN_PROGRESS, result.getItems().get(0).getStatus());
+        verify(tournamentRepository).findSummariesByStatusAfter(eq(TournamentStatus.IN_PROGRESS), eq(0L), any(Limit.class));
     }
 
     @Test
     void getTournamentsByStatus_WhenCompleted_ShouldReturnFilteredList() {
         // Given
         testTournament.setStatus(TournamentStatus.COMPLETED);
-        when(tournamentRepository.findByStatus(TournamentStatus.COMPLETED))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByStatusAfter(eq(TournamentStatus.COMPLETED), eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.COMPLETED);
+        PageDTO<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.COMPLETED, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(TournamentStatus.COMPLETED, result.get(0).getStatus());
-        verify(tournamentRepository).findByStatus(TournamentStatus.COMPLETED);
+        assertEquals(1, result.getItems().size());
+        assertEquals(TournamentStatus.COMPLETED, result.getItems().get(0).getStatus());
+        verify(tournamentRepository).findSummariesByStatusAfter(eq(TournamentStatus.COMPLETED), eq(0L), any(Limit.class));
     }
 
     @Test
     void getTournamentsByStatus_WhenCancelled_ShouldReturnFilteredList() {
         // Given
         testTournament.setStatus(TournamentStatus.CANCELLED);
-        when(tournamentRepository.findByStatus(TournamentStatus.CANCELLED))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByStatusAfter(eq(TournamentStatus.CANCELLED), eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.CANCELLED);
+        PageDTO<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.CANCELLED, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(TournamentStatus.CANCELLED, result.get(0).getStatus());
-        verify(tournamentRepository).findByStatus(TournamentStatus.CANCELLED);
+        assertEquals(1, result.getItems().size());
+        assertEquals(TournamentStatus.CANCELLED, result.getItems().get(0).getStatus());
+        verify(tournamentRepository).findSummariesByStatusAfter(eq(TournamentStatus.CANCELLED), eq(0L), any(Limit.class));
     }
 
     @Test
     void getTournamentsByStatus_WhenScheduled_ShouldReturnFilteredList() {
         // Given
         testTournament.setStatus(TournamentStatus.SCHEDULED);
-        when(tournamentRepository.findByStatus(TournamentStatus.SCHEDULED))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByStatusAfter(eq(TournamentStatus.SCHEDULED), eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.SCHEDULED);
+        PageDTO<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.SCHEDULED, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(TournamentStatus.SCHEDULED, result.get(0).getStatus());
-        verify(tournamentRepository).findByStatus(TournamentStatus.SCHEDULED);
+        assertEquals(1, result.getItems().size());
+        assertEquals(TournamentStatus.SCHEDULED, result.getItems().get(0).getStatus());
+        verify(tournamentRepository).findSummariesByStatusAfter(eq(TournamentStatus.SCHEDULED), eq(0L), any(Limit.class));
     }
 
     @Test
     void getTournamentsByStatus_WhenNoTournamentsFound_ShouldReturnEmptyList() {
         // Given
-        when(tournamentRepository.findByStatus(TournamentStatus.OPEN))
+        when(tournamentRepository.findSummariesByStatusAfter(eq(TournamentStatus.OPEN), eq(0L), any(Limit.class)))
                 .thenReturn(Collections.emptyList());
 
         // When
-        List<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.OPEN);
+        PageDTO<TournamentDTO> result = tournamentService.getTournamentsByStatus(TournamentStatus.OPEN, null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(tournamentRepository).findByStatus(TournamentStatus.OPEN);
+        assertTrue(result.getItems().isEmpty());
+        verify(tournamentRepository).findSummariesByStatusAfter(eq(TournamentStatus.OPEN), eq(0L), any(Limit.class));
     }
 
     @Test
     void getUpcomingTournaments_ShouldReturnFutureTournaments() {
         // Given
-        when(tournamentRepository.findByStartDateAfter(any(LocalDate.class)))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByStartDateAfter(any(LocalDate.class)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
         List<TournamentDTO> result = tournamentService.getUpcomingTournaments();
@@ -607,15 +732,15 @@ class TournamentServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertTrue(result.get(0).getStartDate().isAfter(LocalDate.now()));
-        verify(tournamentRepository).findByStartDateAfter(any(LocalDate.class));
+        verify(tournamentRepository).findSummariesByStartDateAfter(any(LocalDate.class));
     }
 
     @Test
     void getTournamentsByTeam_WhenTeamExists_ShouldReturnTournamentsList() {
         // Given
         when(teamRepository.existsById(1L)).thenReturn(true);
-        when(tournamentRepository.findByParticipatingTeamId(1L))
-                .thenReturn(Arrays.asList(testTournament));
+        when(tournamentRepository.findSummariesByParticipatingTeamId(1L))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
         List<TournamentDTO> result = tournamentService.getTournamentsByTeam(1L);
@@ -625,7 +750,7 @@ class TournamentServiceTest {
         assertEquals(1, result.size());
         assertEquals(testTournament.getId(), result.get(0).getId());
         verify(teamRepository).existsById(1L);
-        verify(tournamentRepository).findByParticipatingTeamId(1L);
+        verify(tournamentRepository).findSummariesByParticipatingTeamId(1L);
     }
 
     @Test
@@ -640,64 +765,98 @@ class TournamentServiceTest {
         assertEquals("Team not found", exception.getMessage());
         assertEquals("TEAM_NOT_FOUND", exception.getErrorCode());
         verify(teamRepository).existsById(1L);
-        verify(tournamentRepository, never()).findByParticipatingTeamId(any());
+        verify(tournamentRepository, never()).findSummariesByParticipatingTeamId(any());
     }
 
     @Test
     void searchTournaments_WhenValidKeyword_ShouldReturnTournamentsList() {
         // Given
-        when(tournamentRepository.findByNameContaining("Test"))
-                .thenReturn(Arrays.asList(testTournament));
+        when(searchIndex.findIds(SearchHitDTO.Type.TOURNAMENT, "Test", 0L, PageDTO.DEFAULT_LIMIT + 1)).thenReturn(List.of(1L));
+        when(tournamentRepository.findSummariesByIdIn(List.of(1L)))
+                .thenReturn(Arrays.asList(summaryOf(testTournament)));
 
         // When
-        List<TournamentDTO> result = tournamentService.searchTournaments("Test");
+        PageDTO<TournamentDTO> result = tournamentService.searchTournaments("Test", null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Test Tournament", result.get(0).getName());
-        assertEquals(testTournament.getId(), result.get(0).getId());
-        verify(tournamentRepository).findByNameContaining("Test");
+        assertEquals(1, result.getItems().size());
+        assertEquals("Test Tournament", result.getItems().get(0).getName());
+        assertEquals(testTournament.getId(), result.getItems().get(0).getId());
+        verify(searchIndex).findIds(SearchHitDTO.Type.TOURNAMENT, "Test", 0L, PageDTO.DEFAULT_LIMIT + 1);
+    }
+
+    @Test
+    void searchTournaments_WhenIndexedTournamentIsGone_ShouldKeepTheNextCursor() {
+        // Given - tournament 2 was deleted after the index returned it
+        when(searchIndex.findIds(SearchHitDTO.Type.TOURNAMENT, "Test", 0L, 3)).thenReturn(List.of(1L, 2L, 3L));
+        when(tournamentRepository.findSummariesByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(summaryOf(testTournament)));
+
+        // When
+        PageDTO<TournamentDTO> result = tournamentService.searchTournaments("Test", null, 2);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertEquals(2L, result.getNextCursor());
     }
 
     @Test
     void searchTournaments_WhenEmptyKeyword_ShouldThrowEmptySearchKeywordException() {
         // When & Then
         EmptySearchKeywordException exception1 = assertThrows(EmptySearchKeywordException.class,
-                () -> tournamentService.searchTournaments(""));
+                () -> tournamentService.searchTournaments("", null, PageDTO.DEFAULT_LIMIT));
         EmptySearchKeywordException exception2 = assertThrows(EmptySearchKeywordException.class,
-                () -> tournamentService.searchTournaments("   "));
+                () -> tournamentService.searchTournaments("   ", null, PageDTO.DEFAULT_LIMIT));
 
         assertEquals("Search keyword cannot be empty", exception1.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception1.getErrorCode());
         assertEquals("Search keyword cannot be empty", exception2.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception2.getErrorCode());
-        verify(tournamentRepository, never()).findByNameContaining(any());
+        verify(searchIndex, never()).findIds(any(), any(), anyLong(), anyInt());
     }
 
     @Test
     void searchTournaments_WhenNullKeyword_ShouldThrowEmptySearchKeywordException() {
         // When & Then
         EmptySearchKeywordException exception = assertThrows(EmptySearchKeywordException.class,
-                () -> tournamentService.searchTournaments(null));
+                () -> tournamentService.searchTournaments(null, null, PageDTO.DEFAULT_LIMIT));
 
         assertEquals("Search keyword cannot be empty", exception.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception.getErrorCode());
-        verify(tournamentRepository, never()).findByNameContaining(any());
+        verify(searchIndex, never()).findIds(any(), any(), anyLong(), anyInt());
     }
 
     @Test
     void searchTournaments_WhenNoResults_ShouldReturnEmptyList() {
         // Given
-        when(tournamentRepository.findByNameContaining("NonExistent"))
+        when(searchIndex.findIds(SearchHitDTO.Type.TOURNAMENT, "NonExistent", 0L, PageDTO.DEFAULT_LIMIT + 1))
                 .thenReturn(Collections.emptyList());
 
         // When
-        List<TournamentDTO> result = tournamentService.searchTournaments("NonExistent");
+        PageDTO<TournamentDTO> result = tournamentService.searchTournaments("NonExistent", null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(tournamentRepository).findByNameContaining("NonExistent");
+        assertTrue(result.getItems().isEmpty());
+        verify(searchIndex).findIds(SearchHitDTO.Type.TOURNAMENT, "NonExistent", 0L, PageDTO.DEFAULT_LIMIT + 1);
+        verify(tournamentRepository, never()).findSummariesByIdIn(any());
+    }
+
+    // Mirrors the constructor projection used by the repository read queries
+    private TournamentDTO summaryOf(Tournament tournament) {
+        return new TournamentDTO(tournament.getId(), tournament.getName(), tournament.getDescription(),
+                tournament.getStartDate(), tournament.getEndDate(), tournament.getMaxTeams(),
+                tournament.getStatus(), tournament.getCreatedAt(),
+                tournament.getParticipatingTeams() != null ? tournament.getParticipatingTeams().size() : 0);
+    }
+
+    private ParticipatingTeamView participatingTeam(Long tournamentId, Long teamId, String name, int numberOfPlayers) {
+        return new ParticipatingTeamView() {
+            @Override public Long getTournamentId() { return tournamentId; }
+            @Override public Long getId() { return teamId; }
+            @Override public String getName() { return name; }
+            @Override public int getNumberOfPlayers() { return numberOfPlayers; }
+        };
     }
 }
\ No newline at end of file
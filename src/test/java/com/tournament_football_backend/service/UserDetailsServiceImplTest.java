@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -124,6 +125,37 @@ class UserDetailsServiceImplTest {
         verify(userRepository).findByUsername("");
     }
 
+    @Test
+    void updatePassword_WhenHashUpgraded_ShouldStoreItAndReturnPrincipalWithIt() {
+        // Given
+        when(userRepository.updatePasswordIfUnchanged("testuser", "encodedPassword", "{bcrypt}newHash"))
+                .thenReturn(1);
+
+        // When
+        UserDetails result = userDetailsService.updatePassword(UserPrincipal.build(testUser), "{bcrypt}newHash");
+
+        // Then - written over the verified hash only, without loading the user
+        verify(userRepository).updatePasswordIfUnchanged("testuser", "encodedPassword", "{bcrypt}newHash");
+        verify(userRepository, never()).findByUsername(any());
+        assertEquals("{bcrypt}newHash", result.getPassword());
+        assertEquals("testuser", result.getUsername());
+        assertEquals(1L, ((UserPrincipal) result).getId());
+    }
+
+    @Test
+    void updatePassword_WhenConcurrentLoginRehashedFirst_ShouldNotFail() {
+        // Given - the stored hash is no longer the one this login verified
+        when(userRepository.updatePasswordIfUnchanged("testuser", "encodedPassword", "{bcrypt}newHash"))
+                .thenReturn(0);
+
+        // When
+        UserDetails result = assertDoesNotThrow(
+                () -> userDetailsService.updatePassword(UserPrincipal.build(testUser), "{bcrypt}newHash"));
+
+        // Then
+        assertEquals("testuser", result.getUsername());
+    }
+
     @Test
     void userPrincipalBuild_WithValidUser_ShouldReturnCorrectUserPrincipal() {
         // When
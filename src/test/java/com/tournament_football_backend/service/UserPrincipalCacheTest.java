@@ -0,0 +1,144 @@
+package com.tournament_football_backend.service;
+
+import com.tournament_football_backend.model.Role;
+import com.tournament_football_backend.model.User;
+import com.tournament_football_backend.repository.UserRepository;
+import com.tournament_football_backend.service.UserDetailsServiceImpl.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserPrincipalCache userPrincipalCache;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userPrincipalCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(userPrincipalCache, "maxSize", 100L);
+        userPrincipalCache.init();
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        testUser.setEmail("test@example.com");
+        testUser.setPassword("encodedPassword");
+        testUser.setRole(Role.ROLE_USER);
+    }
+
+    @Test
+    void getById_WhenCalledTwice_ShouldQueryDatabaseOnce() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // When
+        UserPrincipal first = userPrincipalCache.getById(1L);
+        UserPrincipal second = userPrincipalCache.getById(1L);
+
+        // Then
+        assertSame(first, second);
+        assertEquals("testuser", first.getUsername());
+        assertEquals("ROLE_USER", first.getAuthorities().get(0).getAuthority());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getById_ShouldNotKeepPasswordHash() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // When
+        UserPrincipal principal = userPrincipalCache.getById(1L);
+
+        // Then
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    void getById_WhenUserNotExists_ShouldReturnNullAndNotCacheIt() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When
+        UserPrincipal first = userPrincipalCache.getById(1L);
+        UserPrincipal second = userPrincipalCache.getById(1L);
+
+        // Then
+        assertNull(first);
+        assertNull(second);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getById_WhenTtlElapsed_ShouldReloadUser() {
+        // Given - a zero window expires every entry as soon as it is written
+        ReflectionTestUtils.setField(userPrincipalCache, "ttl", Duration.ZERO);
+        userPrincipalCache.init();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // When
+        userPrincipalCache.getById(1L);
+        userPrincipalCache.getById(1L);
+
+        // Then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void evict_ShouldReloadRoleChange() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        userPrincipalCache.getById(1L);
+        testUser.setRole(Role.ROLE_ADMIN);
+
+        // When
+        userPrincipalCache.evict(1L);
+        UserPrincipal principal = userPrincipalCache.getById(1L);
+
+        // Then
+        assertEquals("ROLE_ADMIN", principal.getAuthorities().get(0).getAuthority());
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void evict_WhenInTransaction_ShouldEvictAgainAfterCommit() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userPrincipalCache.evict(1L);
+
+            // A concurrent request reloads the row before the transaction commits
+            userPrincipalCache.getById(1L);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userPrincipalCache.getById(1L);
+
+        // Then
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
@@ -1,6 +1,8 @@
 package com.tournament_football_backend.service;
 
+import com.tournament_football_backend.dto.PageDTO;
 import com.tournament_football_backend.dto.ProfileDTO;
+import com.tournament_football_backend.dto.SearchHitDTO;
 import com.tournament_football_backend.dto.UpdateUserDTO;
 import com.tournament_football_backend.dto.UserDTO;
 import com.tournament_football_backend.exception.UserExceptions.*;
@@ -15,7 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,7 +34,10 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private SearchIndex searchIndex;
 
     @InjectMocks
     private UserService userService;
@@ -85,17 +90,17 @@ class UserServiceTest {
     @Test
     void getAllUsers_ShouldReturnUsersList() {
         // Given
-        when(userRepository.findAll()).thenReturn(Arrays.asList(testUser));
+        when(userRepository.findPageAfter(eq(0L), any(Limit.class))).thenReturn(Arrays.asList(testUser));
 
         // When
-        List<UserDTO> result = userService.getAllUsers();
+        PageDTO<UserDTO> result = userService.getAllUsers(null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("testuser", result.get(0).getUsername());
-        assertEquals("test@example.com", result.get(0).getEmail());
-        verify(userRepository).findAll();
+        assertEquals(1, result.getItems().size());
+        assertEquals("testuser", result.getItems().get(0).getUsername());
+        assertEquals("test@example.com", result.getItems().get(0).getEmail());
+        verify(userRepository).findPageAfter(eq(0L), any(Limit.class));
     }
 
     @Test
@@ -160,11 +165,10 @@ class UserServiceTest {
         // Given
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
-        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
-        UserDTO result = userService.createUser(testUserDTO, "password");
+        UserDTO result = userService.createUser(testUserDTO, "encodedPassword");
 
         // Then
         assertNotNull(result);
@@ -173,8 +177,8 @@ class UserServiceTest {
         assertEquals(Role.ROLE_USER, result.getRole());
         verify(userRepository).existsByUsername("testuser");
         verify(userRepository).existsByEmail("test@example.com");
-        verify(passwordEncoder).encode("password");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat(user -> "encodedPassword".equals(user.getPassword())));
+        verify(searchIndex).index(testUser);
     }
 
     @Test
@@ -183,11 +187,10 @@ class UserServiceTest {
         testUserDTO.setRole(null);
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
-        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
-        UserDTO result = userService.createUser(testUserDTO, "password");
+        UserDTO result = userService.createUser(testUserDTO, "encodedPassword");
 
         // Then
         assertNotNull(result);
@@ -201,7 +204,7 @@ class UserServiceTest {
 
         // When & Then
         UsernameAlreadyExistsException exception = assertThrows(UsernameAlreadyExistsException.class,
-                () -> userService.createUser(testUserDTO, "password"));
+                () -> userService.createUser(testUserDTO, "encodedPassword"));
 
         assertEquals("Username already exists", exception.getMessage());
         assertEquals("USERNAME_ALREADY_EXISTS", exception.getErrorCode());
@@ -218,7 +221,7 @@ class UserServiceTest {
 
         // When & Then
         EmailAlreadyExistsException exception = assertThrows(EmailAlreadyExistsException.class,
-                () -> userService.createUser(testUserDTO, "password"));
+                () -> userService.createUser(testUserDTO, "encodedPassword"));
 
         assertEquals("Email already exists", exception.getMessage());
         assertEquals("EMAIL_ALREADY_EXISTS", exception.getErrorCode());
@@ -245,6 +248,20 @@ class UserServiceTest {
         verify(userRepository).existsByUsername("updateduser");
         verify(userRepository).existsByEmail("updated@example.com");
         verify(userRepository).save(any(User.class));
+        verify(userPrincipalCache).evict(1L);
+        verify(searchIndex).index(testUser);
+    }
+
+    @Test
+    void updateUser_WhenIfMatchIsStale_ShouldThrowPreconditionFailedException() {
+        // Given
+        when(userRepository.findVersionTagById(1L)).thenReturn(Optional.of("2"));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> userService.updateUser(1L, updateUserDTO, "\"user-1-1\""));
+        verify(userRepository, never()).save(any(User.class));
+        verify(userPrincipalCache, never()).evict(any());
     }
 
     @Test
@@ -316,6 +333,7 @@ class UserServiceTest {
         verify(userRepository).findById(1L);
         verify(userRepository).existsByUsername("updateduser");
         verify(userRepository, never()).save(any(User.class));
+        verify(userPrincipalCache, never()).evict(any());
     }
 
     @Test
@@ -356,6 +374,7 @@ class UserServiceTest {
         verify(userRepository, never()).existsByUsername(any());
         verify(userRepository, never()).existsByEmail(any());
         verify(userRepository).save(any(User.class));
+        verify(userPrincipalCache).evict(1L);
     }
 
     @Test
@@ -370,6 +389,8 @@ class UserServiceTest {
         assertTrue(result);
         verify(userRepository).existsById(1L);
         verify(userRepository).deleteById(1L);
+        verify(userPrincipalCache).evict(1L);
+        verify(searchIndex).remove(SearchHitDTO.Type.USER, 1L);
     }
 
     @Test
@@ -385,13 +406,14 @@ class UserServiceTest {
         assertEquals("USER_NOT_FOUND", exception.getErrorCode());
         verify(userRepository).existsById(1L);
         verify(userRepository, never()).deleteById(any());
+        verify(userPrincipalCache, never()).evict(any());
     }
 
     @Test
     void updateProfile_WhenUserExistsWithExistingProfile_ShouldUpdateProfile() {
         // Given
         testUser.setProfile(testProfile);
-        when(userRepository.findByIdWithProfile(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findByIdForProfileUpdate(1L)).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
@@ -400,7 +422,7 @@ class UserServiceTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals(testUser.getId(), result.get().getId());
-        verify(userRepository).findByIdWithProfile(1L);
+        verify(userRepository).findByIdForProfileUpdate(1L);
         verify(userRepository).save(testUser);
     }
 
@@ -408,7 +430,7 @@ class UserServiceTest {
     void updateProfile_WhenUserExistsWithoutProfile_ShouldCreateNewProfile() {
         // Given
         testUser.setProfile(null);
-        when(userRepository.findByIdWithProfile(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findByIdForProfileUpdate(1L)).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
@@ -416,21 +438,21 @@ class UserServiceTest {
 
         // Then
         assertTrue(result.isPresent());
-        verify(userRepository).findByIdWithProfile(1L);
+        verify(userRepository).findByIdForProfileUpdate(1L);
         verify(userRepository).save(testUser);
     }
 
     @Test
     void updateProfile_WhenUserNotExists_ShouldReturnEmpty() {
         // Given
-        when(userRepository.findByIdWithProfile(1L)).thenReturn(Optional.empty());
+        when(userRepository.findByIdForProfileUpdate(1L)).thenReturn(Optional.empty());
 
         // When
         Optional<UserDTO> result = userService.updateProfile(1L, profileDTO);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(userRepository).findByIdWithProfile(1L);
+        verify(userRepository).findByIdForProfileUpdate(1L);
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -442,7 +464,7 @@ class UserServiceTest {
         // Other fields are null
 
         testUser.setProfile(testProfile);
-        when(userRepository.findByIdWithProfile(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findByIdForProfileUpdate(1L)).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
@@ -450,66 +472,82 @@ class UserServiceTest {
 
         // Then
         assertTrue(result.isPresent());
-        verify(userRepository).findByIdWithProfile(1L);
+        verify(userRepository).findByIdForProfileUpdate(1L);
         verify(userRepository).save(testUser);
     }
 
     @Test
     void searchUsers_WhenValidKeyword_ShouldReturnUsersList() {
         // Given
-        when(userRepository.findByUsernameContainingOrEmailContaining("test"))
+        when(searchIndex.findIds(SearchHitDTO.Type.USER, "test", 0L, PageDTO.DEFAULT_LIMIT + 1)).thenReturn(List.of(1L));
+        when(userRepository.findAllById(List.of(1L)))
                 .thenReturn(Arrays.asList(testUser));
 
         // When
-        List<UserDTO> result = userService.searchUsers("test");
+        PageDTO<UserDTO> result = userService.searchUsers("test", null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("testuser", result.get(0).getUsername());
-        assertEquals("test@example.com", result.get(0).getEmail());
-        verify(userRepository).findByUsernameContainingOrEmailContaining("test");
+        assertEquals(1, result.getItems().size());
+        assertEquals("testuser", result.getItems().get(0).getUsername());
+        assertEquals("test@example.com", result.getItems().get(0).getEmail());
+        verify(searchIndex).findIds(SearchHitDTO.Type.USER, "test", 0L, PageDTO.DEFAULT_LIMIT + 1);
+    }
+
+    @Test
+    void searchUsers_WhenIndexedUserIsGone_ShouldKeepTheNextCursor() {
+        // Given - user 2 was deleted after the index returned it
+        when(searchIndex.findIds(SearchHitDTO.Type.USER, "test", 0L, 3)).thenReturn(List.of(1L, 2L, 3L));
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(testUser));
+
+        // When
+        PageDTO<UserDTO> result = userService.searchUsers("test", null, 2);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertEquals(2L, result.getNextCursor());
     }
 
     @Test
     void searchUsers_WhenEmptyKeyword_ShouldThrowEmptySearchKeywordException() {
         // When & Then
         EmptySearchKeywordException exception1 = assertThrows(EmptySearchKeywordException.class,
-                () -> userService.searchUsers(""));
+                () -> userService.searchUsers("", null, PageDTO.DEFAULT_LIMIT));
         EmptySearchKeywordException exception2 = assertThrows(EmptySearchKeywordException.class,
-                () -> userService.searchUsers("   "));
+                () -> userService.searchUsers("   ", null, PageDTO.DEFAULT_LIMIT));
 
         assertEquals("Search keyword cannot be empty", exception1.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception1.getErrorCode());
         assertEquals("Search keyword cannot be empty", exception2.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception2.getErrorCode());
-        verify(userRepository, never()).findByUsernameContainingOrEmailContaining(any());
+        verify(searchIndex, never()).findIds(any(), any(), anyLong(), anyInt());
     }
 
     @Test
     void searchUsers_WhenNullKeyword_ShouldThrowEmptySearchKeywordException() {
         // When & Then
         EmptySearchKeywordException exception = assertThrows(EmptySearchKeywordException.class,
-                () -> userService.searchUsers(null));
+                () -> userService.searchUsers(null, null, PageDTO.DEFAULT_LIMIT));
 
         assertEquals("Search keyword cannot be empty", exception.getMessage());
         assertEquals("EMPTY_SEARCH_KEYWORD", exception.getErrorCode());
-        verify(userRepository, never()).findByUsernameContainingOrEmailContaining(any());
+        verify(searchIndex, never()).findIds(any(), any(), anyLong(), anyInt());
     }
 
     @Test
     void searchUsers_WhenNoResults_ShouldReturnEmptyList() {
         // Given
-        when(userRepository.findByUsernameContainingOrEmailContaining("nonexistent"))
+        when(searchIndex.findIds(SearchHitDTO.Type.USER, "nonexistent", 0L, PageDTO.DEFAULT_LIMIT + 1))
                 .thenReturn(Collections.emptyList());
 
         // When
-        List<UserDTO> result = userService.searchUsers("nonexistent");
+        PageDTO<UserDTO> result = userService.searchUsers("nonexistent", null, PageDTO.DEFAULT_LIMIT);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(userRepository).findByUsernameContainingOrEmailContaining("nonexistent");
+        assertTrue(result.getItems().isEmpty());
+        verify(searchIndex).findIds(SearchHitDTO.Type.USER, "nonexistent", 0L, PageDTO.DEFAULT_LIMIT + 1);
+        verify(userRepository, never()).findAllById(any());
     }
 
     @Test